@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.configuration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.syson.sysml.helper.LibrarySnapshot;
+
+/**
+ * Generates the snapshot of the KerML/SysML standard libraries at build time: the libraries are loaded from their
+ * JSON files and resolved, then written with {@link LibrarySnapshot} in the file given as argument, along with their
+ * global names and their symbol table. The snapshot is read at SysON start by
+ * {@link SysMLStandardLibrariesConfiguration}.
+ *
+ * @author arichard
+ */
+public final class StandardLibrariesSnapshotGenerator {
+
+    private StandardLibrariesSnapshotGenerator() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path snapshotPath = Path.of(args[0]);
+        SysMLStandardLibrariesConfiguration standardLibraries = new SysMLStandardLibrariesConfiguration(false);
+        Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(snapshotPath)) {
+            standardLibraries.writeSnapshot(outputStream);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.configuration;
+
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.validation.SysmlEValidator;
+import org.eclipse.syson.sysml.validation.ValidationEngine;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registers the {@link SysmlEValidator} of the SysML package in the global EMF validator registry, so that the EMF
+ * validation of the SysML elements reports the diagnostics of the {@link ValidationEngine} of their resource set. The
+ * validator is unregistered when the application context is closed.
+ *
+ * @author arichard
+ */
+@Service
+public class SysMLEValidatorInitializer implements InitializingBean, DisposableBean {
+
+    private final SysmlEValidator validator = new SysmlEValidator();
+
+    @Override
+    public void afterPropertiesSet() {
+        EValidator.Registry.INSTANCE.put(SysmlPackage.eINSTANCE, this.validator);
+    }
+
+    @Override
+    public void destroy() {
+        EValidator.Registry.INSTANCE.remove(SysmlPackage.eINSTANCE, this.validator);
+    }
+}
@@ -15,26 +15,23 @@ package org.eclipse.syson.application.configuration;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
-import java.util.Optional;
 
-import org.eclipse.emf.common.util.EList;
-import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
-import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
-import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
+import org.eclipse.syson.sysml.validation.ValidationEngine;
 import org.eclipse.syson.util.SysONEContentAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 /**
- * {@link IEditingContextProcessor} for SysML libraries. All SysML standard libraries should be loaded when a project
- * (i.e. an editing context) is loaded.
+ * {@link IEditingContextProcessor} for SysML libraries. All SysML standard libraries should be available when a
+ * project (i.e. an editing context) is loaded. They are registered in the resource set of each editing context from a
+ * snapshot loaded once (see {@link SharedLibraries}), each library being only read when it is first accessed by the
+ * editing context. The well-formedness of the models of the project is checked by a {@link ValidationEngine} of its
+ * resource set.
  *
  * @author arichard
  */
@@ -53,31 +50,13 @@ public class SysMLEditingContextProcessor implements IEditingContextProcessor {
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof IEMFEditingContext siriusWebEditingContext) {
             siriusWebEditingContext.getDomain().getResourceSet().eAdapters().add(new SysONEContentAdapter());
+            siriusWebEditingContext.getDomain().getResourceSet().eAdapters().add(ValidationEngine.createDefault());
 
             Instant start = Instant.now();
-            ResourceSet sourceResourceSet = this.standardLibraries.getLibrariesResourceSet();
-            ResourceSet targetResourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            sourceResourceSet.getResources().forEach(sourceResource -> {
-                Resource targetResource = targetResourceSet.getResource(sourceResource.getURI(), false);
-                if (targetResource == null) {
-                    targetResource = new JSONResourceFactory().createResource(sourceResource.getURI());
-                    Optional<ResourceMetadataAdapter> resourceAdapter = sourceResource.eAdapters().stream()
-                            .filter(ResourceMetadataAdapter.class::isInstance)
-                            .map(ResourceMetadataAdapter.class::cast)
-                            .findFirst();
-                    if (resourceAdapter.isPresent()) {
-                        targetResource.eAdapters().add(new ResourceMetadataAdapter(resourceAdapter.get().getName()));
-                    }
-                    targetResourceSet.getResources().add(targetResource);
-                    EList<EObject> contents = sourceResource.getContents();
-                    for (EObject eObject : contents) {
-                        targetResource.getContents().add(EcoreUtil.copy(eObject));
-                    }
-                }
-            });
+            this.standardLibraries.registerLibraries(siriusWebEditingContext.getDomain().getResourceSet());
             Instant finish = Instant.now();
             long timeElapsed = Duration.between(start, finish).toMillis();
-            this.logger.info("Copy all standard libraries in the editing context in {} ms", timeElapsed);
+            this.logger.info("Register all standard libraries in the editing context in {} ms", timeElapsed);
         }
     }
 
@@ -13,9 +13,16 @@
 package org.eclipse.syson.application.configuration;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,10 +34,14 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.helper.EMFUtils;
+import org.eclipse.syson.sysml.helper.LibraryCompactor;
+import org.eclipse.syson.sysml.helper.LibrarySnapshot;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Configuration;
@@ -39,7 +50,9 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
 /**
- * Load all KerML/SysML standard libraries at SysON start.
+ * Load all KerML/SysML standard libraries at SysON start, as a snapshot from which they are registered in each editing
+ * context. Only the snapshot, the symbols and the strings of the libraries are shared by the editing contexts, each
+ * editing context reads its own library objects when it accesses them.
  *
  * @author arichard
  */
@@ -50,26 +63,184 @@ public class SysMLStandardLibrariesConfiguration {
 
     public static final String SYSML_LIBRARY_SCHEME = "sysmllibrary";
 
+    /**
+     * The path in the classpath of the snapshot of the libraries generated at build time (see
+     * {@link StandardLibrariesSnapshotGenerator}).
+     */
+    public static final String LIBRARIES_SNAPSHOT_PATH = "standard-libraries.snapshot";
+
     private final Logger logger = LoggerFactory.getLogger(SysMLStandardLibrariesConfiguration.class);
 
-    private final ResourceSet librariesResourceSet;
+    private final ByteBuffer librariesSnapshotContent;
+
+    private final LibrarySnapshot librariesSnapshot;
 
     public SysMLStandardLibrariesConfiguration() {
+        this(true);
+    }
+
+    /**
+     * Parses the snapshot of the standard libraries generated at build time if it is available and requested.
+     * Otherwise, loads and resolves all the libraries from their JSON files and takes a snapshot of them in memory. Only
+     * the snapshot is kept, the libraries are registered in each editing context from it (see
+     * {@link #registerLibraries(ResourceSet)}).
+     *
+     * @param useSnapshot
+     *            whether the snapshot of the libraries generated at build time should be used
+     */
+    SysMLStandardLibrariesConfiguration(boolean useSnapshot) {
         Instant start = Instant.now();
-        this.librariesResourceSet = new ResourceSetImpl();
+        ByteBuffer content = null;
+        LibrarySnapshot snapshot = null;
+        if (useSnapshot) {
+            content = this.readSnapshot();
+        }
+        if (content != null) {
+            snapshot = this.parseSnapshot(content);
+        }
+        if (snapshot == null) {
+            content = this.takeSnapshot(this.loadLibraries());
+            snapshot = LibrarySnapshot.parse(content);
+        }
+        this.librariesSnapshotContent = content;
+        this.librariesSnapshot = snapshot;
+        Instant finish = Instant.now();
+        long timeElapsed = Duration.between(start, finish).toMillis();
+        this.logger.info("KerML & SysML standard libraries initialization completed in {} ms", timeElapsed);
+    }
+
+    /**
+     * Registers the standard libraries in the given resource set, which gets its own library resources. Each library is
+     * only read, resolved and given its identifiers when it is first accessed.
+     *
+     * @param resourceSet
+     *            the resource set of an editing context
+     * @return the libraries of the resource set, or <code>null</code> if the libraries could not be loaded
+     */
+    public SharedLibraries registerLibraries(ResourceSet resourceSet) {
+        SharedLibraries sharedLibraries = SharedLibraries.getSharedLibraries(resourceSet);
+        if (sharedLibraries == null && this.librariesSnapshot != null) {
+            Map<Resource, String> namesByResource = this.librariesSnapshot.register(resourceSet);
+            namesByResource.forEach((resource, name) -> resource.eAdapters().add(new ResourceMetadataAdapter(name)));
+            sharedLibraries = SharedLibraries.register(resourceSet, List.copyOf(namesByResource.keySet()), this.librariesSnapshot.getSymbolTable(), this::addIDAdapters);
+        }
+        return sharedLibraries;
+    }
+
+    /**
+     * Loads all the standard libraries from their JSON files in a new resource set, then resolves and compacts them.
+     *
+     * @return the resource set of the loaded libraries
+     */
+    ResourceSet loadLibraries() {
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
         EPackageRegistryImpl ePackageRegistry = new EPackageRegistryImpl();
         ePackageRegistry.put(SysmlPackage.eNS_URI, SysmlPackage.eINSTANCE);
-        this.librariesResourceSet.setPackageRegistry(ePackageRegistry);
-        this.loadResourcesFrom(this.librariesResourceSet, "kerml.libraries/", KERML_LIBRARY_SCHEME);
-        this.loadResourcesFrom(this.librariesResourceSet, "sysml.libraries/", SYSML_LIBRARY_SCHEME);
-        EMFUtils.resolveAllNonDerived(this.librariesResourceSet);
-        Instant finish = Instant.now();
-        long timeElapsed = Duration.between(start, finish).toSeconds();
-        this.logger.info("KerML & SysML standard libraries initialization completed in {} s", timeElapsed);
+        resourceSet.setPackageRegistry(ePackageRegistry);
+        this.loadResourcesFrom(resourceSet, "kerml.libraries/", KERML_LIBRARY_SCHEME);
+        this.loadResourcesFrom(resourceSet, "sysml.libraries/", SYSML_LIBRARY_SCHEME);
+        // The library resources are found by their URI in constant time while their references are resolved
+        Map<URI, Resource> uriResourceMap = new HashMap<>();
+        resourceSet.getResources().forEach(resource -> uriResourceMap.put(resource.getURI(), resource));
+        resourceSet.setURIResourceMap(uriResourceMap);
+        EMFUtils.resolveAllNonDerived(resourceSet);
+        LibraryCompactor.compact(resourceSet.getResources());
+        return resourceSet;
+    }
+
+    /**
+     * Writes the snapshot of the standard libraries.
+     *
+     * @param outputStream
+     *            the stream to write the snapshot to, which is not closed
+     * @throws IOException
+     *             if the snapshot cannot be written
+     */
+    void writeSnapshot(OutputStream outputStream) throws IOException {
+        ByteBuffer content = this.librariesSnapshotContent.duplicate();
+        byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        outputStream.write(bytes);
+    }
+
+    private ByteBuffer readSnapshot() {
+        ByteBuffer content = null;
+        ClassPathResource snapshotResource = new ClassPathResource(LIBRARIES_SNAPSHOT_PATH);
+        if (snapshotResource.exists()) {
+            try {
+                content = this.getContent(snapshotResource);
+                this.logger.info("Reading the KerML & SysML standard libraries from their snapshot");
+            } catch (IOException e) {
+                this.logger.warn("An error occurred while reading the snapshot of the sysml standard libraries: {}.", e.getMessage());
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Parses the snapshot generated at build time, an invalid snapshot is reported and ignored so that the libraries
+     * are loaded from their JSON files instead.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private LibrarySnapshot parseSnapshot(ByteBuffer content) {
+        LibrarySnapshot snapshot = null;
+        try {
+            snapshot = LibrarySnapshot.parse(content);
+        } catch (RuntimeException e) {
+            this.logger.warn("The snapshot of the sysml standard libraries is not valid: {}.", e.getMessage());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Takes a snapshot in memory of the libraries loaded from their JSON files, so that they are registered in the
+     * editing contexts as with the snapshot generated at build time.
+     */
+    private ByteBuffer takeSnapshot(ResourceSet librariesResourceSet) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            LibrarySnapshot.write(librariesResourceSet.getResources(), this::getName, outputStream);
+        } catch (IOException e) {
+            this.logger.warn("An error occurred while taking a snapshot of the sysml standard libraries: {}.", e.getMessage());
+        }
+        return ByteBuffer.wrap(outputStream.toByteArray());
     }
 
-    public ResourceSet getLibrariesResourceSet() {
-        return this.librariesResourceSet;
+    private String getName(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse(null);
+    }
+
+    /**
+     * Returns the content of the snapshot, the snapshot is memory-mapped when it is a file.
+     */
+    private ByteBuffer getContent(ClassPathResource snapshotResource) throws IOException {
+        ByteBuffer content;
+        if (snapshotResource.isFile()) {
+            try (FileChannel channel = FileChannel.open(snapshotResource.getFile().toPath(), StandardOpenOption.READ)) {
+                content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } else {
+            content = ByteBuffer.wrap(snapshotResource.getContentAsByteArray());
+        }
+        return content;
+    }
+
+    /**
+     * Gives their identifiers to the objects of a resource read from the snapshot, as when it is loaded from JSON.
+     */
+    private void addIDAdapters(Resource resource) {
+        resource.getAllContents().forEachRemaining(eObject -> {
+            try {
+                eObject.eAdapters().add(new IDAdapter(UUID.fromString(resource.getURIFragment(eObject))));
+            } catch (IllegalArgumentException e) {
+                this.logger.warn("The identifier of {} is not valid: {}.", eObject, e.getMessage());
+            }
+        });
     }
 
     private void loadResourcesFrom(ResourceSet resourceSet, String librariesDirectoryPath, String scheme) {
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectSearchServiceDelegate;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
+import org.eclipse.syson.util.SysONEContentAdapter;
+import org.springframework.stereotype.Service;
+
+/**
+ * Specific {@link IObjectSearchServiceDelegate} to find SysML elements by their Sirius identifier with the index of the
+ * {@link SysONEContentAdapter} of the editing context, or in its standard libraries (see {@link SharedLibraries}),
+ * instead of searching them in each resource. The Sirius identifier of a library element is its URI fragment, only the
+ * library containing the element is read. {@link #canHandle(IEditingContext, String)} only checks the indexes, without
+ * reading the libraries.
+ *
+ * @author arichard
+ */
+@Service
+public class SysMLv2ObjectSearchService implements IObjectSearchServiceDelegate {
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, String objectId) {
+        boolean canHandle = false;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            canHandle = this.getModelElement(resourceSet, objectId) != null;
+            SharedLibraries sharedLibraries = SharedLibraries.getSharedLibraries(resourceSet);
+            if (!canHandle && sharedLibraries != null) {
+                canHandle = sharedLibraries.containsEObject(objectId);
+            }
+        }
+        return canHandle;
+    }
+
+    @Override
+    public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+        Object object = null;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            object = this.getModelElement(resourceSet, objectId);
+            SharedLibraries sharedLibraries = SharedLibraries.getSharedLibraries(resourceSet);
+            if (object == null && sharedLibraries != null) {
+                object = sharedLibraries.getEObject(objectId);
+            }
+        }
+        return Optional.ofNullable(object);
+    }
+
+    private Element getModelElement(ResourceSet resourceSet, String objectId) {
+        Element element = null;
+        Adapter adapter = EcoreUtil.getAdapter(resourceSet.eAdapters(), SysONEContentAdapter.class);
+        if (adapter instanceof SysONEContentAdapter contentAdapter) {
+            element = contentAdapter.getElement(objectId);
+        }
+        return element;
+    }
+}
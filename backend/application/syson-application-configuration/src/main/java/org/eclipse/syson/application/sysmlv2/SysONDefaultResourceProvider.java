@@ -24,8 +24,9 @@ import org.eclipse.sirius.components.emf.migration.MigrationService;
 import org.eclipse.sirius.components.emf.migration.api.IMigrationParticipant;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.syson.application.sysmlv2.api.IDefaultSysMLv2ResourceProvider;
-import org.eclipse.syson.sysml.SysmlFactory;
-import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.helper.BulkModelBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
@@ -67,15 +68,11 @@ public class SysONDefaultResourceProvider implements IDefaultSysMLv2ResourceProv
     public Resource getDefaultSysMLv2Resource(UUID resourcePath, String name) {
         var resource = getEmptyResource(resourcePath, name);
 
-        var rootNamespace = SysmlFactory.eINSTANCE.createNamespace();
-        var rootMembership = SysmlFactory.eINSTANCE.createOwningMembership();
-        var package1 = SysmlFactory.eINSTANCE.createPackage();
-        rootNamespace.getOwnedRelationship().add(rootMembership);
-        rootMembership.getOwnedRelatedElement().add(package1);
-        package1.setDeclaredName("Package 1");
-        package1.setElementId(ElementUtil.generateUUID(package1).toString());
+        var builder = new BulkModelBuilder();
+        var rootNamespace = builder.create(Namespace.class);
+        builder.createInWithName(Package.class, rootNamespace, "Package 1");
 
-        resource.getContents().add(rootNamespace);
+        builder.attach(rootNamespace, resource);
         return resource;
     }
 
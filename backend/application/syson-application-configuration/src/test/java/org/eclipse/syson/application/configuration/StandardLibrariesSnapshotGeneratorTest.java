@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.application.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.helper.LibrarySnapshot;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests about the snapshot of the SysML Standard libraries.
+ *
+ * @author arichard
+ */
+public class StandardLibrariesSnapshotGeneratorTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void generateSnapshot() throws IOException {
+        Path snapshotPath = this.directory.resolve(SysMLStandardLibrariesConfiguration.LIBRARIES_SNAPSHOT_PATH);
+        StandardLibrariesSnapshotGenerator.main(new String[] { snapshotPath.toString() });
+
+        ResourceSet jsonResourceSet = new SysMLStandardLibrariesConfiguration(false).loadLibraries();
+        ResourceSet snapshotResourceSet = new ResourceSetImpl();
+        Map<Resource, String> namesByResource = LibrarySnapshot.read(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)), snapshotResourceSet);
+
+        List<URI> jsonURIs = jsonResourceSet.getResources().stream().map(Resource::getURI).toList();
+        assertEquals(jsonURIs, snapshotResourceSet.getResources().stream().map(Resource::getURI).toList());
+        assertEquals(jsonURIs.size(), namesByResource.size());
+        for (Resource jsonResource : jsonResourceSet.getResources()) {
+            // The symbols of the libraries are known without reading them
+            Resource snapshotResource = snapshotResourceSet.getResource(jsonResource.getURI(), false);
+            assertEquals(LibrarySymbolTable.computeSymbols(jsonResource), LibrarySnapshot.getSymbols(snapshotResource));
+            jsonResource.getAllContents().forEachRemaining(eObject -> {
+                // The library elements are found with the URIs of their JSON version
+                URI uri = EcoreUtil.getURI(eObject);
+                EObject snapshotEObject = snapshotResourceSet.getEObject(uri, false);
+                assertNotNull(snapshotEObject, "Unable to find " + uri);
+                assertEquals(eObject.eClass(), snapshotEObject.eClass());
+            });
+        }
+    }
+}
@@ -13,6 +13,7 @@
 package org.eclipse.syson.application.configuration;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.ReflectiveItemProviderAdapterFactory;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.syson.sysml.helper.LibrarySnapshot;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -49,6 +51,8 @@ public class SysMLEditingContextProcessorTest {
     
     private static ResourceSet resourceSet;
 
+    private static SysMLStandardLibrariesConfiguration standardLibraries;
+
     @BeforeAll
     static void loadLibraries() {
         ComposedAdapterFactory composedAdapterFactory = new ComposedAdapterFactory();
@@ -62,8 +66,9 @@ public class SysMLEditingContextProcessorTest {
         resourceSet = editingDomain.getResourceSet();
         resourceSet.setPackageRegistry(ePackageRegistry);
         resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        standardLibraries = new SysMLStandardLibrariesConfiguration();
         EditingContext editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, Map.of(), List.of());
-        SysMLEditingContextProcessor editingContextProcessor = new SysMLEditingContextProcessor(new SysMLStandardLibrariesConfiguration());
+        SysMLEditingContextProcessor editingContextProcessor = new SysMLEditingContextProcessor(standardLibraries);
         editingContextProcessor.preProcess(editingContext);
         assertNotNull(resourceSet);
     }
@@ -93,6 +98,8 @@ public class SysMLEditingContextProcessorTest {
             URI uri = URI.createURI(SysMLStandardLibrariesConfiguration.SYSML_LIBRARY_SCHEME + ":///" + UUID.nameUUIDFromBytes(path.getBytes()));
             Resource emfResource = resourceSet.getResource(uri, false);
             assertNotNull(emfResource, "Unable to load " + libraryFilePath);
+            // The library is registered in the editing context, it is only read when it is accessed
+            assertTrue(LibrarySnapshot.isPending(emfResource));
         }
     }
 }
@@ -231,7 +231,7 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
     @Override
     public String caseActionUsage(ActionUsage actionUsage) {
-        Appender builder = new Appender(this.lineSeparator, this.indentation);
+        Appender builder = this.newAppender();
 
         this.appendOccurrenceUsagePrefix(builder, actionUsage);
 
@@ -255,13 +255,13 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
     @Override
     public String casePerformActionUsage(PerformActionUsage perfomActionUsage) {
 
-        Appender builder = new Appender(lineSeparator, indentation);
+        Appender builder = this.newAppender();
 
         appendOccurrenceUsagePrefix(builder, perfomActionUsage);
 
         builder.appendWithSpaceIfNeeded("perform");
 
-        Appender nameAppender = new Appender(lineSeparator, indentation);
+        Appender nameAppender = this.newAppender();
         appendNameWithShortName(nameAppender, perfomActionUsage);
 
         if (nameAppender.isEmpty() && perfomActionUsage.getOwnedReferenceSubsetting() != null) {
@@ -282,11 +282,11 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
 
     @Override
     public String caseSuccessionAsUsage(SuccessionAsUsage sucession) {
-        Appender builder = new Appender(this.lineSeparator, this.indentation);
+        Appender builder = this.newAppender();
 
         this.appendBasicUsagePrefix(builder, sucession);
 
-        Appender declarationBuilder = new Appender(this.lineSeparator, this.indentation);
+        Appender declarationBuilder = this.newAppender();
         this.appendUsageDeclaration(declarationBuilder, sucession);
 
         if (!declarationBuilder.isEmpty()) {
@@ -1356,7 +1356,12 @@ public class SysMLElementSerializer extends SysmlSwitch<String> {
         }
     }
 
-    private Appender newAppender() {
+    /**
+     * Creates the appender used to serialize an element or a part of it.
+     *
+     * @return a new empty appender
+     */
+    protected Appender newAppender() {
         return new Appender(this.lineSeparator, this.indentation);
     }
 
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.eclipse.syson.sysml.export.utils.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to export the textual representation of a selection of SysML elements (e.g. a single part definition or
+ * package) instead of a whole document.
+ *
+ * <p>
+ * Only the subtrees of the selected elements are serialized. The names of the referenced elements are still deresolved
+ * relatively to the location of each subtree in the model, so that the produced text is the same as the one found in
+ * the export of the whole document.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@Service
+public class SysMLSubtreeExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SysMLSubtreeExporter.class);
+
+    private final IObjectService objectService;
+
+    public SysMLSubtreeExporter(IObjectService objectService) {
+        this.objectService = Objects.requireNonNull(objectService);
+    }
+
+    /**
+     * Exports the subtrees of the elements identified by the given ids.
+     *
+     * @param editingContext
+     *            the editing context containing the elements
+     * @param elementIds
+     *            the ids of the elements to export
+     * @return the textual representation of the selected elements, separated by an empty line
+     */
+    public String export(IEditingContext editingContext, Collection<String> elementIds) {
+        List<Element> elements = new ArrayList<>();
+        for (String elementId : elementIds) {
+            this.objectService.getObject(editingContext, elementId)
+                    .filter(Element.class::isInstance)
+                    .map(Element.class::cast)
+                    .ifPresentOrElse(elements::add, () -> LOGGER.warn("Unable to find the SysML element {} to export", elementId));
+        }
+        return this.export(elements);
+    }
+
+    /**
+     * Exports the subtrees of the given elements.
+     *
+     * <p>
+     * An element contained in the subtree of another selected element is only serialized once, as part of its
+     * ancestor.
+     * </p>
+     *
+     * @param elements
+     *            the elements to export
+     * @return the textual representation of the selected elements, separated by an empty line
+     */
+    public String export(Collection<? extends Element> elements) {
+        List<Status> status = new ArrayList<>();
+        // All the subtrees are part of the same model, they can share the caches of the name deresolver
+        SysMLElementSerializer serializer = new SysMLElementSerializer(System.lineSeparator(), "\t", new NameDeresolver(), status::add);
+
+        StringBuilder builder = new StringBuilder();
+        for (Element element : this.getSubtreeRoots(elements)) {
+            String textualForm = serializer.doSwitch(element);
+            if (textualForm != null) {
+                if (!builder.isEmpty()) {
+                    builder.append(System.lineSeparator()).append(System.lineSeparator());
+                }
+                builder.append(textualForm);
+            }
+        }
+        for (Status s : status) {
+            s.log(LOGGER);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Removes from the selection the elements which already are in the subtree of another selected element, while
+     * keeping the order of the selection.
+     */
+    private Set<Element> getSubtreeRoots(Collection<? extends Element> elements) {
+        Set<Element> selection = new HashSet<>(elements);
+        Set<Element> roots = new LinkedHashSet<>();
+        for (Element element : elements) {
+            if (element != null && !this.hasSelectedAncestor(element, selection)) {
+                roots.add(element);
+            }
+        }
+        return roots;
+    }
+
+    private boolean hasSelectedAncestor(Element element, Set<Element> selection) {
+        EObject ancestor = element.eContainer();
+        while (ancestor != null && !selection.contains(ancestor)) {
+            ancestor = ancestor.eContainer();
+        }
+        return ancestor != null;
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SysMLSubtreeExporter}.
+ *
+ * @author Arthur Daussy
+ */
+public class SysMLSubtreeExporterTest {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private ModelBuilder builder;
+
+    private SysMLSubtreeExporter exporter;
+
+    private Package p1;
+
+    private PartDefinition def1;
+
+    private PartDefinition def2;
+
+    private PartDefinition def3;
+
+    /**
+     * Builds the following model.
+     *
+     * <pre>
+     * package p1 {
+     *     part def Def1 {
+     *         part part1 : p2::Def2;
+     *     }
+     *     part def Def3;
+     * }
+     * package p2 {
+     *     import p1::*;
+     *     part def Def2 {
+     *         part part2 : Def1;
+     *     }
+     * }
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        this.builder = new ModelBuilder();
+        this.exporter = new SysMLSubtreeExporter(new IObjectService.NoOp());
+
+        this.p1 = this.builder.createWithName(Package.class, "p1");
+        Package p2 = this.builder.createWithName(Package.class, "p2");
+        this.builder.createIn(NamespaceImport.class, p2).setImportedNamespace(this.p1);
+
+        this.def1 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def1");
+        this.def3 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def3");
+        this.def2 = this.builder.createInWithName(PartDefinition.class, p2, "Def2");
+
+        PartUsage part1 = this.builder.createInWithName(PartUsage.class, this.def1, "part1");
+        this.builder.setType(part1, this.def2);
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, this.def2, "part2");
+        this.builder.setType(part2, this.def1);
+    }
+
+    @Test
+    public void exportSingleElement() {
+        assertEquals("part def Def1 {" + NEW_LINE + "\tref part part1 : p2::Def2;" + NEW_LINE + "}", this.exporter.export(List.of(this.def1)));
+    }
+
+    @Test
+    public void exportUsesTheContextOfTheSubtree() {
+        // Def1 is visible in p2 through the import
+        assertEquals("part def Def2 {" + NEW_LINE + "\tref part part2 : Def1;" + NEW_LINE + "}", this.exporter.export(List.of(this.def2)));
+    }
+
+    @Test
+    public void exportSeveralElements() {
+        String expected = "part def Def3;" + NEW_LINE + NEW_LINE + "part def Def2 {" + NEW_LINE + "\tref part part2 : Def1;" + NEW_LINE + "}";
+        assertEquals(expected, this.exporter.export(List.of(this.def3, this.def2)));
+    }
+
+    @Test
+    public void exportNestedSelectionOnlyOnce() {
+        String expected = "package p1 {" + NEW_LINE + "\tpart def Def1 {" + NEW_LINE + "\t\tref part part1 : p2::Def2;" + NEW_LINE + "\t}" + NEW_LINE + "\tpart def Def3;" + NEW_LINE + "}";
+        assertEquals(expected, this.exporter.export(List.of(this.def1, this.p1)));
+    }
+
+    @Test
+    public void exportElementsIdentifiedInEditingContext() {
+        IEditingContext editingContext = () -> "editingContextId";
+        Map<String, Object> objectsById = Map.of("def3Id", this.def3, "def2Id", this.def2);
+        IObjectService objectService = new IObjectService.NoOp() {
+            @Override
+            public Optional<Object> getObject(IEditingContext context, String id) {
+                Optional<Object> object = Optional.empty();
+                if (context == editingContext) {
+                    object = Optional.ofNullable(objectsById.get(id));
+                }
+                return object;
+            }
+        };
+        SysMLSubtreeExporter idExporter = new SysMLSubtreeExporter(objectService);
+
+        // Unknown identifiers are skipped
+        String expected = "part def Def3;" + NEW_LINE + NEW_LINE + "part def Def2 {" + NEW_LINE + "\tref part part2 : Def1;" + NEW_LINE + "}";
+        assertEquals(expected, idExporter.export(editingContext, List.of("def3Id", "unknownId", "def2Id")));
+        assertEquals("", idExporter.export(() -> "otherEditingContextId", List.of("def3Id")));
+    }
+}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.utils.Appender;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@link Appender} calls made by {@link SysMLElementSerializer} to export a synthetic model.
+ *
+ * <p>
+ * The calls are recorded once during a real export of the model, with their arguments, then replayed on new appenders
+ * so that the benchmark only measures the string concatenation, without the model traversal and the name resolution.
+ * Only the calls made by the serializer are recorded, not the calls made by the appenders themselves.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppenderBenchmark {
+
+    private static final String NEW_LINE = "\n";
+
+    private static final String INDENTATION = "\t";
+
+    @Benchmark
+    public void replayExport(AppenderCallsState state, Blackhole blackhole) {
+        Appender[] appenders = new Appender[state.getAppenderCount()];
+        for (AppenderCall call : state.getCalls()) {
+            Appender appender = appenders[call.appender()];
+            switch (call.operation()) {
+                case CREATE -> {
+                    appenders[call.appender()] = new Appender(NEW_LINE, INDENTATION);
+                }
+                case APPEND -> appender.append(call.argument());
+                case APPEND_PRINTABLE_NAME -> appender.appendPrintableName(call.argument());
+                case APPEND_WITH_SPACE_IF_NEEDED -> appender.appendWithSpaceIfNeeded(call.argument());
+                case APPEND_SPACE_IF_NEEDED -> appender.appendSpaceIfNeeded();
+                case APPEND_INDENTED_CONTENT -> appender.appendIndentedContent(call.argument());
+                case NEW_LINE -> appender.newLine();
+                case INDENT -> appender.indent();
+                case IS_EMPTY -> blackhole.consume(appender.isEmpty());
+                case TO_STRING -> blackhole.consume(appender.toString());
+                default -> throw new IllegalStateException(call.operation().toString());
+            }
+        }
+    }
+
+    /**
+     * The {@link Appender} operations used by the serializer.
+     *
+     * @author Arthur Daussy
+     */
+    enum Operation {
+        CREATE, APPEND, APPEND_PRINTABLE_NAME, APPEND_WITH_SPACE_IF_NEEDED, APPEND_SPACE_IF_NEEDED, APPEND_INDENTED_CONTENT, NEW_LINE, INDENT, IS_EMPTY, TO_STRING
+    }
+
+    /**
+     * A call made by the serializer on one of its appenders.
+     *
+     * @param appender
+     *            the index of the appender, in their creation order
+     * @param operation
+     *            the called operation
+     * @param argument
+     *            the argument of the call, may be <code>null</code>
+     * @author Arthur Daussy
+     */
+    record AppenderCall(int appender, Operation operation, String argument) {
+    }
+
+    /**
+     * JMH state holding the {@link Appender} calls made to export a synthetic model.
+     *
+     * @author Arthur Daussy
+     */
+    @State(Scope.Benchmark)
+    public static class AppenderCallsState {
+
+        private final List<AppenderCall> calls = new ArrayList<>();
+
+        private int appenderCount;
+
+        @Setup(Level.Trial)
+        public void recordCalls(SyntheticModelState state) {
+            this.calls.clear();
+            this.appenderCount = 0;
+            new RecordingSerializer().doSwitch(state.getRoot());
+        }
+
+        List<AppenderCall> getCalls() {
+            return this.calls;
+        }
+
+        int getAppenderCount() {
+            return this.appenderCount;
+        }
+
+        /**
+         * Serializer creating {@link RecordingAppender}s.
+         *
+         * @author Arthur Daussy
+         */
+        private final class RecordingSerializer extends SysMLElementSerializer {
+
+            RecordingSerializer() {
+                super(NEW_LINE, INDENTATION, new NameDeresolver(), null);
+            }
+
+            @Override
+            protected Appender newAppender() {
+                RecordingAppender appender = new RecordingAppender(AppenderCallsState.this.appenderCount++);
+                AppenderCallsState.this.calls.add(new AppenderCall(appender.index, Operation.CREATE, null));
+                return appender;
+            }
+        }
+
+        /**
+         * Appender recording the calls made on it by the serializer, the calls made by the appender on itself are not
+         * recorded.
+         *
+         * @author Arthur Daussy
+         */
+        private final class RecordingAppender extends Appender {
+
+            private final int index;
+
+            private int depth;
+
+            RecordingAppender(int index) {
+                super(NEW_LINE, INDENTATION);
+                this.index = index;
+            }
+
+            @Override
+            public Appender append(String str) {
+                this.enter(Operation.APPEND, str);
+                super.append(str);
+                return this.exit();
+            }
+
+            @Override
+            public Appender appendPrintableName(String name) {
+                this.enter(Operation.APPEND_PRINTABLE_NAME, name);
+                super.appendPrintableName(name);
+                return this.exit();
+            }
+
+            @Override
+            public Appender appendWithSpaceIfNeeded(String content) {
+                this.enter(Operation.APPEND_WITH_SPACE_IF_NEEDED, content);
+                super.appendWithSpaceIfNeeded(content);
+                return this.exit();
+            }
+
+            @Override
+            public Appender appendSpaceIfNeeded() {
+                this.enter(Operation.APPEND_SPACE_IF_NEEDED, null);
+                super.appendSpaceIfNeeded();
+                return this.exit();
+            }
+
+            @Override
+            public Appender appendIndentedContent(String content) {
+                this.enter(Operation.APPEND_INDENTED_CONTENT, content);
+                super.appendIndentedContent(content);
+                return this.exit();
+            }
+
+            @Override
+            public Appender newLine() {
+                this.enter(Operation.NEW_LINE, null);
+                super.newLine();
+                return this.exit();
+            }
+
+            @Override
+            public Appender indent() {
+                this.enter(Operation.INDENT, null);
+                super.indent();
+                return this.exit();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                this.enter(Operation.IS_EMPTY, null);
+                boolean empty = super.isEmpty();
+                this.exit();
+                return empty;
+            }
+
+            @Override
+            public String toString() {
+                this.enter(Operation.TO_STRING, null);
+                String content = super.toString();
+                this.exit();
+                return content;
+            }
+
+            private void enter(Operation operation, String argument) {
+                if (this.depth == 0) {
+                    AppenderCallsState.this.calls.add(new AppenderCall(this.index, operation, argument));
+                }
+                this.depth++;
+            }
+
+            private Appender exit() {
+                this.depth--;
+                return this;
+            }
+        }
+    }
+}
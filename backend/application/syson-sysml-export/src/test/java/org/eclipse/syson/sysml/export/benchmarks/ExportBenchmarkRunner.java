@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the export benchmarks with the GC profiler and reports the time and the allocated bytes per exported element.
+ *
+ * <p>
+ * The benchmarks of the synthetic models are reported with the same element counts, so the cost of the
+ * {@link AppenderBenchmark appender calls} per element can be compared with the cost of the whole export per element
+ * ({@link SysMLElementSerializerBenchmark}).
+ * </p>
+ *
+ * <p>
+ * The arguments are the regular JMH command line arguments, for example
+ * <code>SysMLElementSerializerBenchmark -p depth=4 -p breadth=8</code>. It can be launched with
+ * <code>mvn test-compile exec:exec -Pbenchmark</code> (use <code>-Dbenchmark.args="..."</code> to give arguments).
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ExportBenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private ExportBenchmarkRunner() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(ExportBenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        Collection<RunResult> results = new Runner(optionsBuilder.build()).run();
+        report(results, System.out);
+    }
+
+    private static void report(Collection<RunResult> results, PrintStream out) {
+        Map<String, Integer> elementCounts = new HashMap<>();
+        out.println();
+        out.println(String.format("%-45s %-65s %10s %14s %16s", "Benchmark", "Params", "Elements", "ns/element", "bytes/element"));
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String paramsLabel = getParamsLabel(params);
+            int elementCount = elementCounts.computeIfAbsent(paramsLabel, key -> getElementCount(params));
+
+            Result<?> primaryResult = result.getPrimaryResult();
+            double nanoSecondsPerOperation = TimeUnit.NANOSECONDS.convert(1, params.getTimeUnit()) * primaryResult.getScore();
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_METRIC);
+            double bytesPerOperation = Double.NaN;
+            if (allocation != null) {
+                bytesPerOperation = allocation.getScore();
+            }
+            out.println(String.format("%-45s %-65s %10d %14.1f %16.1f", getBenchmarkLabel(params), paramsLabel, elementCount, nanoSecondsPerOperation / elementCount,
+                    bytesPerOperation / elementCount));
+        }
+    }
+
+    private static String getBenchmarkLabel(BenchmarkParams params) {
+        return params.getBenchmark().substring(ExportBenchmarkRunner.class.getPackageName().length() + 1);
+    }
+
+    private static String getParamsLabel(BenchmarkParams params) {
+        StringBuilder label = new StringBuilder();
+        for (String key : params.getParamsKeys()) {
+            if (!label.isEmpty()) {
+                label.append(',');
+            }
+            label.append(key).append('=').append(params.getParam(key));
+        }
+        return label.toString();
+    }
+
+    private static int getElementCount(BenchmarkParams params) {
+        if (params.getParam("depth") == null) {
+            // The benchmarks without model parameters export the sample model
+            return SampleModelSerializerBenchmark.SampleModelState.countElements();
+        }
+        SyntheticModelGenerator generator = new SyntheticModelGenerator(Integer.parseInt(params.getParam("depth")), Integer.parseInt(params.getParam("breadth")),
+                Double.parseDouble(params.getParam("importDensity")), Double.parseDouble(params.getParam("expressionDensity")));
+        generator.generate();
+        return generator.getElementCount();
+    }
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link NameDeresolver} on all the cross references of a synthetic model.
+ *
+ * <p>
+ * The cold benchmark uses a new deresolver for each pass over the references, which is the cost paid by a single
+ * export. The warm benchmark reuses the same deresolver, which measures the cost of its caches lookups.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameDeresolverBenchmark {
+
+    @Benchmark
+    public void deresolveCold(SyntheticModelState state, Blackhole blackhole) {
+        this.deresolveAll(new NameDeresolver(), state, blackhole);
+    }
+
+    @Benchmark
+    public void deresolveWarm(WarmNameDeresolverState deresolverState, SyntheticModelState state, Blackhole blackhole) {
+        this.deresolveAll(deresolverState.getNameDeresolver(), state, blackhole);
+    }
+
+    private void deresolveAll(NameDeresolver nameDeresolver, SyntheticModelState state, Blackhole blackhole) {
+        for (Pair<Element, Element> reference : state.getGenerator().getReferences()) {
+            blackhole.consume(nameDeresolver.getDeresolvedName(reference.getLeft(), reference.getRight()));
+        }
+    }
+}
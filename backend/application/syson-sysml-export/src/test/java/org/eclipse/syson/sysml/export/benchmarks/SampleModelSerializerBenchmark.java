@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.models.sample.CameraModel;
+import org.eclipse.syson.sysml.export.models.sample.PictureTakingModel;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the export of the camera sample model of the SysML specification (the <code>PictureTaking</code> package
+ * and the <code>Camera</code> part definition) with {@link SysMLElementSerializer}, as done by the document exporter.
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SampleModelSerializerBenchmark {
+
+    @Benchmark
+    public String exportSampleModel(SampleModelState state) {
+        StringBuilder content = new StringBuilder();
+        for (Element root : state.getRoots()) {
+            content.append(new SysMLElementSerializer("\n", "\t", new NameDeresolver(), null).doSwitch(root));
+        }
+        return content.toString();
+    }
+
+    /**
+     * JMH state holding the camera sample model.
+     *
+     * @author Arthur Daussy
+     */
+    @State(Scope.Benchmark)
+    public static class SampleModelState {
+
+        private List<Element> roots;
+
+        @Setup(Level.Trial)
+        public void createModel() {
+            this.roots = createRoots();
+        }
+
+        static List<Element> createRoots() {
+            ModelBuilder builder = new ModelBuilder();
+            CameraModel cameraModel = new CameraModel(builder, new PictureTakingModel(builder));
+            return List.of(cameraModel.getPictureTakingModel().getPictureTaking(), cameraModel.getCamera());
+        }
+
+        static int countElements() {
+            int count = 0;
+            for (Element root : createRoots()) {
+                count++;
+                for (var iterator = root.eAllContents(); iterator.hasNext(); iterator.next()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        List<Element> getRoots() {
+            return this.roots;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureReferenceExpression;
+import org.eclipse.syson.sysml.FeatureValue;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.OperatorExpression;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.ParameterMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+
+/**
+ * Builds synthetic SysML models of a configurable scale, used to benchmark the textual export.
+ *
+ * <p>
+ * The generated model is a tree of packages of the given depth, each package containing <code>breadth</code>
+ * sub-packages and <code>breadth</code> part definitions. Each part definition owns <code>breadth</code> attributes and
+ * <code>breadth</code> parts typed by a random part definition of the model, so that most type references cross
+ * package boundaries. The import density is the probability for a package to import another random package, and the
+ * expression density is the probability for an attribute to have a value expression of the form
+ * <code>attr = 1 + otherAttr</code>.
+ * </p>
+ * <p>
+ * The generation is seeded, two generators created with the same parameters produce models of the same shape.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SyntheticModelGenerator {
+
+    private static final long SEED = 42L;
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private final Random random = new Random(SEED);
+
+    private final int depth;
+
+    private final int breadth;
+
+    private final double importDensity;
+
+    private final double expressionDensity;
+
+    private final List<Package> packages = new ArrayList<>();
+
+    private final List<PartDefinition> definitions = new ArrayList<>();
+
+    private final List<Pair<Element, Element>> references = new ArrayList<>();
+
+    private Namespace root;
+
+    private int elementCount;
+
+    public SyntheticModelGenerator(int depth, int breadth, double importDensity, double expressionDensity) {
+        this.depth = depth;
+        this.breadth = breadth;
+        this.importDensity = importDensity;
+        this.expressionDensity = expressionDensity;
+    }
+
+    /**
+     * Generates the model.
+     *
+     * @return the unnamed root namespace of the generated model
+     */
+    public Namespace generate() {
+        this.root = this.builder.create(Namespace.class);
+        for (int i = 0; i < this.breadth; i++) {
+            this.createPackage(this.root, "p" + i, 1);
+        }
+        for (PartDefinition definition : this.definitions) {
+            this.createPartUsages(definition);
+        }
+        for (Package pack : this.packages) {
+            this.createImport(pack);
+        }
+        this.elementCount = this.countElements();
+        return this.root;
+    }
+
+    public Namespace getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Gives the number of {@link Element}s (relationships included) contained in the generated model.
+     *
+     * @return a number of elements
+     */
+    public int getElementCount() {
+        return this.elementCount;
+    }
+
+    /**
+     * Gives the cross references of the generated model that need to be deresolved during the export. The left side
+     * of each pair is the referenced element, the right side the element from which it is referenced.
+     *
+     * @return a list of (referenced element, context) pairs
+     */
+    public List<Pair<Element, Element>> getReferences() {
+        return this.references;
+    }
+
+    private void createPackage(Element parent, String name, int level) {
+        Package pack = this.builder.createInWithName(Package.class, parent, name);
+        this.packages.add(pack);
+        for (int i = 0; i < this.breadth; i++) {
+            PartDefinition definition = this.builder.createInWithName(PartDefinition.class, pack, name + "Def" + i);
+            this.definitions.add(definition);
+            this.createAttributes(definition);
+        }
+        if (level < this.depth) {
+            for (int i = 0; i < this.breadth; i++) {
+                this.createPackage(pack, name + "x" + i, level + 1);
+            }
+        }
+    }
+
+    private void createAttributes(PartDefinition definition) {
+        List<AttributeUsage> attributes = new ArrayList<>();
+        for (int i = 0; i < this.breadth; i++) {
+            attributes.add(this.builder.createInWithName(AttributeUsage.class, definition, "attr" + i));
+        }
+        for (int i = 1; i < attributes.size(); i++) {
+            if (this.random.nextDouble() < this.expressionDensity) {
+                this.createExpression(attributes.get(i), attributes.get(i - 1));
+            }
+        }
+    }
+
+    private void createPartUsages(PartDefinition definition) {
+        for (int i = 0; i < this.breadth; i++) {
+            PartUsage part = this.builder.createInWithName(PartUsage.class, definition, "part" + i);
+            PartDefinition type = this.definitions.get(this.random.nextInt(this.definitions.size()));
+            this.builder.setType(part, type);
+            this.references.add(Pair.of(type, part));
+        }
+    }
+
+    private void createImport(Package pack) {
+        if (this.packages.size() > 1 && this.random.nextDouble() < this.importDensity) {
+            Package imported = this.packages.get(this.random.nextInt(this.packages.size()));
+            if (imported != pack) {
+                NamespaceImport namespaceImport = this.builder.createIn(NamespaceImport.class, pack);
+                namespaceImport.setImportedNamespace(imported);
+                this.references.add(Pair.of(imported, pack));
+            }
+        }
+    }
+
+    /**
+     * Creates the expression <code>attribute = 1 + referenced</code>.
+     */
+    private void createExpression(AttributeUsage attribute, AttributeUsage referenced) {
+        OperatorExpression plusExpression = this.builder.create(OperatorExpression.class);
+        plusExpression.setOperator("+");
+
+        FeatureValue featureValue = this.builder.createIn(FeatureValue.class, attribute);
+        featureValue.getOwnedRelatedElement().add(plusExpression);
+
+        Feature literalFeature = this.createParameter(plusExpression);
+        LiteralInteger literal = this.builder.create(LiteralInteger.class);
+        literal.setValue(1);
+        this.builder.createIn(FeatureValue.class, literalFeature).getOwnedRelatedElement().add(literal);
+
+        Feature referenceFeature = this.createParameter(plusExpression);
+        FeatureReferenceExpression featureReferenceExpression = this.builder.create(FeatureReferenceExpression.class);
+        this.builder.createIn(FeatureValue.class, referenceFeature).getOwnedRelatedElement().add(featureReferenceExpression);
+        Membership membership = this.builder.createIn(Membership.class, featureReferenceExpression);
+        membership.setMemberElement(referenced);
+        this.references.add(Pair.of(referenced, featureReferenceExpression));
+    }
+
+    private Feature createParameter(OperatorExpression expression) {
+        ParameterMembership parameterMembership = this.builder.createIn(ParameterMembership.class, expression);
+        Feature parameter = this.builder.create(Feature.class);
+        parameterMembership.getOwnedRelatedElement().add(parameter);
+        return parameter;
+    }
+
+    private int countElements() {
+        int count = 1;
+        var iterator = this.root.eAllContents();
+        while (iterator.hasNext()) {
+            EObject eObject = iterator.next();
+            if (eObject instanceof Element) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import org.eclipse.syson.sysml.Namespace;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH state holding a synthetic model built by {@link SyntheticModelGenerator}.
+ *
+ * <p>
+ * The scale of the model is controlled by the JMH parameters, they can be overridden from the command line (for
+ * example <code>-p depth=4 -p breadth=8</code>).
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+public class SyntheticModelState {
+
+    @Param({ "2", "3" })
+    protected int depth;
+
+    @Param({ "5" })
+    protected int breadth;
+
+    @Param({ "0.25" })
+    protected double importDensity;
+
+    @Param({ "0.25" })
+    protected double expressionDensity;
+
+    private SyntheticModelGenerator generator;
+
+    @Setup(Level.Trial)
+    public void generateModel() {
+        this.generator = new SyntheticModelGenerator(this.depth, this.breadth, this.importDensity, this.expressionDensity);
+        this.generator.generate();
+    }
+
+    public SyntheticModelGenerator getGenerator() {
+        return this.generator;
+    }
+
+    public Namespace getRoot() {
+        return this.generator.getRoot();
+    }
+}
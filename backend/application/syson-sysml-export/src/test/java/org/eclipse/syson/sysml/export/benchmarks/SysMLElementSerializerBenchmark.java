@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the export of a whole synthetic model with {@link SysMLElementSerializer}.
+ *
+ * <p>
+ * A new serializer (and thus a new {@link NameDeresolver} with empty caches) is used for each export, as done by the
+ * document exporter.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SysMLElementSerializerBenchmark {
+
+    @Benchmark
+    public String exportModel(SyntheticModelState state) {
+        return new SysMLElementSerializer("\n", "\t", new NameDeresolver(), null).doSwitch(state.getRoot());
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.export.benchmarks;
+
+import org.eclipse.syson.sysml.export.utils.NameDeresolver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH state holding a {@link NameDeresolver} shared by all the invocations of a trial.
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Benchmark)
+public class WarmNameDeresolverState {
+
+    private NameDeresolver nameDeresolver;
+
+    @Setup(Level.Trial)
+    public void createNameDeresolver() {
+        this.nameDeresolver = new NameDeresolver();
+    }
+
+    public NameDeresolver getNameDeresolver() {
+        return this.nameDeresolver;
+    }
+}
@@ -26,6 +26,8 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
 import org.eclipse.syson.sysml.finder.CachedObjectFinder;
 import org.eclipse.syson.sysml.finder.ObjectFinder;
+import org.eclipse.syson.sysml.helper.BulkModelBuilder;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
 import org.eclipse.syson.sysml.mapper.MapperArray;
 import org.eclipse.syson.sysml.mapper.MapperComment;
 import org.eclipse.syson.sysml.mapper.MapperConjugatedPortTyping;
@@ -61,6 +63,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Transforms AST data using defined mappings and updates resources accordingly.
+ * <p>
+ * The elements are built detached with a {@link BulkModelBuilder} and their references are resolved with the qualified
+ * names of the AST, their modifications are only notified once the converted resource is built. The qualified names of
+ * the elements, e.g. those of the {@link LogBook} events, are read afterwards.
+ * </p>
  *
  * @author gescande.
  */
@@ -68,12 +75,14 @@ public class ASTTransformer {
 
     private final ObjectFinder objectFinder = new CachedObjectFinder();
 
+    private final BulkModelBuilder modelBuilder = new BulkModelBuilder();
+
     private final MappingState mappingStates = new MappingState(Collections.synchronizedCollection(new LinkedHashSet<MappingElement>()),
             Collections.synchronizedCollection(new LinkedHashSet<MappingElement>()), Collections.synchronizedCollection(new LinkedHashSet<MappingElement>()));
 
     private final List<MapperVisitorInterface> mappers = List.of(
             new MapperArray(this.objectFinder, this.mappingStates),
-            new MapperCreateKnownType(this.objectFinder, this.mappingStates),
+            new MapperCreateKnownType(this.objectFinder, this.mappingStates, this.modelBuilder),
             new MapperGenericAttributes(this.objectFinder, this.mappingStates),
             new MapperGenericReferences(this.objectFinder, this.mappingStates),
             new MapperFeatureTyping(this.objectFinder, this.mappingStates),
@@ -104,11 +113,29 @@ public class ASTTransformer {
     private final Logger logger = LoggerFactory.getLogger(ASTTransformer.class);
 
     public Resource convertResource(InputStream input, List<EObject> list) {
+        return this.convertResource(input, list, null);
+    }
+
+    /**
+     * Converts the given AST, the references to the given libraries are found with their symbols.
+     *
+     * @param input
+     *            the AST
+     * @param list
+     *            the existing objects which can be referenced
+     * @param sharedLibraries
+     *            the libraries which can be referenced, may be <code>null</code>
+     * @return the converted resource
+     */
+    public Resource convertResource(InputStream input, List<EObject> list, SharedLibraries sharedLibraries) {
         list.parallelStream().forEach((t) -> {
             if (t != null) {
                 this.objectFinder.putEObject(t);
             }
         });
+        if (sharedLibraries != null) {
+            this.objectFinder.putLibrarySymbols(sharedLibraries);
+        }
 
         Resource result = new JSONResourceFactory().createResource(new JSONResourceFactory().createResourceURI("test"));
 
@@ -168,9 +195,8 @@ public class ASTTransformer {
             this.logger.info("End complete mapping loop");
             this.objectFinder.logStat();
             rootElements.forEach(t -> {
-                var self = t.getSelf();
-                if (self != null) {
-                    result.getContents().add(self);
+                if (t.getSelf() instanceof Element self) {
+                    this.modelBuilder.attach(self, result);
                 }
             });
 
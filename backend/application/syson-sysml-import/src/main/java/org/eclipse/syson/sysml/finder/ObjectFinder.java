@@ -25,10 +25,14 @@ import java.util.regex.Pattern;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.sysml.AstConstant;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.LogBook;
 import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
 import org.eclipse.syson.sysml.mapper.MappingElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +56,10 @@ public class ObjectFinder {
 
     private final ConcurrentHashMap<String, Set<String>> aliases = new ConcurrentHashMap<String, Set<String>>();
 
+    private final ConcurrentHashMap<EObject, Symbol> librarySymbols = new ConcurrentHashMap<EObject, Symbol>();
+
+    private SharedLibraries sharedLibraries;
+
     private long statFindObject;
     private long statFindInstance;
     private long statFindReference;
@@ -108,6 +116,28 @@ public class ObjectFinder {
         }
     }
 
+    /**
+     * Puts the symbols of the given libraries, their elements are only read when they are found. Each symbol is put as
+     * a proxy of its element, with the same keys as {@link #putEObject(EObject)}.
+     *
+     * @param libraries
+     *            the libraries of the resource set of the imported resource
+     */
+    public void putLibrarySymbols(final SharedLibraries libraries) {
+        this.sharedLibraries = libraries;
+        for (Symbol symbol : libraries.getSymbolTable().getSymbols()) {
+            InternalEObject proxy = (InternalEObject) EcoreUtil.create(symbol.eClass());
+            proxy.eSetProxyURI(symbol.getURI());
+            this.librarySymbols.put(proxy, symbol);
+            if (symbol.qualifiedName() != null) {
+                this.putEObjectKey(proxy, symbol.qualifiedName());
+            }
+            if (symbol.shortName() != null) {
+                this.putEObjectKey(proxy, symbol.shortName());
+            }
+        }
+    }
+
     public void putElement(final MappingElement mapping) {
         EObject target = mapping.getSelf();
 
@@ -144,6 +174,19 @@ public class ObjectFinder {
         } else {
             result = this.findInstance(jsonNode, type);
         }
+        return this.getLibraryElement(result);
+    }
+
+    private EObject getLibraryElement(final EObject eObject) {
+        EObject result = eObject;
+        Symbol symbol = null;
+        if (eObject != null) {
+            symbol = this.librarySymbols.get(eObject);
+        }
+        if (symbol != null) {
+            // The proxy of a symbol is never returned, even if its element cannot be read
+            result = this.sharedLibraries.getElement(symbol);
+        }
         return result;
     }
 
@@ -16,7 +16,6 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.syson.sysml.AstConstant;
 import org.eclipse.syson.sysml.ConjugatedPortDefinition;
 import org.eclipse.syson.sysml.ConjugatedPortTyping;
-import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.OwningMembership;
 import org.eclipse.syson.sysml.PortConjugation;
 import org.eclipse.syson.sysml.PortDefinition;
@@ -51,7 +50,6 @@ public class MapperConjugatedPortTyping extends MapperVisitorInterface {
         this.logger.debug("Add ConjugatedPortTyping to map for p  = " + mapping.getSelf());
 
         ConjugatedPortTyping eObject = (ConjugatedPortTyping) mapping.getSelf();
-        eObject.getSource().add((Feature) mapping.getParent());
 
         if (mapping.getMainNode().has(AstConstant.TARGET_REF_CONST) && mapping.getMainNode().get(AstConstant.TARGET_REF_CONST).has(AstConstant.TEXT_CONST)) {
             eObject.setDeclaredName(AstConstant.asCleanedText(mapping.getMainNode().get(AstConstant.TARGET_REF_CONST).get(AstConstant.TEXT_CONST)));
@@ -71,7 +69,6 @@ public class MapperConjugatedPortTyping extends MapperVisitorInterface {
         if (referencedObject instanceof PortDefinition target) {
             this.logger.debug("Retrieving ConjugatedPortDefinition from PortDefintion " + target);
             ConjugatedPortDefinition conjugatedPort = target.getConjugatedPortDefinition();
-            eObject.getTarget().add(target);
             if (conjugatedPort != null) {
                 this.logger.debug("Reference ConjugatedPortDefinition of " + target + " to " + eObject);
                 eObject.setConjugatedPortDefinition(conjugatedPort);
@@ -16,15 +16,16 @@ import java.math.BigDecimal;
 
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.impl.EClassImpl;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.sysml.AstConstant;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.finder.ObjectFinder;
+import org.eclipse.syson.sysml.helper.BulkModelBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Facilitates the creation of known SysML types from AST nodes during model transformation.
+ * Facilitates the creation of known SysML types from AST nodes during model transformation. The elements are created
+ * detached by a {@link BulkModelBuilder}, their modifications are not notified until the converted resource is built.
  *
  * @author gescande
  */
@@ -32,8 +33,11 @@ public class MapperCreateKnownType extends MapperVisitorInterface {
 
     private final Logger logger = LoggerFactory.getLogger(MapperCreateKnownType.class);
 
-    public MapperCreateKnownType(final ObjectFinder objectFinder, final MappingState mappingState) {
+    private final BulkModelBuilder modelBuilder;
+
+    public MapperCreateKnownType(final ObjectFinder objectFinder, final MappingState mappingState, final BulkModelBuilder modelBuilder) {
         super(objectFinder, mappingState);
+        this.modelBuilder = modelBuilder;
     }
 
     @Override
@@ -71,7 +75,7 @@ public class MapperCreateKnownType extends MapperVisitorInterface {
 
             this.logger.debug("mapping class = " + eclassImpl.getName());
 
-            mapping.setSelf(EcoreUtil.create(eclassImpl));
+            mapping.setSelf(this.modelBuilder.create(eclassImpl));
             this.objectFinder.putElement(mapping);
 
             this.mappingState.done().add(mapping);
@@ -101,12 +101,7 @@ public class MapperGenericReferences extends MapperVisitorInterface {
         if (referencedObject instanceof Element target && mapping.getSelf() instanceof Relationship relationship) {
             this.logger.debug("Map Relationship object " + relationship + " " + jsonPath + "  " + " to object " + target);
 
-            this.logger.debug("Map object " + mapping.getSelf() + " to target " + target);
-            relationship.getTarget().add(target);
-
-            this.logger.debug("Map object " + mapping.getSelf() + " to source " + mapping.getParent());
-            relationship.getSource().add((Element) mapping.getParent());
-
+            // The target and the source of the relationship are derived from its owned related element
             if (target instanceof Membership membership) {
                 membership.setOwningRelatedElement(relationship);
             } else {
@@ -49,8 +49,6 @@ public class MapperReferenceSubsetting extends MapperVisitorInterface {
         ReferenceSubsetting eObject = (ReferenceSubsetting) mapping.getSelf();
         eObject.setSubsettingFeature((Feature) mapping.getParent());
 
-        eObject.getSource().add((Feature) mapping.getParent());
-
         if (SysmlPackage.eINSTANCE.getType().isSuperTypeOf(mapping.getParent().eClass())) {
             eObject.setSpecific((Type) mapping.getParent());
         }
@@ -79,7 +77,6 @@ public class MapperReferenceSubsetting extends MapperVisitorInterface {
             eObject.setReferencedFeature(target);
             eObject.setSubsettedFeature(target);
             eObject.setGeneral(target);
-            eObject.getTarget().add(target);
         } else {
             this.logger.warn("Reference ReferenceSubsetting not found " + subElement);
         }
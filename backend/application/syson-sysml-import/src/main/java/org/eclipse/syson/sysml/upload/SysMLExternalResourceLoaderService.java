@@ -25,6 +25,8 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.web.application.document.services.api.IExternalResourceLoaderService;
 import org.eclipse.syson.sysml.ASTTransformer;
 import org.eclipse.syson.sysml.SysmlToAst;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
+import org.eclipse.syson.util.SysONEContentAdapter;
 import org.springframework.stereotype.Service;
 
 /**
@@ -48,19 +50,22 @@ public class SysMLExternalResourceLoaderService implements IExternalResourceLoad
 
     @Override
     public Optional<Resource> getResource(InputStream inputStream, URI resourceURI, ResourceSet resourceSet) {
-        Resource resource = null;
         InputStream astStream = this.sysmlToAst.convert(inputStream, resourceURI.fileExtension());
         ASTTransformer tranformer = new ASTTransformer();
-        resource = tranformer.convertResource(astStream, this.previousObjectList(resourceSet));
+        Resource resource = tranformer.convertResource(astStream, this.previousObjectList(resourceSet), SharedLibraries.getSharedLibraries(resourceSet));
         if (resource != null) {
-            resourceSet.getResources().add(resource);
+            SysONEContentAdapter.runBulkEdit(resourceSet, () -> resourceSet.getResources().add(resource));
         }
         return Optional.ofNullable(resource);
     }
 
+    /**
+     * Returns the objects of the resources of the given resource set. The elements of its libraries are found with
+     * their symbols instead, without reading them.
+     */
     private List<EObject> previousObjectList(ResourceSet resourceSet) {
         List<EObject> objectList = new ArrayList<EObject>();
-        resourceSet.getResources().stream().forEach(resource -> {
+        resourceSet.getResources().stream().filter(resource -> !SharedLibraries.isLibrary(resource)).forEach(resource -> {
             resource.getAllContents().forEachRemaining(t -> {
                 if (t != null) {
                     objectList.add(t);
@@ -13,8 +13,14 @@
 package org.eclipse.syson.sysml.finder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.sysml.AstConstant;
 import org.eclipse.syson.sysml.Element;
@@ -22,6 +28,7 @@ import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.OwningMembership;
 import org.eclipse.syson.sysml.Package;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
 import org.eclipse.syson.sysml.mapper.MappingElement;
 import org.junit.jupiter.api.Test;
 
@@ -321,4 +328,73 @@ public class ObjectFinderTest {
         assertEquals(1, finder.getStatFindDirectSearch());
     }
     
-}
\ No newline at end of file
+    @Test
+    void findReferenceLibrarySymbolTest() {
+
+        // Prepare library
+        Namespace libraryRoot = (Namespace) EcoreUtil.create(SysmlPackage.eINSTANCE.getNamespace());
+        OwningMembership membership = (OwningMembership) EcoreUtil.create(SysmlPackage.eINSTANCE.getOwningMembership());
+        membership.setOwningRelatedElement(libraryRoot);
+        Package libraryPackage = (Package) EcoreUtil.create(SysmlPackage.eINSTANCE.getPackage());
+        libraryPackage.setDeclaredName("Library");
+        libraryPackage.setOwningRelationship(membership);
+        ResourceSet librariesResourceSet = new ResourceSetImpl();
+        Resource libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///library"));
+        libraryResource.getContents().add(libraryRoot);
+        librariesResourceSet.getResources().add(libraryResource);
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.createObjectNode();
+        ((ObjectNode) referenceNode).put(AstConstant.REFERENCE_CONST, "Library");
+        MappingElement mapping = new MappingElement(referenceNode, null);
+
+        // Functionnal test
+        ObjectFinder finder = new ObjectFinder();
+
+        // Put library symbols
+        finder.putLibrarySymbols(SharedLibraries.register(librariesResourceSet));
+
+        // Find Element
+        EObject foundedElement = finder.findObject(mapping, mapping.getMainNode(), SysmlPackage.eINSTANCE.getPackage());
+
+        // Assert the library element is found instead of its symbol
+        assertEquals(libraryPackage, foundedElement);
+        assertEquals(1, finder.getStatFindReference());
+        assertEquals(1, finder.getStatFindDirectSearch());
+    }
+
+    @Test
+    void findReferenceMissingLibraryElementTest() {
+
+        // Prepare library
+        Namespace libraryRoot = (Namespace) EcoreUtil.create(SysmlPackage.eINSTANCE.getNamespace());
+        OwningMembership membership = (OwningMembership) EcoreUtil.create(SysmlPackage.eINSTANCE.getOwningMembership());
+        membership.setOwningRelatedElement(libraryRoot);
+        Package libraryPackage = (Package) EcoreUtil.create(SysmlPackage.eINSTANCE.getPackage());
+        libraryPackage.setDeclaredName("Library");
+        libraryPackage.setOwningRelationship(membership);
+        ResourceSet librariesResourceSet = new ResourceSetImpl();
+        Resource libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///library"));
+        libraryResource.getContents().add(libraryRoot);
+        librariesResourceSet.getResources().add(libraryResource);
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.createObjectNode();
+        ((ObjectNode) referenceNode).put(AstConstant.REFERENCE_CONST, "Library");
+        MappingElement mapping = new MappingElement(referenceNode, null);
+
+        // Functionnal test
+        ObjectFinder finder = new ObjectFinder();
+
+        // Put library symbols, then remove the element of the symbol from its library
+        finder.putLibrarySymbols(SharedLibraries.register(librariesResourceSet));
+        libraryResource.getContents().clear();
+
+        // Find Element
+        EObject foundedElement = finder.findObject(mapping, mapping.getMainNode(), SysmlPackage.eINSTANCE.getPackage());
+
+        // Assert the proxy of the symbol is not returned
+        assertNull(foundedElement);
+        assertEquals(1, finder.getStatFindReference());
+    }
+}
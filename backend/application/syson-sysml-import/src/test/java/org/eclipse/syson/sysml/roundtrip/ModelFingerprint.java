@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Relationship;
+
+/**
+ * Summary of a model, used to compare two generations of a model by qualified name.
+ *
+ * <p>
+ * Each named element is described by its type and by the targets of the relationships it owns (typings,
+ * specializations, imports...). Anonymous elements are only counted since they cannot be matched between two
+ * generations.
+ * </p>
+ *
+ * @author gescande
+ */
+public final class ModelFingerprint {
+
+    private static final String ANONYMOUS = "<anonymous>";
+
+    private final Map<String, List<String>> descriptions = new TreeMap<>();
+
+    private int elementCount;
+
+    private int anonymousElementCount;
+
+    private ModelFingerprint() {
+        // Use ModelFingerprint.of(Resource)
+    }
+
+    /**
+     * Computes the fingerprint of the elements contained in the given resource.
+     *
+     * @param resource
+     *            the resource
+     * @return the fingerprint of the resource
+     */
+    public static ModelFingerprint of(Resource resource) {
+        ModelFingerprint fingerprint = new ModelFingerprint();
+        resource.getAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Element element) {
+                fingerprint.add(element);
+            }
+        });
+        fingerprint.descriptions.values().forEach(Collections::sort);
+        return fingerprint;
+    }
+
+    public int getElementCount() {
+        return this.elementCount;
+    }
+
+    public int getAnonymousElementCount() {
+        return this.anonymousElementCount;
+    }
+
+    public int getNamedElementCount() {
+        return this.elementCount - this.anonymousElementCount;
+    }
+
+    /**
+     * Compares the given fingerprint, computed from the next generation of the model, to this one.
+     *
+     * @param nextGeneration
+     *            the fingerprint of the next generation of the model
+     * @return the differences between the two generations
+     */
+    public ModelDiff diff(ModelFingerprint nextGeneration) {
+        List<String> missing = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        for (Entry<String, List<String>> entry : this.descriptions.entrySet()) {
+            List<String> nextDescription = nextGeneration.descriptions.get(entry.getKey());
+            if (nextDescription == null) {
+                missing.add(entry.getKey() + " " + entry.getValue());
+            } else if (!Objects.equals(entry.getValue(), nextDescription)) {
+                changed.add(entry.getKey() + " " + entry.getValue() + " -> " + nextDescription);
+            }
+        }
+        List<String> added = nextGeneration.descriptions.entrySet().stream()
+                .filter(entry -> !this.descriptions.containsKey(entry.getKey()))
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .toList();
+        return new ModelDiff(missing, added, changed, nextGeneration.anonymousElementCount - this.anonymousElementCount);
+    }
+
+    private void add(Element element) {
+        this.elementCount++;
+        String qualifiedName = element.getQualifiedName();
+        if (qualifiedName == null || element instanceof Relationship) {
+            this.anonymousElementCount++;
+        } else {
+            this.descriptions.computeIfAbsent(qualifiedName, key -> new ArrayList<>()).add(this.describe(element));
+        }
+    }
+
+    private String describe(Element element) {
+        List<String> relationships = new ArrayList<>();
+        for (Relationship relationship : element.getOwnedRelationship()) {
+            if (!(relationship instanceof Membership)) {
+                String targets = relationship.getTarget().stream()
+                        .map(this::getQualifiedName)
+                        .collect(Collectors.joining(", "));
+                relationships.add(relationship.eClass().getName() + " " + targets);
+            }
+        }
+        Collections.sort(relationships);
+
+        StringBuilder description = new StringBuilder(element.eClass().getName());
+        if (!relationships.isEmpty()) {
+            description.append(relationships);
+        }
+        return description.toString();
+    }
+
+    private String getQualifiedName(Element element) {
+        String qualifiedName = element.getQualifiedName();
+        if (qualifiedName == null) {
+            qualifiedName = ANONYMOUS;
+        }
+        return qualifiedName;
+    }
+
+    /**
+     * The differences between two generations of a model.
+     *
+     * @param missing
+     *            the elements of the first generation which are not in the next one
+     * @param added
+     *            the elements of the next generation which are not in the first one
+     * @param changed
+     *            the elements found in both generations with a different description
+     * @param anonymousElementDelta
+     *            the difference of number of anonymous elements between the two generations
+     * @author gescande
+     */
+    public record ModelDiff(List<String> missing, List<String> added, List<String> changed, int anonymousElementDelta) {
+
+        public boolean isEmpty() {
+            return this.missing.isEmpty() && this.added.isEmpty() && this.changed.isEmpty() && this.anonymousElementDelta == 0;
+        }
+    }
+}
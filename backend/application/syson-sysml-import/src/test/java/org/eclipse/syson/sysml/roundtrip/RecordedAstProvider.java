@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.syson.sysml.SysmlToAst;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the syside AST of a SysML textual content from a folder of recordings, so that the round trip does not need
+ * Node.
+ *
+ * <p>
+ * The recordings are named after the SHA-256 of the textual content (with normalized line separators). When a
+ * {@link SysmlToAst} is given, the missing recordings are computed with syside and saved in the folder, this is how
+ * the recordings are created or updated after a change of the corpus or of the export.
+ * </p>
+ *
+ * @author gescande
+ */
+public class RecordedAstProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordedAstProvider.class);
+
+    private static final String RECORDING_EXTENSION = ".json";
+
+    private final Path recordingFolder;
+
+    private final Optional<SysmlToAst> recorder;
+
+    public RecordedAstProvider(Path recordingFolder, Optional<SysmlToAst> recorder) {
+        this.recordingFolder = Objects.requireNonNull(recordingFolder);
+        this.recorder = Objects.requireNonNull(recorder);
+    }
+
+    /**
+     * Returns the AST of the given textual content.
+     *
+     * @param textualContent
+     *            a SysML textual content
+     * @return the JSON AST, or an empty optional if it has not been recorded and cannot be computed
+     */
+    public Optional<byte[]> getAst(String textualContent) {
+        String normalizedContent = textualContent.replace("\r\n", "\n");
+        Path recording = this.recordingFolder.resolve(this.getKey(normalizedContent) + RECORDING_EXTENSION);
+        Optional<byte[]> ast = Optional.empty();
+        try {
+            if (Files.exists(recording)) {
+                ast = Optional.of(Files.readAllBytes(recording));
+            } else if (this.recorder.isPresent()) {
+                ast = this.record(normalizedContent, recording);
+            } else {
+                LOGGER.warn("No AST recorded in {} for the content:\n{}", recording, normalizedContent);
+            }
+        } catch (IOException exception) {
+            LOGGER.error(exception.getMessage());
+        }
+        return ast;
+    }
+
+    private Optional<byte[]> record(String textualContent, Path recording) throws IOException {
+        Optional<byte[]> ast = Optional.empty();
+        InputStream astStream = this.recorder.get().convert(new ByteArrayInputStream(textualContent.getBytes(StandardCharsets.UTF_8)), "sysml");
+        if (astStream != null) {
+            byte[] content = astStream.readAllBytes();
+            if (content.length > 0) {
+                Files.createDirectories(this.recordingFolder);
+                Files.write(recording, content);
+                LOGGER.info("AST recorded in {}", recording);
+                ast = Optional.of(content);
+            }
+        }
+        return ast;
+    }
+
+    private String getKey(String textualContent) {
+        String key = Integer.toHexString(textualContent.hashCode());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            key = HexFormat.of().formatHex(digest.digest(textualContent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            LOGGER.error(exception.getMessage());
+        }
+        return key;
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.ASTTransformer;
+import org.eclipse.syson.sysml.export.SysMLElementSerializer;
+import org.eclipse.syson.sysml.export.utils.Status;
+
+/**
+ * Runs a SysML textual content through the whole import → export → import round trip.
+ *
+ * <p>
+ * Each stage is timed separately: getting the AST of the text, transforming the AST into a model (first generation),
+ * exporting this model to text, getting the AST of the exported text and transforming it into a model again (second
+ * generation). The second generation is then compared to the first one by qualified name.
+ * </p>
+ *
+ * @author gescande
+ */
+public class RoundTripHarness {
+
+    public static final String AST_STAGE = "ast";
+
+    public static final String IMPORT_STAGE = "import";
+
+    public static final String EXPORT_STAGE = "export";
+
+    public static final String SECOND_AST_STAGE = "ast (gen 2)";
+
+    public static final String SECOND_IMPORT_STAGE = "import (gen 2)";
+
+    public static final String DIFF_STAGE = "diff";
+
+    public static final List<String> STAGES = List.of(AST_STAGE, IMPORT_STAGE, EXPORT_STAGE, SECOND_AST_STAGE, SECOND_IMPORT_STAGE, DIFF_STAGE);
+
+    private final RecordedAstProvider astProvider;
+
+    public RoundTripHarness(RecordedAstProvider astProvider) {
+        this.astProvider = Objects.requireNonNull(astProvider);
+    }
+
+    /**
+     * Runs the round trip of the given content.
+     *
+     * @param name
+     *            the name of the content, used in the report
+     * @param textualContent
+     *            the SysML textual content
+     * @return the result of the round trip
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public RoundTripResult run(String name, String textualContent) {
+        Map<String, Duration> durations = new LinkedHashMap<>();
+        RoundTripResult result;
+        try {
+            result = this.run(name, textualContent, durations);
+        } catch (RuntimeException exception) {
+            // The stages are executed in order, the failing one is the first stage without duration
+            String stage = STAGES.get(Math.min(durations.size(), STAGES.size() - 1));
+            StringBuilder failure = new StringBuilder("Error during the " + stage + " stage: " + exception);
+            if (exception.getStackTrace().length > 0) {
+                failure.append(" at ").append(exception.getStackTrace()[0]);
+            }
+            result = RoundTripResult.failure(name, durations, failure.toString());
+        }
+        return result;
+    }
+
+    private RoundTripResult run(String name, String textualContent, Map<String, Duration> durations) {
+        Optional<byte[]> ast = this.time(durations, AST_STAGE, () -> this.astProvider.getAst(textualContent));
+        if (ast.isEmpty()) {
+            return RoundTripResult.failure(name, durations, "No AST available for the corpus file");
+        }
+        Resource firstGeneration = this.time(durations, IMPORT_STAGE, () -> this.importAst(ast.get()));
+
+        List<Status> status = new ArrayList<>();
+        String exportedContent = this.time(durations, EXPORT_STAGE, () -> this.export(firstGeneration, status));
+
+        RoundTripResult result;
+        Optional<byte[]> exportedAst = this.time(durations, SECOND_AST_STAGE, () -> this.astProvider.getAst(exportedContent));
+        if (exportedAst.isPresent()) {
+            Resource secondGeneration = this.time(durations, SECOND_IMPORT_STAGE, () -> this.importAst(exportedAst.get()));
+
+            ModelFingerprint firstFingerprint = ModelFingerprint.of(firstGeneration);
+            ModelFingerprint.ModelDiff diff = this.time(durations, DIFF_STAGE, () -> firstFingerprint.diff(ModelFingerprint.of(secondGeneration)));
+            result = new RoundTripResult(name, durations, firstFingerprint.getElementCount(), exportedContent, status.size(), Optional.of(diff), Optional.empty());
+        } else {
+            result = RoundTripResult.failure(name, durations, "No AST available for the exported content:\n" + exportedContent);
+        }
+        return result;
+    }
+
+    private Resource importAst(byte[] ast) {
+        return new ASTTransformer().convertResource(new ByteArrayInputStream(ast), List.of());
+    }
+
+    private String export(Resource resource, List<Status> status) {
+        SysMLElementSerializer serializer = new SysMLElementSerializer(status::add);
+        StringBuilder builder = new StringBuilder();
+        for (EObject root : resource.getContents()) {
+            String textualForm = serializer.doSwitch(root);
+            if (textualForm != null) {
+                builder.append(textualForm);
+            }
+        }
+        return builder.toString();
+    }
+
+    private <T> T time(Map<String, Duration> durations, String stage, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        T result = supplier.get();
+        durations.put(stage, Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Aggregates the results of several iterations of the round trip of the corpus files and writes them as a Markdown
+ * report.
+ *
+ * <p>
+ * The timings of each stage are given as the mean and the minimum over the iterations. The fidelity is the one of the
+ * last iteration.
+ * </p>
+ *
+ * @author gescande
+ */
+public class RoundTripReport {
+
+    private static final String NEW_LINE = "\n";
+
+    private static final String CELL_SEPARATOR = " | ";
+
+    private static final String LIST_ITEM = "- ";
+
+    private final Map<String, List<RoundTripResult>> results = new LinkedHashMap<>();
+
+    public void add(RoundTripResult result) {
+        this.results.computeIfAbsent(result.name(), key -> new ArrayList<>()).add(Objects.requireNonNull(result));
+    }
+
+    public List<RoundTripResult> getLastResults() {
+        return this.results.values().stream()
+                .map(fileResults -> fileResults.get(fileResults.size() - 1))
+                .toList();
+    }
+
+    /**
+     * Writes the report in the given file.
+     *
+     * @param reportFile
+     *            the path of the report
+     * @throws IOException
+     *             if the report cannot be written
+     */
+    public void write(Path reportFile) throws IOException {
+        Path folder = reportFile.toAbsolutePath().getParent();
+        if (folder != null) {
+            Files.createDirectories(folder);
+        }
+        Files.writeString(reportFile, this.toMarkdown(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the content of the report.
+     *
+     * @return the report, in Markdown
+     */
+    public String toMarkdown() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("# SysML round trip report").append(NEW_LINE).append(NEW_LINE);
+        builder.append("Stage durations in ms, mean (min) over the iterations.").append(NEW_LINE).append(NEW_LINE);
+
+        builder.append("| File | Elements | Iterations");
+        for (String stage : RoundTripHarness.STAGES) {
+            builder.append(CELL_SEPARATOR).append(stage);
+        }
+        builder.append(" | total | elements/s | fidelity |").append(NEW_LINE);
+        builder.append("|---|---:|---:");
+        builder.append("|---:".repeat(RoundTripHarness.STAGES.size()));
+        builder.append("|---:|---:|---|").append(NEW_LINE);
+
+        for (List<RoundTripResult> fileResults : this.results.values()) {
+            this.appendTimings(builder, fileResults);
+        }
+
+        builder.append(NEW_LINE).append("## Fidelity").append(NEW_LINE);
+        for (RoundTripResult result : this.getLastResults()) {
+            this.appendFidelity(builder, result);
+        }
+        return builder.toString();
+    }
+
+    private void appendTimings(StringBuilder builder, List<RoundTripResult> fileResults) {
+        RoundTripResult lastResult = fileResults.get(fileResults.size() - 1);
+        builder.append("| ").append(lastResult.name())
+                .append(CELL_SEPARATOR).append(lastResult.elementCount())
+                .append(CELL_SEPARATOR).append(fileResults.size());
+        for (String stage : RoundTripHarness.STAGES) {
+            List<Duration> durations = fileResults.stream()
+                    .map(result -> result.stageDurations().get(stage))
+                    .filter(Objects::nonNull)
+                    .toList();
+            builder.append(CELL_SEPARATOR).append(this.format(durations));
+        }
+        List<Duration> totals = fileResults.stream().map(RoundTripResult::getTotalDuration).toList();
+        builder.append(CELL_SEPARATOR).append(this.format(totals));
+
+        double meanSeconds = this.mean(totals) / 1_000_000_000d;
+        String throughput = "-";
+        if (meanSeconds > 0 && lastResult.elementCount() > 0) {
+            throughput = String.format("%.0f", lastResult.elementCount() / meanSeconds);
+        }
+        builder.append(CELL_SEPARATOR).append(throughput);
+
+        String fidelity = "ok";
+        if (lastResult.failure().isPresent()) {
+            fidelity = "failed";
+        } else if (!lastResult.isFaithful()) {
+            fidelity = "differences";
+        }
+        builder.append(CELL_SEPARATOR).append(fidelity).append(" |").append(NEW_LINE);
+    }
+
+    private void appendFidelity(StringBuilder builder, RoundTripResult result) {
+        builder.append(NEW_LINE).append("### ").append(result.name()).append(NEW_LINE).append(NEW_LINE);
+        result.failure().ifPresent(failure -> builder.append("Round trip not completed: ").append(failure).append(NEW_LINE));
+        result.diff().ifPresent(diff -> {
+            if (diff.isEmpty()) {
+                builder.append("The second generation matches the first one.").append(NEW_LINE);
+            }
+            this.appendItems(builder, "Missing in the second generation", diff.missing());
+            this.appendItems(builder, "Added in the second generation", diff.added());
+            this.appendItems(builder, "Changed in the second generation", diff.changed());
+            if (diff.anonymousElementDelta() != 0) {
+                builder.append("Difference of anonymous elements: ").append(diff.anonymousElementDelta()).append(NEW_LINE);
+            }
+        });
+        if (result.exportStatusCount() > 0) {
+            builder.append("Statuses reported by the export: ").append(result.exportStatusCount()).append(NEW_LINE);
+        }
+    }
+
+    private void appendItems(StringBuilder builder, String title, List<String> items) {
+        if (!items.isEmpty()) {
+            builder.append(title).append(':').append(NEW_LINE);
+            for (String item : items) {
+                builder.append(LIST_ITEM).append(item).append(NEW_LINE);
+            }
+        }
+    }
+
+    private String format(List<Duration> durations) {
+        String formatted = "-";
+        if (!durations.isEmpty()) {
+            long min = durations.stream().mapToLong(Duration::toNanos).min().orElse(0);
+            formatted = String.format("%.2f (%.2f)", this.mean(durations) / 1_000_000d, min / 1_000_000d);
+        }
+        return formatted;
+    }
+
+    private double mean(List<Duration> durations) {
+        return durations.stream().mapToLong(Duration::toNanos).average().orElse(0);
+    }
+}
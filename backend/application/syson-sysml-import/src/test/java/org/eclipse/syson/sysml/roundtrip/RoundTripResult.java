@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The result of the round trip of a corpus file.
+ *
+ * @param name
+ *            the name of the corpus file
+ * @param stageDurations
+ *            the duration of each executed stage, in execution order
+ * @param elementCount
+ *            the number of elements of the first generation of the model
+ * @param exportedContent
+ *            the textual content exported from the first generation
+ * @param exportStatusCount
+ *            the number of statuses (unsupported elements...) reported by the export
+ * @param diff
+ *            the differences between the two generations, empty if the round trip has not been completed
+ * @param failure
+ *            the reason why the round trip has not been completed
+ * @author gescande
+ */
+public record RoundTripResult(String name, Map<String, Duration> stageDurations, int elementCount, String exportedContent, int exportStatusCount, Optional<ModelFingerprint.ModelDiff> diff,
+        Optional<String> failure) {
+
+    public static RoundTripResult failure(String name, Map<String, Duration> stageDurations, String failure) {
+        return new RoundTripResult(name, stageDurations, 0, "", 0, Optional.empty(), Optional.of(failure));
+    }
+
+    public Duration getTotalDuration() {
+        return this.stageDurations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public boolean isFaithful() {
+        return this.diff.map(ModelFingerprint.ModelDiff::isEmpty).orElse(false);
+    }
+}
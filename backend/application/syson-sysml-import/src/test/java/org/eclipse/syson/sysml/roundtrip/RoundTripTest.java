@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.roundtrip;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.eclipse.syson.sysml.SysmlToAst;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the files of the round trip corpus through import → export → import and reports the duration of each stage and
+ * the differences between the second generation of each model and the first one.
+ *
+ * <p>
+ * The ASTs are read from the recordings of <code>src/test/resources/roundtrip/ast</code> so that Node is not needed.
+ * After a change of the corpus or of the export, the missing recordings can be computed with
+ * <code>-Dsyson.roundtrip.syside=path/to/syside-cli.js</code>. The number of iterations used to measure the duration
+ * of each stage can be changed with <code>-Dsyson.roundtrip.iterations=20</code>. The report is written in
+ * <code>target/roundtrip-report.md</code>.
+ * </p>
+ *
+ * <p>
+ * The test fails when a round trip is not completed or when the second generation of a model differs from the first
+ * one, except for the known differences listed in {@link #KNOWN_DIFFERENCES} which must still be found.
+ * </p>
+ *
+ * @author gescande
+ */
+public class RoundTripTest {
+
+    private static final Path CORPUS_FOLDER = Path.of("src", "test", "resources", "roundtrip");
+
+    private static final Path REPORT_FILE = Path.of("target", "roundtrip-report.md");
+
+    /**
+     * The corpus files whose round trip is known to be unfaithful, with the reason of the differences.
+     */
+    private static final Map<String, String> KNOWN_DIFFERENCES = Map.of(
+            "interfaces.sysml", "the usages of items and ports are not exported",
+            "requirements.sysml", "the requirement definitions are not exported");
+
+    @Test
+    public void roundTripCorpus() throws IOException {
+        Optional<SysmlToAst> recorder = Optional.ofNullable(System.getProperty("syson.roundtrip.syside")).map(SysmlToAst::new);
+        RoundTripHarness harness = new RoundTripHarness(new RecordedAstProvider(CORPUS_FOLDER.resolve("ast"), recorder));
+        int iterations = Integer.getInteger("syson.roundtrip.iterations", 1);
+
+        List<Path> corpusFiles;
+        try (Stream<Path> files = Files.list(CORPUS_FOLDER)) {
+            corpusFiles = files.filter(file -> file.getFileName().toString().endsWith(".sysml")).sorted().toList();
+        }
+        assertFalse(corpusFiles.isEmpty());
+
+        RoundTripReport report = new RoundTripReport();
+        for (Path corpusFile : corpusFiles) {
+            String content = Files.readString(corpusFile, StandardCharsets.UTF_8);
+            for (int i = 0; i < iterations; i++) {
+                report.add(harness.run(corpusFile.getFileName().toString(), content));
+            }
+        }
+        report.write(REPORT_FILE);
+
+        assertEquals(corpusFiles.size(), report.getLastResults().size());
+        assertTrue(Files.exists(REPORT_FILE));
+        for (RoundTripResult result : report.getLastResults()) {
+            assertTrue(result.failure().isEmpty(), report::toMarkdown);
+            String knownDifference = KNOWN_DIFFERENCES.get(result.name());
+            if (knownDifference == null) {
+                assertTrue(result.isFaithful(), report::toMarkdown);
+            } else {
+                assertFalse(result.isFaithful(), () -> result.name() + " is now faithful (" + knownDifference + "), remove it from the known differences");
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.impl.ElementImpl;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Builds detached subtrees of elements without notifying their modifications, then attaches each subtree to a model
+ * in a single containment operation.
+ *
+ * <p>
+ * The created elements do not deliver notifications until they are attached: building a subtree does not invalidate
+ * the derived feature caches and the adapters of the models only receive the notification of the attachment of its
+ * root, the content adapters adding themselves to the whole subtree at once. When a subtree is attached, the lists of
+ * its elements are trimmed to their size and the elements of the standard libraries get their name-based identifiers,
+ * which can only be computed once their qualified names are known.
+ * </p>
+ * <p>
+ * The derived features of the created elements which are cached must not be read before they are attached, since
+ * their modifications do not invalidate the caches. The builder is thus meant for large subtrees whose structure is
+ * known upfront, such as the default content of a new resource or the content of an imported textual model, whose
+ * references are resolved with the qualified names of its syntax tree instead of those of the created elements. It
+ * does not suit the creation of a few elements from the diagrams, whose cost does not come from the notifications.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class BulkModelBuilder {
+
+    private final List<Element> elements = new ArrayList<>();
+
+    /**
+     * Creates a detached element.
+     *
+     * @param <T>
+     *            the type of the element
+     * @param type
+     *            the interface of a concrete SysML class
+     * @return the new element
+     */
+    public <T extends Element> T create(Class<T> type) {
+        return type.cast(this.create((EClass) SysmlPackage.eINSTANCE.getEClassifier(type.getSimpleName())));
+    }
+
+    /**
+     * Creates a detached element of the given class.
+     *
+     * @param eClass
+     *            a concrete SysML class
+     * @return the new element
+     */
+    public Element create(EClass eClass) {
+        Element element = (Element) SysmlFactory.eINSTANCE.create(eClass);
+        element.eSetDeliver(false);
+        this.elements.add(element);
+        return element;
+    }
+
+    /**
+     * Creates an element owned by the given owner. Relationships are directly owned, features owned by a type are owned
+     * through a feature membership and the other elements through an owning membership.
+     *
+     * @param <T>
+     *            the type of the element
+     * @param type
+     *            the interface of a concrete SysML class
+     * @param owner
+     *            an element created by this builder
+     * @return the new element
+     */
+    public <T extends Element> T createIn(Class<T> type, Element owner) {
+        T element = this.create(type);
+        if (element instanceof Relationship relationship) {
+            owner.getOwnedRelationship().add(relationship);
+        } else {
+            OwningMembership membership;
+            if (element instanceof Feature && owner instanceof Type) {
+                membership = this.create(FeatureMembership.class);
+            } else {
+                membership = this.create(OwningMembership.class);
+            }
+            owner.getOwnedRelationship().add(membership);
+            membership.getOwnedRelatedElement().add(element);
+        }
+        return element;
+    }
+
+    /**
+     * Creates a named element owned by the given owner (see {@link #createIn(Class, Element)}).
+     *
+     * @param <T>
+     *            the type of the element
+     * @param type
+     *            the interface of a concrete SysML class
+     * @param owner
+     *            an element created by this builder
+     * @param declaredName
+     *            the declared name of the element
+     * @return the new element
+     */
+    public <T extends Element> T createInWithName(Class<T> type, Element owner, String declaredName) {
+        T element = this.createIn(type, owner);
+        element.setDeclaredName(declaredName);
+        return element;
+    }
+
+    /**
+     * Allocates the list of the owned relationships of the given element for the given number of relationships, so
+     * that it does not grow while they are added.
+     *
+     * @param owner
+     *            an element created by this builder
+     * @param ownedRelationshipCount
+     *            the number of relationships which will be owned by the element
+     */
+    public void reserve(Element owner, int ownedRelationshipCount) {
+        if (owner.getOwnedRelationship() instanceof BasicEList<?> ownedRelationships) {
+            ownedRelationships.grow(ownedRelationshipCount);
+        }
+    }
+
+    /**
+     * Attaches a subtree built by this builder to an element of a model.
+     *
+     * @param root
+     *            the root of the subtree, which is owned through an owning membership if it is not a relationship
+     * @param owner
+     *            the new owner of the subtree
+     */
+    public void attach(Element root, Element owner) {
+        Relationship relationship;
+        if (root instanceof Relationship rootRelationship) {
+            relationship = rootRelationship;
+        } else {
+            OwningMembership membership = this.create(OwningMembership.class);
+            membership.getOwnedRelatedElement().add(root);
+            relationship = membership;
+        }
+        this.prepareAttachment();
+        owner.getOwnedRelationship().add(relationship);
+        this.completeAttachment();
+    }
+
+    /**
+     * Attaches a subtree built by this builder as a root of a resource.
+     *
+     * @param root
+     *            the root of the subtree
+     * @param resource
+     *            the resource containing the subtree
+     */
+    public void attach(Element root, Resource resource) {
+        this.prepareAttachment();
+        resource.getContents().add(root);
+        this.completeAttachment();
+    }
+
+    private void prepareAttachment() {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        for (Element element : this.elements) {
+            if (element.eIsSet(sysmlPackage.getElement_OwnedRelationship()) && element.getOwnedRelationship() instanceof BasicEList<?> ownedRelationships) {
+                ownedRelationships.shrink();
+            }
+            if (element instanceof Relationship relationship && relationship.eIsSet(sysmlPackage.getRelationship_OwnedRelatedElement())
+                    && relationship.getOwnedRelatedElement() instanceof BasicEList<?> ownedRelatedElements) {
+                ownedRelatedElements.shrink();
+            }
+            if (element instanceof ElementImpl elementImpl) {
+                // The values computed while the element was created may be outdated by the modifications which followed
+                elementImpl.clearCaches();
+            }
+            element.eSetDeliver(true);
+        }
+    }
+
+    private void completeAttachment() {
+        for (Element element : this.elements) {
+            if (ElementUtil.isFromStandardLibrary(element)) {
+                // An identifier is not used by the derived features, its modification does not need to be notified
+                element.eSetDeliver(false);
+                element.setElementId(ElementUtil.generateUUID(element).toString());
+                element.eSetDeliver(true);
+            }
+        }
+        this.elements.clear();
+    }
+}
@@ -0,0 +1,835 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Expression;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureChainExpression;
+import org.eclipse.syson.sysml.FeatureReferenceExpression;
+import org.eclipse.syson.sysml.FeatureValue;
+import org.eclipse.syson.sysml.InvocationExpression;
+import org.eclipse.syson.sysml.LiteralBoolean;
+import org.eclipse.syson.sysml.LiteralExpression;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.LiteralRational;
+import org.eclipse.syson.sysml.LiteralString;
+import org.eclipse.syson.sysml.NullExpression;
+import org.eclipse.syson.sysml.OperatorExpression;
+import org.eclipse.syson.sysml.ParameterMembership;
+import org.eclipse.syson.sysml.Redefinition;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.ResultExpressionMembership;
+import org.eclipse.syson.sysml.ReturnParameterMembership;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.impl.ElementImpl;
+
+/**
+ * The compiled form of an expression, or of the result expression of a function, a calculation or a constraint.
+ *
+ * <p>
+ * The expression tree is compiled once into a tree of closures, which is kept by the root element of the tree until
+ * one of the elements of the tree is modified (see {@link ElementImpl#getCompiledExpression()}). The values of the
+ * referenced features and the bodies of the invoked functions are not part of the tree, they are read, and compiled if
+ * needed, at each evaluation. The operators on booleans, integers, reals and strings are evaluated on Java values
+ * without creating the intermediate sequences of values; literal elements are only created for the primitive values
+ * returned by {@link #evaluate(Element)}.
+ * </p>
+ *
+ * <p>
+ * Only the expressions which can be evaluated without an instance of the model are supported: the operators which are
+ * not supported, as well as the expressions referencing themselves, are evaluated to an empty sequence.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class CompiledExpression {
+
+    private static final Node EMPTY = target -> List.of();
+
+    /**
+     * The features and invocations being evaluated by the current thread, used to stop the evaluation of cyclic
+     * expressions.
+     */
+    private static final ThreadLocal<Set<Element>> EVALUATING = ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private final Node root;
+
+    private CompiledExpression(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the compiled form of the given expression, or of the result expression of the given type, compiling it
+     * only if its tree has been modified since its last compilation.
+     *
+     * @param expression
+     *            an expression, a function, a calculation or a constraint
+     * @return the compiled expression
+     */
+    public static CompiledExpression of(Type expression) {
+        CompiledExpression compiledExpression = null;
+        if (expression instanceof ElementImpl element) {
+            compiledExpression = element.getCompiledExpression();
+            if (compiledExpression == null) {
+                ModificationCounts counts = ModificationCounts.of(element);
+                long modificationCount = counts.getContentModificationCount();
+                compiledExpression = new CompiledExpression(compile(expression));
+                // Do not keep a compiled form if the tree has been modified during its compilation
+                if (modificationCount == counts.getContentModificationCount()) {
+                    element.setCompiledExpression(compiledExpression);
+                }
+            }
+        } else {
+            compiledExpression = new CompiledExpression(compile(expression));
+        }
+        return compiledExpression;
+    }
+
+    /**
+     * Evaluates this expression on the given target.
+     *
+     * @param target
+     *            the element providing the values of the referenced features, may be <code>null</code>
+     * @return the values of the expression, the primitive values being returned as new literal expressions which are
+     *         not contained by any model
+     */
+    public EList<Element> evaluate(Element target) {
+        List<Object> values = this.root.evaluate(target);
+        EList<Element> elements = new BasicEList<>(values.size());
+        values.stream().map(CompiledExpression::toElement).forEach(elements::add);
+        return elements;
+    }
+
+    /**
+     * Returns <code>true</code> if this expression is evaluated to a single <code>true</code> value on the given
+     * target.
+     *
+     * @param target
+     *            the element providing the values of the referenced features, may be <code>null</code>
+     * @return <code>true</code> if the condition holds
+     */
+    public boolean checkCondition(Element target) {
+        return Boolean.TRUE.equals(this.root.evaluateScalar(target));
+    }
+
+    /**
+     * Returns the feature of the given type which is, or redefines directly or indirectly, the given feature.
+     *
+     * @param type
+     *            a type
+     * @param feature
+     *            a feature
+     * @return the feature of the type, or <code>null</code> if the type does not have such a feature
+     */
+    public static Feature findFeature(Type type, Feature feature) {
+        Feature found = null;
+        for (Feature candidate : type.getFeature()) {
+            if (candidate != feature && redefines(candidate, feature, new HashSet<>())) {
+                // A redefining feature hides the redefined one
+                return candidate;
+            } else if (candidate == feature) {
+                found = candidate;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the expression giving the value of the given feature, or of a feature it redefines directly or
+     * indirectly.
+     *
+     * @param feature
+     *            a feature
+     * @return the value expression, or <code>null</code> if the feature does not have a value
+     */
+    public static Expression getFeatureValue(Feature feature) {
+        Expression value = null;
+        List<Feature> features = new ArrayList<>();
+        features.add(feature);
+        for (int i = 0; i < features.size() && value == null; i++) {
+            Feature current = features.get(i);
+            value = current.getOwnedRelationship().stream()
+                    .filter(FeatureValue.class::isInstance)
+                    .map(FeatureValue.class::cast)
+                    .map(FeatureValue::getValue)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            current.getOwnedRelationship().stream()
+                    .filter(Redefinition.class::isInstance)
+                    .map(Redefinition.class::cast)
+                    .map(Redefinition::getRedefinedFeature)
+                    .filter(redefined -> redefined != null && !features.contains(redefined))
+                    .forEach(features::add);
+        }
+        return value;
+    }
+
+    private static boolean redefines(Feature feature, Feature redefinedFeature, Set<Feature> visited) {
+        for (Redefinition redefinition : feature.getOwnedRedefinition()) {
+            Feature redefined = redefinition.getRedefinedFeature();
+            if (redefined == redefinedFeature || redefined != null && visited.add(redefined) && redefines(redefined, redefinedFeature, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node compile(Element element) {
+        Node node = EMPTY;
+        if (element instanceof LiteralBoolean literal) {
+            node = new LiteralNode(literal, literal.isValue());
+        } else if (element instanceof LiteralInteger literal) {
+            node = new LiteralNode(literal, literal.getValue());
+        } else if (element instanceof LiteralRational literal) {
+            node = new LiteralNode(literal, literal.getValue());
+        } else if (element instanceof LiteralString literal) {
+            node = new LiteralNode(literal, literal.getValue());
+        } else if (element instanceof LiteralExpression literal) {
+            node = new LiteralNode(literal, literal);
+        } else if (element instanceof NullExpression) {
+            node = EMPTY;
+        } else if (element instanceof FeatureChainExpression expression) {
+            node = compileFeatureChain(expression);
+        } else if (element instanceof OperatorExpression expression) {
+            node = compileOperator(expression.getOperator(), expression.getArgument().stream().map(CompiledExpression::compile).toList());
+        } else if (element instanceof FeatureReferenceExpression expression) {
+            Feature referent = expression.getReferent();
+            if (referent != null) {
+                node = target -> evaluateFeature(referent, target);
+            }
+        } else if (element instanceof InvocationExpression expression) {
+            node = compileInvocation(expression, expression.getType());
+        } else if (element instanceof Type type) {
+            Expression resultExpression = getResultExpression(type);
+            if (resultExpression != null) {
+                node = compile(resultExpression);
+            } else if (type instanceof Feature feature) {
+                // A calculation or a constraint without a body is evaluated with the body of its definition
+                node = compileInvocation(feature, feature.getType());
+            }
+        }
+        return node;
+    }
+
+    private static Node compileFeatureChain(FeatureChainExpression expression) {
+        Node source = argument(expression.getArgument().stream().map(CompiledExpression::compile).toList(), 0);
+        Feature targetFeature = expression.getTargetFeature();
+        Node node = EMPTY;
+        if (targetFeature != null) {
+            node = target -> {
+                List<Object> values = new ArrayList<>();
+                for (Object value : source.evaluate(target)) {
+                    if (value instanceof Type type) {
+                        values.addAll(evaluateFeature(targetFeature, type));
+                    }
+                }
+                return values;
+            };
+        }
+        return node;
+    }
+
+    private static Node compileInvocation(Feature invocation, List<Type> types) {
+        // The invoked function is not part of the tree: its body is looked up at each evaluation
+        return target -> {
+            Type function = types.stream()
+                    .filter(type -> getResultExpression(type) != null)
+                    .findFirst()
+                    .orElse(null);
+            List<Object> values = List.of();
+            if (function != null) {
+                // The parameters of the invocation give their values to the parameters of the function
+                values = evaluateGuarded(invocation, () -> of(function).root.evaluate(invocation));
+            }
+            return values;
+        };
+    }
+
+    private static Expression getResultExpression(Type type) {
+        Expression resultExpression = null;
+        for (Relationship relationship : type.getOwnedRelationship()) {
+            if (relationship instanceof ResultExpressionMembership membership && membership.getOwnedResultExpression() != null) {
+                resultExpression = membership.getOwnedResultExpression();
+            }
+        }
+        return resultExpression;
+    }
+
+    private static List<Object> evaluateFeature(Feature referent, Element target) {
+        Feature feature = null;
+        if (target instanceof InvocationExpression invocation) {
+            // The arguments are given by position, the parameters of the invocation may not redefine the ones of the
+            // invoked function
+            feature = findArgumentParameter(invocation, referent);
+        }
+        if (feature == null && target instanceof Type type) {
+            feature = findFeature(type, referent);
+        }
+        if (feature == null) {
+            feature = referent;
+        }
+        List<Object> values = List.of(feature);
+        Expression value = getFeatureValue(feature);
+        if (value != null) {
+            values = evaluateGuarded(feature, () -> of(value).root.evaluate(target));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the parameter of the given invocation at the same position as the given parameter of the invoked
+     * function.
+     */
+    private static Feature findArgumentParameter(InvocationExpression invocation, Feature parameter) {
+        Feature argumentParameter = null;
+        if (parameter.getOwningMembership() instanceof ParameterMembership && parameter.getOwningNamespace() instanceof Type function) {
+            int index = getParameters(function).indexOf(parameter);
+            List<Feature> argumentParameters = getParameters(invocation);
+            if (index >= 0 && index < argumentParameters.size()) {
+                argumentParameter = argumentParameters.get(index);
+            }
+        }
+        return argumentParameter;
+    }
+
+    private static List<Feature> getParameters(Type type) {
+        return type.getOwnedRelationship().stream()
+                .filter(ParameterMembership.class::isInstance)
+                .filter(membership -> !(membership instanceof ReturnParameterMembership))
+                .map(ParameterMembership.class::cast)
+                .map(ParameterMembership::getOwnedMemberParameter)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<Object> evaluateGuarded(Element element, Supplier<List<Object>> evaluation) {
+        Set<Element> evaluating = EVALUATING.get();
+        List<Object> values = List.of();
+        if (evaluating.add(element)) {
+            try {
+                values = evaluation.get();
+            } finally {
+                evaluating.remove(element);
+            }
+        }
+        return values;
+    }
+
+    private static Node compileOperator(String operator, List<Node> arguments) {
+        Node node;
+        switch (Objects.requireNonNullElse(operator, "")) {
+            case "+":
+                node = compilePlus(arguments);
+                break;
+            case "-":
+                node = compileMinus(arguments);
+                break;
+            case "*":
+                node = arithmetic(arguments, (a, b) -> toInteger(a * b), (a, b) -> a * b);
+                break;
+            case "/":
+                node = arithmetic(arguments, (a, b) -> divide(a, b), (a, b) -> a / b);
+                break;
+            case "%":
+                node = arithmetic(arguments, (a, b) -> modulo(a, b), (a, b) -> a % b);
+                break;
+            case "^":
+            case "**":
+                node = arithmetic(arguments, (a, b) -> power(a, b), Math::pow);
+                break;
+            case "<":
+                node = comparison(arguments, comparison -> comparison < 0);
+                break;
+            case ">":
+                node = comparison(arguments, comparison -> comparison > 0);
+                break;
+            case "<=":
+                node = comparison(arguments, comparison -> comparison <= 0);
+                break;
+            case ">=":
+                node = comparison(arguments, comparison -> comparison >= 0);
+                break;
+            case "==":
+            case "===":
+                node = equality(arguments, true);
+                break;
+            case "!=":
+            case "!==":
+                node = equality(arguments, false);
+                break;
+            default:
+                node = compileLogicalOrSequenceOperator(operator, arguments);
+                break;
+        }
+        return node;
+    }
+
+    private static Node compileLogicalOrSequenceOperator(String operator, List<Node> arguments) {
+        Node first = argument(arguments, 0);
+        Node second = argument(arguments, 1);
+        Node node = EMPTY;
+        switch (operator) {
+            case "not":
+                node = (ScalarNode) target -> {
+                    Boolean negation = null;
+                    if (first.evaluateScalar(target) instanceof Boolean booleanValue) {
+                        negation = !booleanValue;
+                    }
+                    return negation;
+                };
+                break;
+            case "and":
+                node = (ScalarNode) target -> conditional(first.evaluateScalar(target), Boolean.FALSE, second, target);
+                break;
+            case "or":
+                node = (ScalarNode) target -> conditional(first.evaluateScalar(target), Boolean.TRUE, second, target);
+                break;
+            case "implies":
+                node = (ScalarNode) target -> {
+                    Object value = first.evaluateScalar(target);
+                    Object result = null;
+                    if (Boolean.FALSE.equals(value)) {
+                        result = Boolean.TRUE;
+                    } else if (Boolean.TRUE.equals(value)) {
+                        result = toBoolean(second.evaluateScalar(target));
+                    }
+                    return result;
+                };
+                break;
+            case "&":
+                node = logical(first, second, (a, b) -> a & b);
+                break;
+            case "|":
+                node = logical(first, second, (a, b) -> a | b);
+                break;
+            case "xor":
+                node = logical(first, second, (a, b) -> a ^ b);
+                break;
+            case "if":
+                Node third = argument(arguments, 2);
+                node = target -> {
+                    Object condition = first.evaluateScalar(target);
+                    List<Object> values = List.of();
+                    if (Boolean.TRUE.equals(condition)) {
+                        values = second.evaluate(target);
+                    } else if (Boolean.FALSE.equals(condition)) {
+                        values = third.evaluate(target);
+                    }
+                    return values;
+                };
+                break;
+            case "??":
+                node = target -> {
+                    List<Object> values = first.evaluate(target);
+                    if (values.isEmpty()) {
+                        values = second.evaluate(target);
+                    }
+                    return values;
+                };
+                break;
+            case ",":
+                node = target -> {
+                    List<Object> values = new ArrayList<>();
+                    arguments.forEach(argument -> values.addAll(argument.evaluate(target)));
+                    return values;
+                };
+                break;
+            case "..":
+                node = target -> range(first.evaluateScalar(target), second.evaluateScalar(target));
+                break;
+            case "#":
+                node = target -> {
+                    List<Object> values = first.evaluate(target);
+                    Object index = second.evaluateScalar(target);
+                    List<Object> result = List.of();
+                    if (index instanceof Integer position && position >= 1 && position <= values.size()) {
+                        result = List.of(values.get(position - 1));
+                    }
+                    return result;
+                };
+                break;
+            default:
+                // Classification, metadata and extent operators cannot be evaluated at the model level
+                node = EMPTY;
+                break;
+        }
+        return node;
+    }
+
+    private static Node compilePlus(List<Node> arguments) {
+        Node node;
+        if (arguments.size() == 1) {
+            Node operand = arguments.get(0);
+            node = (ScalarNode) target -> {
+                Object value = operand.evaluateScalar(target);
+                Object number = null;
+                if (value instanceof Number) {
+                    number = value;
+                }
+                return number;
+            };
+        } else {
+            Node first = argument(arguments, 0);
+            Node second = argument(arguments, 1);
+            node = (ScalarNode) target -> {
+                Object left = first.evaluateScalar(target);
+                Object right = second.evaluateScalar(target);
+                Object result;
+                if (left instanceof String leftString && right instanceof String rightString) {
+                    result = leftString + rightString;
+                } else {
+                    result = computeArithmetic(left, right, (a, b) -> toInteger(a + b), (a, b) -> a + b);
+                }
+                return result;
+            };
+        }
+        return node;
+    }
+
+    private static Node compileMinus(List<Node> arguments) {
+        Node node;
+        if (arguments.size() == 1) {
+            Node operand = arguments.get(0);
+            node = (ScalarNode) target -> {
+                Object value = operand.evaluateScalar(target);
+                Object result = null;
+                if (value instanceof Integer integer) {
+                    result = toInteger(-integer.longValue());
+                } else if (value instanceof Double real) {
+                    result = -real;
+                }
+                return result;
+            };
+        } else {
+            node = arithmetic(arguments, (a, b) -> toInteger(a - b), (a, b) -> a - b);
+        }
+        return node;
+    }
+
+    private static Node arithmetic(List<Node> arguments, IntegerOperator integers, DoubleBinaryOperator reals) {
+        Node first = argument(arguments, 0);
+        Node second = argument(arguments, 1);
+        return (ScalarNode) target -> computeArithmetic(first.evaluateScalar(target), second.evaluateScalar(target), integers, reals);
+    }
+
+    private static Object computeArithmetic(Object left, Object right, IntegerOperator integers, DoubleBinaryOperator reals) {
+        Object result = null;
+        if (left instanceof Integer leftInteger && right instanceof Integer rightInteger) {
+            result = integers.apply(leftInteger, rightInteger);
+        } else if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+            result = toReal(reals.applyAsDouble(leftNumber.doubleValue(), rightNumber.doubleValue()));
+        }
+        return result;
+    }
+
+    private static Node comparison(List<Node> arguments, IntPredicate test) {
+        Node first = argument(arguments, 0);
+        Node second = argument(arguments, 1);
+        return (ScalarNode) target -> {
+            Object left = first.evaluateScalar(target);
+            Object right = second.evaluateScalar(target);
+            Object result = null;
+            if (left instanceof Integer leftInteger && right instanceof Integer rightInteger) {
+                result = test.test(Integer.compare(leftInteger, rightInteger));
+            } else if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+                result = test.test(Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue()));
+            } else if (left instanceof String leftString && right instanceof String rightString) {
+                result = test.test(leftString.compareTo(rightString));
+            }
+            return result;
+        };
+    }
+
+    private static Node equality(List<Node> arguments, boolean expected) {
+        Node first = argument(arguments, 0);
+        Node second = argument(arguments, 1);
+        return (ScalarNode) target -> {
+            Object left = first.evaluateScalar(target);
+            Object right = second.evaluateScalar(target);
+            boolean equal;
+            if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+                equal = leftNumber.doubleValue() == rightNumber.doubleValue();
+            } else {
+                equal = Objects.equals(left, right);
+            }
+            return equal == expected;
+        };
+    }
+
+    private static Node logical(Node first, Node second, BooleanOperator operator) {
+        return (ScalarNode) target -> {
+            Object left = first.evaluateScalar(target);
+            Object right = second.evaluateScalar(target);
+            Object result = null;
+            if (left instanceof Boolean leftBoolean && right instanceof Boolean rightBoolean) {
+                result = operator.apply(leftBoolean, rightBoolean);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Evaluates a conditional "and" or "or": the second operand is only evaluated if the first one is not the
+     * short-circuit value.
+     */
+    private static Object conditional(Object left, Boolean shortCircuitValue, Node second, Element target) {
+        Object result = null;
+        if (shortCircuitValue.equals(left)) {
+            result = shortCircuitValue;
+        } else if (left instanceof Boolean) {
+            result = toBoolean(second.evaluateScalar(target));
+        }
+        return result;
+    }
+
+    private static List<Object> range(Object lower, Object upper) {
+        List<Object> values = List.of();
+        if (lower instanceof Integer lowerInteger && upper instanceof Integer upperInteger && lowerInteger <= upperInteger) {
+            values = new ArrayList<>(upperInteger - lowerInteger + 1);
+            for (int i = lowerInteger; i <= upperInteger; i++) {
+                values.add(i);
+            }
+        }
+        return values;
+    }
+
+    private static Node argument(List<Node> arguments, int index) {
+        Node node = EMPTY;
+        if (index < arguments.size()) {
+            node = arguments.get(index);
+        }
+        return node;
+    }
+
+    private static Object divide(double dividend, double divisor) {
+        Object result = null;
+        if (divisor != 0) {
+            result = toReal(dividend / divisor);
+        }
+        return result;
+    }
+
+    private static Object modulo(long dividend, long divisor) {
+        Object result = null;
+        if (divisor != 0) {
+            result = toInteger(dividend % divisor);
+        }
+        return result;
+    }
+
+    private static Object power(long base, long exponent) {
+        Object result;
+        if (exponent >= 0) {
+            double power = Math.pow(base, exponent);
+            if (power >= Integer.MIN_VALUE && power <= Integer.MAX_VALUE) {
+                result = (int) power;
+            } else {
+                result = power;
+            }
+        } else {
+            result = toReal(Math.pow(base, exponent));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the given integer value, or the corresponding real value if it does not fit into an integer literal.
+     */
+    private static Object toInteger(long value) {
+        Object result;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            result = (int) value;
+        } else {
+            result = (double) value;
+        }
+        return result;
+    }
+
+    private static Object toReal(double value) {
+        Object result = null;
+        if (Double.isFinite(value)) {
+            result = value;
+        }
+        return result;
+    }
+
+    private static Boolean toBoolean(Object value) {
+        Boolean result = null;
+        if (value instanceof Boolean booleanValue) {
+            result = booleanValue;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Java value of a literal boolean, integer, rational or string, the given value otherwise.
+     */
+    private static Object toPrimitive(Object value) {
+        Object primitive = value;
+        if (value instanceof LiteralBoolean literal) {
+            primitive = literal.isValue();
+        } else if (value instanceof LiteralInteger literal) {
+            primitive = literal.getValue();
+        } else if (value instanceof LiteralRational literal) {
+            primitive = literal.getValue();
+        } else if (value instanceof LiteralString literal) {
+            primitive = literal.getValue();
+        }
+        return primitive;
+    }
+
+    /**
+     * Returns the given element, or a new literal expression for the given primitive value. The new literal
+     * expressions do not deliver notifications, they are not part of any model and do not invalidate the caches.
+     */
+    private static Element toElement(Object value) {
+        Element element = null;
+        SysmlFactory factory = SysmlFactory.eINSTANCE;
+        if (value instanceof Element elementValue) {
+            element = elementValue;
+        } else if (value instanceof Boolean booleanValue) {
+            LiteralBoolean literal = factory.createLiteralBoolean();
+            literal.eSetDeliver(false);
+            literal.setValue(booleanValue);
+            element = literal;
+        } else if (value instanceof Integer integer) {
+            LiteralInteger literal = factory.createLiteralInteger();
+            literal.eSetDeliver(false);
+            literal.setValue(integer);
+            element = literal;
+        } else if (value instanceof Double real) {
+            LiteralRational literal = factory.createLiteralRational();
+            literal.eSetDeliver(false);
+            literal.setValue(real);
+            element = literal;
+        } else if (value instanceof String string) {
+            LiteralString literal = factory.createLiteralString();
+            literal.eSetDeliver(false);
+            literal.setValue(string);
+            element = literal;
+        }
+        return element;
+    }
+
+    /**
+     * A compiled expression tree, evaluated to a sequence of values which are either elements or Java values
+     * (booleans, integers, reals and strings) computed by the operators.
+     *
+     * @author Arthur Daussy
+     */
+    @FunctionalInterface
+    private interface Node {
+
+        List<Object> evaluate(Element target);
+
+        /**
+         * Evaluates this tree to a single value, literal elements being converted to their Java value.
+         *
+         * @return the single value, or <code>null</code> if there is no value or several values
+         */
+        default Object evaluateScalar(Element target) {
+            List<Object> values = this.evaluate(target);
+            Object value = null;
+            if (values.size() == 1) {
+                value = toPrimitive(values.get(0));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A compiled operator computing a single Java value, without creating a sequence of values unless it is the root of
+     * the tree or the operand of a sequence operator.
+     *
+     * @author Arthur Daussy
+     */
+    @FunctionalInterface
+    private interface ScalarNode extends Node {
+
+        @Override
+        Object evaluateScalar(Element target);
+
+        @Override
+        default List<Object> evaluate(Element target) {
+            Object value = this.evaluateScalar(target);
+            List<Object> values = List.of();
+            if (value != null) {
+                values = List.of(value);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * A compiled literal expression, evaluated to itself.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class LiteralNode implements Node {
+
+        private final List<Object> values;
+
+        private final Object value;
+
+        LiteralNode(LiteralExpression literal, Object value) {
+            this.values = List.of(literal);
+            this.value = value;
+        }
+
+        @Override
+        public List<Object> evaluate(Element target) {
+            return this.values;
+        }
+
+        @Override
+        public Object evaluateScalar(Element target) {
+            return this.value;
+        }
+    }
+
+    /**
+     * An operator on integers, returning an integer, a real or <code>null</code> if it is not defined.
+     *
+     * @author Arthur Daussy
+     */
+    @FunctionalInterface
+    private interface IntegerOperator {
+        Object apply(long left, long right);
+    }
+
+    /**
+     * An operator on booleans.
+     *
+     * @author Arthur Daussy
+     */
+    @FunctionalInterface
+    private interface BooleanOperator {
+        boolean apply(boolean left, boolean right);
+    }
+}
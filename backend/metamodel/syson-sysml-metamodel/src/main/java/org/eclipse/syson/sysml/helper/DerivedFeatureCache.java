@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of derived feature values computed for a single element.
+ *
+ * <p>
+ * The values are only valid for the state of the models in which they have been computed. Each modification of an
+ * element (i.e. each non-touch EMF notification) changes the modification count of its resource set (see
+ * {@link ModificationCounts}), which invalidates all the caches computed before in this resource set. Derived features
+ * such as the memberships of a namespace depend on imported and inherited elements located anywhere in the resource
+ * set, tracking their dependencies precisely would cost more than computing them again after a modification. The
+ * models are read far more often than they are modified: a refresh of a representation only computes each derived
+ * feature once.
+ * </p>
+ *
+ * <p>
+ * The names (qualified, effective and short names) are cached separately since they are read even more often and only
+ * depend on a few modifications: renames, moves and redefinitions. Their caches are invalidated by a distinct naming
+ * modification count, or element by element for the subtree of a renamed or moved element (see
+ * <code>ElementImpl#eNotify</code>). In the same way, the type hierarchies are only invalidated by the modifications
+ * of specializations and conjugations. The library classification of the elements is only invalidated for the
+ * subtree of a moved element or of a library package whose standard attribute is modified.
+ * </p>
+ *
+ * <p>
+ * The elements of a {@link ModelSnapshot} are never modified, their caches are frozen (see {@link #FROZEN}): their
+ * values stay valid whatever the modifications of the other models.
+ * </p>
+ *
+ * <p>
+ * The caches are replaced instead of being modified, so that they can be read from several threads. They can be
+ * disabled for debugging with the system property <code>org.eclipse.syson.sysml.derivedFeatureCache.disabled</code>
+ * or with {@link #setEnabled(boolean)}.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class DerivedFeatureCache {
+
+    /**
+     * The system property used to disable the caches of all the elements.
+     */
+    public static final String DISABLED_PROPERTY = "org.eclipse.syson.sysml.derivedFeatureCache.disabled";
+
+    /**
+     * The cache of an element for which no derived feature has been computed yet.
+     */
+    public static final DerivedFeatureCache EMPTY = new DerivedFeatureCache(-1, new Object[0]);
+
+    /**
+     * The cache of an element which will never be modified, for which no derived feature has been computed yet. The
+     * values added to a frozen cache are valid for any modification count.
+     */
+    public static final DerivedFeatureCache FROZEN = new DerivedFeatureCache(Long.MIN_VALUE, new Object[0]);
+
+    /**
+     * Used to store <code>null</code> values.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private static volatile boolean enabled = !Boolean.getBoolean(DISABLED_PROPERTY);
+
+    private final long modificationCount;
+
+    /**
+     * The keys (at even indexes) followed by their values (at odd indexes). Elements only cache a few derived
+     * features, a linear search is faster than a hash lookup and does not allocate anything.
+     */
+    private final Object[] keysAndValues;
+
+    private DerivedFeatureCache(long modificationCount, Object[] keysAndValues) {
+        this.modificationCount = modificationCount;
+        this.keysAndValues = keysAndValues;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the caches of all the elements.
+     *
+     * @param isEnabled
+     *            <code>true</code> to cache the derived features, <code>false</code> to compute them on each call
+     */
+    public static void setEnabled(boolean isEnabled) {
+        enabled = isEnabled;
+        ModificationCounts.invalidateAll();
+    }
+
+    /**
+     * Returns <code>true</code> if the values of this cache are valid for any modification count.
+     *
+     * @return <code>true</code> if this cache is frozen
+     */
+    public boolean isFrozen() {
+        return this.modificationCount == FROZEN.modificationCount;
+    }
+
+    /**
+     * Returns <code>true</code> if this cache contains a value for the given key, computed in the state of the models
+     * identified by the given modification count.
+     *
+     * @param currentModificationCount
+     *            the current modification count
+     * @param key
+     *            the key of a derived feature
+     * @return <code>true</code> if a value is available
+     */
+    public boolean contains(long currentModificationCount, Object key) {
+        return this.indexOf(currentModificationCount, key) >= 0;
+    }
+
+    /**
+     * Returns the value of the given key, computed in the state of the models identified by the given modification
+     * count.
+     *
+     * @param currentModificationCount
+     *            the current modification count
+     * @param key
+     *            the key of a derived feature
+     * @return the value, or <code>null</code> if there is no value or if the value is <code>null</code>
+     */
+    public Object get(long currentModificationCount, Object key) {
+        Object value = null;
+        int index = this.indexOf(currentModificationCount, key);
+        if (index >= 0 && this.keysAndValues[index + 1] != NULL_VALUE) {
+            value = this.keysAndValues[index + 1];
+        }
+        return value;
+    }
+
+    /**
+     * Returns a new cache containing the given value in addition to the values of this cache, if they have been
+     * computed in the same state of the models or if this cache is frozen.
+     *
+     * @param currentModificationCount
+     *            the modification count of the state of the models in which the value has been computed
+     * @param key
+     *            the key of a derived feature
+     * @param value
+     *            the value of the derived feature
+     * @return a new cache
+     */
+    public DerivedFeatureCache with(long currentModificationCount, Object key, Object value) {
+        Object storedValue = value;
+        if (storedValue == null) {
+            storedValue = NULL_VALUE;
+        }
+        Object[] newKeysAndValues;
+        long newModificationCount = currentModificationCount;
+        if (this.modificationCount == currentModificationCount || this.isFrozen()) {
+            newKeysAndValues = Arrays.copyOf(this.keysAndValues, this.keysAndValues.length + 2);
+            newModificationCount = this.modificationCount;
+        } else {
+            newKeysAndValues = new Object[2];
+        }
+        newKeysAndValues[newKeysAndValues.length - 2] = key;
+        newKeysAndValues[newKeysAndValues.length - 1] = storedValue;
+        return new DerivedFeatureCache(newModificationCount, newKeysAndValues);
+    }
+
+    private int indexOf(long currentModificationCount, Object key) {
+        if (this.modificationCount == currentModificationCount || this.isFrozen()) {
+            for (int i = 0; i < this.keysAndValues.length; i += 2) {
+                if (this.keysAndValues[i] == key) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -75,6 +75,10 @@ public class EMFUtils {
      * @return a {@link Collection} of {@link Setting}
      */
     public static Collection<Setting> getInverse(EObject source, EReference targetingFeature) {
+        Resource resource = source.eResource();
+        if (resource != null && resource.getResourceSet() != null && InverseReferenceIndex.isIndexed(targetingFeature)) {
+            return InverseReferenceIndex.getIndex(resource.getResourceSet()).getInverse(source, targetingFeature);
+        }
         return source.eAdapters().stream()
                 .filter(ECrossReferenceAdapter.class::isInstance)
                 .map(ECrossReferenceAdapter.class::cast)
@@ -256,7 +260,13 @@ public class EMFUtils {
         }
     }
 
-    private static void resolveAllNonDerived(Resource resource) {
+    /**
+     * Resolve all non derived references in the given {@link Resource}.
+     *
+     * @param resource
+     *            the given {@link Resource}.
+     */
+    public static void resolveAllNonDerived(Resource resource) {
         resource.getContents().forEach(eObject -> resolveAllNonDerived(eObject));
     }
 
@@ -0,0 +1,363 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.SysmlPackage;
+
+/**
+ * Index of the memberships visible in the global scope of a {@link ResourceSet}, i.e. the memberships visible from
+ * the root namespaces of its resources.
+ *
+ * <p>
+ * The index is an adapter of the resource set, shared by all its namespaces. The names of each resource are indexed
+ * once, then indexed again when a modification changes the memberships of its root namespace, its owned members or
+ * their names (see {@link #notifyElementChanged(Notification)}): the modifications of the deeper elements do not
+ * change the global scope. The resources whose root namespace has imports depend on the other models and are indexed
+ * again after each modification of the models of the resource set (see {@link ModificationCounts}), as well as all
+ * the resources after a modification which may change the names of features. The index also listens to its resource
+ * set and resources to be invalidated when resources are added, removed, loaded or unloaded. The library resources
+ * of the resource set (see {@link SharedLibraries}) are indexed after its other resources. The pending library
+ * resources of a {@link LibrarySnapshot} are indexed with the global names recorded in the snapshot, without being
+ * read: a library is only read when one of its names is resolved.
+ * </p>
+ *
+ * <p>
+ * When several resources contain a membership with the same name, the membership of the first resource of the
+ * resource set wins, as in a sweep over the resources.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class GlobalNameIndex extends AdapterImpl {
+
+    /**
+     * The names indexed for each resource whose root namespace has no import.
+     */
+    private final Map<Resource, Map<String, Membership>> resourceIndexes = new IdentityHashMap<>();
+
+    private final ResourceSet resourceSet;
+
+    private volatile Snapshot snapshot;
+
+    private volatile long resourceModificationCount;
+
+    private GlobalNameIndex(ResourceSet resourceSet) {
+        this.resourceSet = resourceSet;
+    }
+
+    /**
+     * Returns the index of the given resource set, it is created the first time it is requested.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the index of the resource set
+     */
+    public static GlobalNameIndex getIndex(ResourceSet resourceSet) {
+        GlobalNameIndex index = findIndex(resourceSet);
+        if (index == null) {
+            synchronized (resourceSet) {
+                index = findIndex(resourceSet);
+                if (index == null) {
+                    index = new GlobalNameIndex(resourceSet);
+                    resourceSet.eAdapters().add(index);
+                    for (Resource resource : resourceSet.getResources()) {
+                        resource.eAdapters().add(index);
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Indexes the given memberships by their member short name and member name. When several memberships have the
+     * same name, the first one is kept.
+     *
+     * @param memberships
+     *            some memberships
+     * @return the memberships indexed by name
+     */
+    public static Map<String, Membership> indexByName(List<Membership> memberships) {
+        Map<String, Membership> membershipsByName = new HashMap<>();
+        for (Membership membership : memberships) {
+            String shortName = membership.getMemberShortName();
+            if (shortName != null) {
+                membershipsByName.putIfAbsent(shortName, membership);
+            }
+            String name = membership.getMemberName();
+            if (name != null) {
+                membershipsByName.putIfAbsent(name, membership);
+            }
+        }
+        return membershipsByName;
+    }
+
+    /**
+     * Invalidates the names indexed for the resource of the modified element if the given notification may change the
+     * memberships visible from its root namespace. Nothing is done if the resource set of the element has no index.
+     *
+     * @param notification
+     *            the notification of the modification of an element
+     */
+    public static void notifyElementChanged(Notification notification) {
+        if (notification.getNotifier() instanceof EObject notifier) {
+            Resource resource = notifier.eResource();
+            if (resource != null && resource.getResourceSet() != null) {
+                GlobalNameIndex index = findIndex(resource.getResourceSet());
+                if (index != null && isGlobalScopeChange(notifier, notification.getFeature(), resource)) {
+                    index.invalidate(resource);
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidates the names indexed for the resource of the given element if it is a member of its root namespace.
+     * This is used for the elements whose name is changed without any notification from them, e.g. the features
+     * named after a renamed feature.
+     *
+     * @param element
+     *            an element whose name may have changed
+     */
+    public static void notifyNameChanged(EObject element) {
+        Resource resource = element.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            GlobalNameIndex index = findIndex(resource.getResourceSet());
+            if (index != null && isGlobalScopeChange(element, SysmlPackage.eINSTANCE.getElement_DeclaredName(), resource)) {
+                index.invalidate(resource);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the modification of the given feature of the given element may change the memberships visible
+     * from the root namespace of its resource, i.e. whether the element is the root namespace, one of its owned
+     * relationships, or one of the elements owned through these relationships whose name is modified.
+     */
+    private static boolean isGlobalScopeChange(EObject eObject, Object feature, Resource resource) {
+        EObject root = null;
+        if (!resource.getContents().isEmpty()) {
+            root = resource.getContents().get(0);
+        }
+        EObject container = eObject.eContainer();
+        boolean isRootRelationship = container != null && container == root;
+        boolean isRootMember = container != null && container.eContainer() == root;
+        boolean isRename = feature == SysmlPackage.eINSTANCE.getElement_DeclaredName() || feature == SysmlPackage.eINSTANCE.getElement_DeclaredShortName();
+        return eObject == root || isRootRelationship || isRename && isRootMember;
+    }
+
+    private static GlobalNameIndex findIndex(ResourceSet resourceSet) {
+        for (Object adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof GlobalNameIndex index) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the membership visible from the root namespace of a resource with the given name.
+     *
+     * @param name
+     *            a simple name
+     * @return the membership, or <code>null</code> if there is none
+     */
+    public Membership resolve(String name) {
+        ModificationCounts counts = ModificationCounts.of(this.resourceSet);
+        Snapshot currentSnapshot = this.snapshot;
+        if (currentSnapshot == null || !currentSnapshot.isValid(counts, this.resourceModificationCount) || !DerivedFeatureCache.isEnabled()) {
+            currentSnapshot = this.computeSnapshot(counts);
+        }
+        Object entry = currentSnapshot.entriesByName().get(name);
+        if (entry instanceof Resource pendingResource) {
+            // Reads the library, its memberships then replace its global names in the index
+            pendingResource.getContents();
+            this.invalidate(pendingResource);
+            entry = this.computeSnapshot(counts).entriesByName().get(name);
+        }
+        Membership membership = null;
+        if (entry instanceof Membership resolvedMembership) {
+            membership = resolvedMembership;
+        }
+        return membership;
+    }
+
+    /**
+     * Checks whether the names of the given resource are indexed, i.e. whether they are not indexed again the next time
+     * a name is resolved.
+     *
+     * @param resource
+     *            a resource of the resource set
+     * @return <code>true</code> if the names of the resource are indexed
+     */
+    boolean isIndexed(Resource resource) {
+        return this.resourceIndexes.containsKey(resource);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == GlobalNameIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        Object notifier = notification.getNotifier();
+        if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            this.resourcesChanged(notification);
+        } else if (notifier instanceof Resource resource && !notification.isTouch()) {
+            int featureID = notification.getFeatureID(Resource.class);
+            if (featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__IS_LOADED || featureID == Resource.RESOURCE__URI) {
+                this.invalidate(resource);
+            }
+        }
+    }
+
+    @Override
+    public Notifier getTarget() {
+        // The index is shared by the resource set and its resources
+        return null;
+    }
+
+    @Override
+    public void setTarget(Notifier newTarget) {
+        // The index is shared by the resource set and its resources
+    }
+
+    @Override
+    public void unsetTarget(Notifier oldTarget) {
+        // The index is shared by the resource set and its resources
+    }
+
+    private void resourcesChanged(Notification notification) {
+        switch (notification.getEventType()) {
+            case Notification.ADD:
+                this.addAdapter(notification.getNewValue());
+                break;
+            case Notification.ADD_MANY:
+                ((List<?>) notification.getNewValue()).forEach(this::addAdapter);
+                break;
+            case Notification.REMOVE:
+                this.removeAdapter(notification.getOldValue());
+                break;
+            case Notification.REMOVE_MANY:
+                ((List<?>) notification.getOldValue()).forEach(this::removeAdapter);
+                break;
+            default:
+                break;
+        }
+        this.invalidate(null);
+    }
+
+    private void addAdapter(Object value) {
+        if (value instanceof Resource resource && !resource.eAdapters().contains(this)) {
+            resource.eAdapters().add(this);
+        }
+    }
+
+    private void removeAdapter(Object value) {
+        if (value instanceof Resource resource) {
+            resource.eAdapters().remove(this);
+            this.invalidate(resource);
+        }
+    }
+
+    private synchronized void invalidate(Resource resource) {
+        if (resource != null) {
+            this.resourceIndexes.remove(resource);
+        }
+        this.resourceModificationCount++;
+    }
+
+    private synchronized Snapshot computeSnapshot(ModificationCounts counts) {
+        Snapshot currentSnapshot = this.snapshot;
+        boolean isCacheEnabled = DerivedFeatureCache.isEnabled();
+        if (currentSnapshot == null || !currentSnapshot.isValid(counts, this.resourceModificationCount) || !isCacheEnabled) {
+            long namingModificationCount = counts.getNamingModificationCount();
+            if (currentSnapshot == null || currentSnapshot.namingModificationCount() != namingModificationCount || !isCacheEnabled) {
+                // The names of the members of the root namespaces may have changed without any notification from them
+                this.resourceIndexes.clear();
+            }
+            long modificationCount = counts.getModificationCount();
+            boolean hasImports = false;
+            Map<String, Object> entriesByName = new HashMap<>();
+            List<Resource> resources = new ArrayList<>(this.resourceSet.getResources());
+            // The library resources are indexed after the models, their names are hidden by the ones of the models
+            resources.sort(Comparator.comparing(SharedLibraries::isLibrary));
+            for (Resource resource : resources) {
+                Map<String, Membership> resourceIndex = this.resourceIndexes.get(resource);
+                if (LibrarySnapshot.isPending(resource)) {
+                    resourceIndex = Map.of();
+                    LibrarySnapshot.getGlobalNames(resource).forEach(globalName -> entriesByName.putIfAbsent(globalName, resource));
+                } else if (resourceIndex == null) {
+                    Namespace rootNamespace = this.getRootNamespace(resource);
+                    if (rootNamespace != null) {
+                        resourceIndex = indexByName(rootNamespace.visibleMemberships(new BasicEList<>(), false, false));
+                        if (rootNamespace.getOwnedImport().isEmpty()) {
+                            this.resourceIndexes.put(resource, resourceIndex);
+                        } else {
+                            hasImports = true;
+                        }
+                    } else {
+                        resourceIndex = Map.of();
+                    }
+                }
+                resourceIndex.forEach(entriesByName::putIfAbsent);
+            }
+            currentSnapshot = new Snapshot(namingModificationCount, modificationCount, hasImports, this.resourceModificationCount, entriesByName);
+            this.snapshot = currentSnapshot;
+        }
+        return currentSnapshot;
+    }
+
+    private Namespace getRootNamespace(Resource resource) {
+        Namespace rootNamespace = null;
+        if (!resource.getContents().isEmpty()) {
+            EObject root = resource.getContents().get(0);
+            if (root instanceof Namespace namespace) {
+                rootNamespace = namespace;
+            }
+        }
+        return rootNamespace;
+    }
+
+    /**
+     * The index computed for a state of the models and of the resource set, whose entries are either memberships or
+     * pending library resources. The index only depends on the modification count of the models if some root
+     * namespaces have imports.
+     *
+     * @author Arthur Daussy
+     */
+    private record Snapshot(long namingModificationCount, long modificationCount, boolean hasImports, long resourceModificationCount, Map<String, Object> entriesByName) {
+
+        boolean isValid(ModificationCounts counts, long currentResourceModificationCount) {
+            return this.resourceModificationCount == currentResourceModificationCount && this.namingModificationCount == counts.getNamingModificationCount()
+                    && (!this.hasImports || this.modificationCount == counts.getModificationCount());
+        }
+    }
+}
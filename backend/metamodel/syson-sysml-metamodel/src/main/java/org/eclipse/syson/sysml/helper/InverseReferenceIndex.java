@@ -0,0 +1,511 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.SysmlPackage;
+
+/**
+ * Index of the inverse of the SysML references used to find "who references an element": member elements, types,
+ * generals, subsetted, redefined and referenced features (which also give the ends of connectors), imported
+ * namespaces and memberships, original types of conjugations, original port definitions of port conjugations and the
+ * clients and suppliers of dependencies.
+ *
+ * <p>
+ * Contrary to an {@link org.eclipse.emf.ecore.util.ECrossReferenceAdapter}, the index does not add an adapter to each
+ * element and only stores the references above. It is built the first time it is requested for a resource set, then
+ * it is maintained incrementally: the elements forward the modifications of the indexed references and of their
+ * containment references (see <code>ElementImpl#eNotify</code>), while the index listens to its resource set and
+ * resources to index or unindex the contents of the resources which are added, removed, loaded or unloaded. Most
+ * elements are only referenced once by a given reference, the sources of such an element are stored without any
+ * collection.
+ * </p>
+ *
+ * <p>
+ * The references to elements of other resources which are not resolved yet are indexed by the URI of their proxy,
+ * without resolving them, and are indexed again with the resolved element when the proxy is resolved.
+ * </p>
+ *
+ * <p>
+ * The elements only send notifications when the derived feature caches are enabled (see
+ * {@link DerivedFeatureCache#isEnabled()}), otherwise the index is built again for each query.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class InverseReferenceIndex extends AdapterImpl {
+
+    /**
+     * Above this number of sources, the sources of a target are stored in a set instead of an array.
+     */
+    private static final int MAX_ARRAY_SIZE = 8;
+
+    private static final List<EReference> INDEXED_REFERENCES = List.of(
+            SysmlPackage.eINSTANCE.getMembership_MemberElement(),
+            SysmlPackage.eINSTANCE.getFeatureTyping_Type(),
+            SysmlPackage.eINSTANCE.getSpecialization_General(),
+            SysmlPackage.eINSTANCE.getSubclassification_Superclassifier(),
+            SysmlPackage.eINSTANCE.getSubsetting_SubsettedFeature(),
+            SysmlPackage.eINSTANCE.getRedefinition_RedefinedFeature(),
+            SysmlPackage.eINSTANCE.getReferenceSubsetting_ReferencedFeature(),
+            SysmlPackage.eINSTANCE.getNamespaceImport_ImportedNamespace(),
+            SysmlPackage.eINSTANCE.getMembershipImport_ImportedMembership(),
+            SysmlPackage.eINSTANCE.getConjugation_OriginalType(),
+            SysmlPackage.eINSTANCE.getPortConjugation_OriginalPortDefinition(),
+            SysmlPackage.eINSTANCE.getDependency_Client(),
+            SysmlPackage.eINSTANCE.getDependency_Supplier());
+
+    private static final Map<EClass, List<EReference>> INDEXED_REFERENCES_BY_ECLASS = new ConcurrentHashMap<>();
+
+    /**
+     * For each indexed reference, the sources referencing each target: a single {@link EObject}, an array of
+     * {@link EObject} or a {@link Set} of {@link EObject}.
+     */
+    private final Map<EReference, Map<EObject, Object>> sourcesByReference = new IdentityHashMap<>();
+
+    /**
+     * For each indexed reference, the sources referencing each unresolved proxy, by normalized proxy URI.
+     */
+    private final Map<EReference, Map<URI, Object>> proxySourcesByReference = new IdentityHashMap<>();
+
+    private final ResourceSet resourceSet;
+
+    private boolean built;
+
+    private InverseReferenceIndex(ResourceSet resourceSet) {
+        this.resourceSet = resourceSet;
+        for (EReference reference : INDEXED_REFERENCES) {
+            this.sourcesByReference.put(reference, new IdentityHashMap<>());
+            this.proxySourcesByReference.put(reference, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the index of the given resource set, it is created the first time it is requested.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the index of the resource set
+     */
+    public static InverseReferenceIndex getIndex(ResourceSet resourceSet) {
+        InverseReferenceIndex index = findIndex(resourceSet);
+        if (index == null) {
+            synchronized (resourceSet) {
+                index = findIndex(resourceSet);
+                if (index == null) {
+                    index = new InverseReferenceIndex(resourceSet);
+                    resourceSet.eAdapters().add(index);
+                    for (Resource resource : resourceSet.getResources()) {
+                        resource.eAdapters().add(index);
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the resource set containing the given element, it is created the first time it is
+     * requested.
+     *
+     * @param element
+     *            an element
+     * @return the index of its resource set, or <code>null</code> if the element is not contained in an indexed
+     *         resource of a resource set
+     */
+    public static InverseReferenceIndex getIndexOf(EObject element) {
+        InverseReferenceIndex index = null;
+        Resource resource = element.eResource();
+        if (resource != null && resource.getResourceSet() != null && isIndexedResource(resource)) {
+            index = getIndex(resource.getResourceSet());
+        }
+        return index;
+    }
+
+    /**
+     * Returns <code>true</code> if the inverse of the given reference is indexed.
+     *
+     * @param reference
+     *            a reference
+     * @return <code>true</code> if the reference is indexed
+     */
+    public static boolean isIndexed(EReference reference) {
+        return INDEXED_REFERENCES.contains(reference);
+    }
+
+    /**
+     * Updates the index of the resource set of the notifier of the given notification, if there is one. The
+     * notifications of the resolution of proxies are expected as well, the referenced elements are indexed again.
+     *
+     * @param notification
+     *            a notification sent by an element
+     */
+    public static void notifyElementChanged(Notification notification) {
+        Object feature = notification.getFeature();
+        boolean isContainmentChange = feature == SysmlPackage.eINSTANCE.getElement_OwnedRelationship() || feature == SysmlPackage.eINSTANCE.getRelationship_OwnedRelatedElement();
+        if ((isContainmentChange || feature instanceof EReference reference && isIndexed(reference)) && notification.getNotifier() instanceof EObject notifier) {
+            Resource resource = notifier.eResource();
+            if (resource != null && resource.getResourceSet() != null) {
+                InverseReferenceIndex index = findIndex(resource.getResourceSet());
+                if (index != null && isIndexedResource(resource)) {
+                    index.elementChanged(notification, isContainmentChange);
+                }
+            }
+        }
+    }
+
+    private static InverseReferenceIndex findIndex(ResourceSet resourceSet) {
+        for (Object adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof InverseReferenceIndex index) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private static List<EReference> getIndexedReferences(EClass eClass) {
+        return INDEXED_REFERENCES_BY_ECLASS.computeIfAbsent(eClass, key -> INDEXED_REFERENCES.stream()
+                .filter(reference -> reference.getEContainingClass().isSuperTypeOf(key))
+                .toList());
+    }
+
+    /**
+     * Returns the settings of the elements referencing the given element with the given reference.
+     *
+     * @param target
+     *            the referenced element
+     * @param reference
+     *            an indexed reference
+     * @return the settings of the referencing elements
+     */
+    public synchronized Collection<Setting> getInverse(EObject target, EReference reference) {
+        this.ensureBuilt();
+        List<Setting> settings = new ArrayList<>();
+        if (this.sourcesByReference.containsKey(reference)) {
+            URI proxyURI = this.getProxyURI(target);
+            for (EObject source : this.getSources(reference, target, proxyURI)) {
+                settings.add(((InternalEObject) source).eSetting(reference));
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * Returns the settings of the elements referencing the given element with any of the indexed references.
+     *
+     * @param target
+     *            the referenced element
+     * @return the settings of the referencing elements
+     */
+    public synchronized Collection<Setting> getInverse(EObject target) {
+        this.ensureBuilt();
+        List<Setting> settings = new ArrayList<>();
+        URI proxyURI = this.getProxyURI(target);
+        for (EReference reference : INDEXED_REFERENCES) {
+            for (EObject source : this.getSources(reference, target, proxyURI)) {
+                settings.add(((InternalEObject) source).eSetting(reference));
+            }
+        }
+        return settings;
+    }
+
+    private List<EObject> getSources(EReference reference, EObject target, URI proxyURI) {
+        List<EObject> sources = this.toList(this.sourcesByReference.get(reference).get(target));
+        if (proxyURI != null) {
+            List<EObject> proxySources = this.toList(this.proxySourcesByReference.get(reference).get(proxyURI));
+            if (!proxySources.isEmpty()) {
+                sources = new ArrayList<>(sources);
+                sources.addAll(proxySources);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Returns the URI of the proxies which may reference the given element, or <code>null</code> if it is not
+     * referenced by any proxy.
+     */
+    private URI getProxyURI(EObject target) {
+        URI proxyURI = null;
+        boolean hasProxies = this.proxySourcesByReference.values().stream().anyMatch(proxySources -> !proxySources.isEmpty());
+        if (hasProxies && target.eResource() != null) {
+            proxyURI = this.normalize(EcoreUtil.getURI(target));
+        }
+        return proxyURI;
+    }
+
+    private URI normalize(URI uri) {
+        return this.resourceSet.getURIConverter().normalize(uri);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == InverseReferenceIndex.class;
+    }
+
+    @Override
+    public synchronized void notifyChanged(Notification notification) {
+        Object notifier = notification.getNotifier();
+        if (!this.built || notification.isTouch()) {
+            // Nothing to maintain yet
+            if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.updateAdapters(notification);
+            }
+        } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            this.updateAdapters(notification);
+            this.getOldValues(notification).stream().map(Resource.class::cast).filter(InverseReferenceIndex::isIndexedResource)
+                    .forEach(resource -> resource.getContents().forEach(root -> this.updateSubtree(root, false)));
+            this.getNewValues(notification).stream().map(Resource.class::cast).filter(InverseReferenceIndex::isIndexedResource)
+                    .forEach(resource -> resource.getContents().forEach(root -> this.updateSubtree(root, true)));
+        } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+            this.getOldValues(notification).forEach(root -> this.updateSubtree((EObject) root, false));
+            this.getNewValues(notification).forEach(root -> this.updateSubtree((EObject) root, true));
+        } else if (notifier instanceof Resource resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED && isIndexedResource(resource)) {
+            // The contents of a resource may be built without notifications while it is loaded
+            this.built = false;
+        }
+    }
+
+    @Override
+    public Notifier getTarget() {
+        // The index is shared by the resource set and its resources
+        return null;
+    }
+
+    @Override
+    public void setTarget(Notifier newTarget) {
+        // The index is shared by the resource set and its resources
+    }
+
+    @Override
+    public void unsetTarget(Notifier oldTarget) {
+        // The index is shared by the resource set and its resources
+    }
+
+    private synchronized void elementChanged(Notification notification, boolean isContainmentChange) {
+        if (this.built && notification.getEventType() == Notification.RESOLVE) {
+            EObject source = (EObject) notification.getNotifier();
+            EReference reference = (EReference) notification.getFeature();
+            this.remove(reference, (EObject) notification.getOldValue(), source);
+            this.add(reference, (EObject) notification.getNewValue(), source);
+        } else if (this.built && !notification.isTouch()) {
+            if (isContainmentChange) {
+                this.getOldValues(notification).forEach(oldValue -> this.updateSubtree((EObject) oldValue, false));
+                this.getNewValues(notification).forEach(newValue -> this.updateSubtree((EObject) newValue, true));
+            } else {
+                EObject source = (EObject) notification.getNotifier();
+                EReference reference = (EReference) notification.getFeature();
+                this.getOldValues(notification).forEach(oldValue -> this.remove(reference, (EObject) oldValue, source));
+                this.getNewValues(notification).forEach(newValue -> this.add(reference, (EObject) newValue, source));
+            }
+        }
+    }
+
+    private void updateAdapters(Notification notification) {
+        this.getOldValues(notification).forEach(resource -> ((Resource) resource).eAdapters().remove(this));
+        for (Object resource : this.getNewValues(notification)) {
+            if (!((Resource) resource).eAdapters().contains(this)) {
+                ((Resource) resource).eAdapters().add(this);
+            }
+        }
+    }
+
+    private List<Object> getOldValues(Notification notification) {
+        List<Object> oldValues = List.of();
+        switch (notification.getEventType()) {
+            case Notification.SET, Notification.UNSET, Notification.REMOVE:
+                oldValues = this.toNonNullList(notification.getOldValue());
+                break;
+            case Notification.REMOVE_MANY:
+                oldValues = new ArrayList<>((Collection<?>) notification.getOldValue());
+                break;
+            default:
+                break;
+        }
+        return oldValues;
+    }
+
+    private List<Object> getNewValues(Notification notification) {
+        List<Object> newValues = List.of();
+        switch (notification.getEventType()) {
+            case Notification.SET, Notification.UNSET, Notification.ADD:
+                newValues = this.toNonNullList(notification.getNewValue());
+                break;
+            case Notification.ADD_MANY:
+                newValues = new ArrayList<>((Collection<?>) notification.getNewValue());
+                break;
+            default:
+                break;
+        }
+        return newValues;
+    }
+
+    private List<Object> toNonNullList(Object value) {
+        List<Object> values = List.of();
+        if (value != null) {
+            values = List.of(value);
+        }
+        return values;
+    }
+
+    /**
+     * Checks whether the contents of the given resource are indexed. The library resources (see
+     * {@link SharedLibraries}) only reference library elements, they are not indexed and the pending ones are not read.
+     */
+    private static boolean isIndexedResource(Resource resource) {
+        return !SharedLibraries.isLibrary(resource) && !LibrarySnapshot.isPending(resource);
+    }
+
+    private void ensureBuilt() {
+        if (!this.built || !DerivedFeatureCache.isEnabled()) {
+            this.sourcesByReference.values().forEach(Map::clear);
+            this.proxySourcesByReference.values().forEach(Map::clear);
+            for (Resource resource : this.resourceSet.getResources()) {
+                if (isIndexedResource(resource)) {
+                    resource.getContents().forEach(root -> this.updateSubtree(root, true));
+                }
+            }
+            this.built = true;
+        }
+    }
+
+    private void updateSubtree(EObject root, boolean add) {
+        this.updateElement(root, add);
+        Iterator<EObject> contents = root.eAllContents();
+        while (contents.hasNext()) {
+            this.updateElement(contents.next(), add);
+        }
+    }
+
+    private void updateElement(EObject source, boolean add) {
+        for (EReference reference : getIndexedReferences(source.eClass())) {
+            Object value = source.eGet(reference, false);
+            List<?> targets;
+            if (value instanceof List<?> list) {
+                targets = list;
+            } else {
+                targets = this.toNonNullList(value);
+            }
+            for (Object target : targets) {
+                if (add) {
+                    this.add(reference, (EObject) target, source);
+                } else {
+                    this.remove(reference, (EObject) target, source);
+                }
+            }
+        }
+    }
+
+    private void add(EReference reference, EObject target, EObject source) {
+        if (target.eIsProxy()) {
+            this.add(this.proxySourcesByReference.get(reference), this.normalize(((InternalEObject) target).eProxyURI()), source);
+        } else {
+            this.add(this.sourcesByReference.get(reference), target, source);
+        }
+    }
+
+    private void remove(EReference reference, EObject target, EObject source) {
+        if (target.eIsProxy()) {
+            this.remove(this.proxySourcesByReference.get(reference), this.normalize(((InternalEObject) target).eProxyURI()), source);
+        } else {
+            this.remove(this.sourcesByReference.get(reference), target, source);
+        }
+    }
+
+    private <K> void add(Map<K, Object> sourcesByTarget, K target, EObject source) {
+        Object sources = sourcesByTarget.get(target);
+        if (sources == null) {
+            sourcesByTarget.put(target, source);
+        } else if (sources instanceof EObject singleSource) {
+            if (singleSource != source) {
+                sourcesByTarget.put(target, new EObject[] { singleSource, source });
+            }
+        } else if (sources instanceof EObject[] array) {
+            if (!Arrays.asList(array).contains(source)) {
+                if (array.length < MAX_ARRAY_SIZE) {
+                    EObject[] newArray = Arrays.copyOf(array, array.length + 1);
+                    newArray[array.length] = source;
+                    sourcesByTarget.put(target, newArray);
+                } else {
+                    Set<EObject> set = Collections.newSetFromMap(new IdentityHashMap<>());
+                    set.addAll(Arrays.asList(array));
+                    set.add(source);
+                    sourcesByTarget.put(target, set);
+                }
+            }
+        } else {
+            this.asSet(sources).add(source);
+        }
+    }
+
+    private <K> void remove(Map<K, Object> sourcesByTarget, K target, EObject source) {
+        Object sources = sourcesByTarget.get(target);
+        if (sources == source) {
+            sourcesByTarget.remove(target);
+        } else if (sources instanceof EObject[] array) {
+            List<EObject> remainingSources = new ArrayList<>(Arrays.asList(array));
+            remainingSources.remove(source);
+            if (remainingSources.size() == 1) {
+                sourcesByTarget.put(target, remainingSources.get(0));
+            } else {
+                sourcesByTarget.put(target, remainingSources.toArray(EObject[]::new));
+            }
+        } else if (sources instanceof Set<?>) {
+            Set<EObject> set = this.asSet(sources);
+            set.remove(source);
+            if (set.isEmpty()) {
+                sourcesByTarget.remove(target);
+            }
+        }
+    }
+
+    private List<EObject> toList(Object sources) {
+        List<EObject> list = List.of();
+        if (sources instanceof EObject singleSource) {
+            list = List.of(singleSource);
+        } else if (sources instanceof EObject[] array) {
+            list = Arrays.asList(array);
+        } else if (sources != null) {
+            list = new ArrayList<>(this.asSet(sources));
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<EObject> asSet(Object sources) {
+        return (Set<EObject>) sources;
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Reduces the heap footprint of library resources, which are loaded once and never modified.
+ *
+ * <p>
+ * The equal strings (names, short names, identifiers, bodies of comments...) of the library elements are replaced by
+ * a single instance from the pool of the compactor, and the lists of their multi-valued features are trimmed to their
+ * size. The elements keep their regular storage, they are read with the usual API.
+ * </p>
+ *
+ * <p>
+ * A compactor can be used by several threads. The libraries registered from a {@link LibrarySnapshot} are compacted
+ * with the compactor of their snapshot (see {@link LibrarySnapshot#getCompactor(Resource)}): its pool is shared by all
+ * the library resources of all the resource sets, and starts with the names and the identifiers of the snapshot
+ * header, so the library elements of all the editing contexts share the strings of the header.
+ * </p>
+ *
+ * <p>
+ * The features are not moved to a columnar or flyweight store: the generated SysML classes keep their features in
+ * fields, which would require to generate the metamodel again on another root class.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class LibraryCompactor {
+
+    /**
+     * The features to compact for each class: the multi-valued features and the single-valued string attributes which
+     * are neither derived nor transient.
+     */
+    private static final Map<EClass, List<EStructuralFeature>> FEATURES_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Compacts the contents of the given resources with a new compactor, the strings are shared between all the
+     * resources.
+     *
+     * @param resources
+     *            library resources, which must not be modified afterwards
+     */
+    public static void compact(List<Resource> resources) {
+        LibraryCompactor compactor = new LibraryCompactor();
+        resources.forEach(compactor::compact);
+    }
+
+    /**
+     * Compacts the contents of the given resource, its strings are shared with all the resources compacted by this
+     * compactor.
+     *
+     * @param resource
+     *            a library resource, which must not be modified afterwards
+     */
+    public void compact(Resource resource) {
+        TreeIterator<EObject> contents = resource.getAllContents();
+        while (contents.hasNext()) {
+            this.compact(contents.next());
+        }
+    }
+
+    /**
+     * Returns the instance of the given string in the pool of this compactor, the string is added to the pool if it
+     * has no equal string yet.
+     *
+     * @param string
+     *            a string
+     * @return the shared instance of the string
+     */
+    public String intern(String string) {
+        return this.strings.computeIfAbsent(string, key -> key);
+    }
+
+    private static List<EStructuralFeature> computeFeatures(EClass eClass) {
+        List<EStructuralFeature> features = new ArrayList<>();
+        for (EStructuralFeature feature : eClass.getEAllStructuralFeatures()) {
+            if (!feature.isDerived() && !feature.isTransient() && (feature.isMany() || isStringAttribute(feature))) {
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    private static boolean isStringAttribute(EStructuralFeature feature) {
+        return feature instanceof EAttribute attribute && attribute.getEAttributeType().getInstanceClass() == String.class;
+    }
+
+    private void compact(EObject eObject) {
+        boolean deliver = eObject.eDeliver();
+        // Sharing a string or trimming a list does not change the value of the features
+        eObject.eSetDeliver(false);
+        for (EStructuralFeature feature : FEATURES_BY_CLASS.computeIfAbsent(eObject.eClass(), LibraryCompactor::computeFeatures)) {
+            if (eObject.eIsSet(feature)) {
+                Object value = eObject.eGet(feature, false);
+                if (value instanceof BasicEList<?> list) {
+                    list.shrink();
+                } else if (value instanceof String string) {
+                    String sharedString = this.intern(string);
+                    if (sharedString != string) {
+                        eObject.eSet(feature, sharedString);
+                    }
+                }
+            }
+        }
+        eObject.eSetDeliver(deliver);
+    }
+}
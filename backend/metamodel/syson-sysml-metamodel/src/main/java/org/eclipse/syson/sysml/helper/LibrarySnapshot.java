@@ -0,0 +1,762 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.BasicNotifierImpl.EAdapterList;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectInputStream;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectOutputStream;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.ResourceContents;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact binary snapshot of library resources, written at build time and read at startup instead of parsing the
+ * libraries again.
+ *
+ * <p>
+ * The snapshot starts with a header listing the URI, the name, the global names (i.e. the names visible from the root
+ * namespace, see {@link GlobalNameIndex}), the symbols and the contents (see {@link LibrarySymbolTable}) and the size
+ * of each resource, followed by the content of each resource: its
+ * identifier table, i.e. the URI fragments of its objects in the order of {@link Resource#getAllContents()}, and its
+ * objects in the EMF binary format. The references between the resources are saved as URIs using these fragments, the
+ * URIs of the library elements are thus the same as with the original resources. Since the size of each resource is
+ * known, the resources are read in parallel from a single buffer, which can be a memory-mapped file.
+ * </p>
+ *
+ * <p>
+ * A snapshot is parsed once (see {@link #parse(ByteBuffer)}): its header and identifier tables are immutable and can be
+ * shared by several threads. Its resources can then be registered in several resource sets without being read (see
+ * {@link #register(ResourceSet)}), each resource set getting its own resources. The content of such a pending resource
+ * is only read when it is accessed, for example when a proxy to one of its objects is resolved or when one of its
+ * global names is resolved. The resources of a resource set are read one at a time, the {@link Notification
+ * notification} of their loading is sent while the other threads wait for the resource. The {@link EContentAdapter
+ * content adapters} added to a pending resource only adapt it once it is read, and looking for an unknown URI fragment
+ * in a pending resource does not read it.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class LibrarySnapshot {
+
+    private static final int SIGNATURE = 0x53594C42;
+
+    private static final int VERSION = 4;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibrarySnapshot.class);
+
+    private final List<Entry> entries;
+
+    private final LibrarySymbolTable symbolTable;
+
+    private final Map<String, URI> resourceURIsByFragment = new HashMap<>();
+
+    /**
+     * The compactor of the resources read from this snapshot in all the resource sets, its pool starts with the names
+     * and the identifiers of the header.
+     */
+    private final LibraryCompactor compactor = new LibraryCompactor();
+
+    private LibrarySnapshot(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+        List<Symbol> symbols = new ArrayList<>();
+        List<ResourceContents> contents = new ArrayList<>();
+        for (Entry entry : this.entries) {
+            symbols.addAll(entry.symbols());
+            contents.add(entry.contents());
+            entry.fragments().forEach(fragment -> this.resourceURIsByFragment.putIfAbsent(fragment, entry.uri()));
+            entry.contents().elementIds().forEach(this.compactor::intern);
+        }
+        for (Symbol symbol : symbols) {
+            this.internNullable(symbol.name());
+            this.internNullable(symbol.shortName());
+        }
+        this.symbolTable = new LibrarySymbolTable(symbols, contents);
+    }
+
+    /**
+     * Writes a snapshot of the given resources.
+     *
+     * @param resources
+     *            the library resources, whose references should be resolved
+     * @param nameProvider
+     *            provides the name of each resource
+     * @param outputStream
+     *            the stream to write the snapshot to, which is not closed
+     * @throws IOException
+     *             if the snapshot cannot be written
+     */
+    public static void write(List<Resource> resources, Function<Resource, String> nameProvider, OutputStream outputStream) throws IOException {
+        List<byte[]> contents = new ArrayList<>();
+        for (Resource resource : resources) {
+            contents.add(writeContent(resource));
+        }
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(SIGNATURE);
+        output.writeInt(VERSION);
+        output.writeInt(resources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            Resource resource = resources.get(i);
+            writeString(output, resource.getURI().toString());
+            writeString(output, Objects.requireNonNullElse(nameProvider.apply(resource), ""));
+            List<String> globalNames = computeGlobalNames(resource);
+            output.writeInt(globalNames.size());
+            for (String globalName : globalNames) {
+                writeString(output, globalName);
+            }
+            List<Symbol> symbols = LibrarySymbolTable.computeSymbols(resource);
+            output.writeInt(symbols.size());
+            for (Symbol symbol : symbols) {
+                writeNullableString(output, symbol.qualifiedName());
+                writeNullableString(output, symbol.name());
+                writeNullableString(output, symbol.shortName());
+                writeString(output, symbol.eClass().getName());
+                writeNullableString(output, symbol.elementId());
+                writeString(output, symbol.fragment());
+            }
+            ResourceContents resourceContents = LibrarySymbolTable.computeContents(resource);
+            output.writeInt(resourceContents.eClasses().size());
+            for (EClass eClass : resourceContents.eClasses()) {
+                writeString(output, eClass.getName());
+            }
+            output.writeInt(resourceContents.elementIds().size());
+            for (String elementId : resourceContents.elementIds()) {
+                writeString(output, elementId);
+            }
+            output.writeInt(contents.get(i).length);
+        }
+        for (byte[] content : contents) {
+            output.write(content);
+        }
+        output.flush();
+    }
+
+    /**
+     * Parses the header and the identifier tables of the given snapshot, without reading its resources.
+     *
+     * @param snapshot
+     *            the snapshot, read from its current position
+     * @return the parsed snapshot, or <code>null</code> if the snapshot cannot be read
+     */
+    public static LibrarySnapshot parse(ByteBuffer snapshot) {
+        LibrarySnapshot librarySnapshot = null;
+        ByteBuffer header = snapshot.duplicate();
+        if (header.remaining() >= Integer.BYTES * 3 && header.getInt() == SIGNATURE && header.getInt() == VERSION) {
+            librarySnapshot = new LibrarySnapshot(readEntries(header));
+        } else {
+            LOGGER.warn("The library snapshot is not supported by this version");
+        }
+        return librarySnapshot;
+    }
+
+    /**
+     * Reads the resources of the given snapshot in parallel and adds them to the given resource set, e.g. to check a
+     * snapshot against its libraries (the editing contexts register the pending resources instead, see
+     * {@link #register(ResourceSet)}). The resources are added to the resource set before being read, their objects
+     * are read with its package registry, to which the SysML package is added unless the registry itself has it.
+     *
+     * @param snapshot
+     *            the snapshot, read from its current position
+     * @param resourceSet
+     *            the resource set of the resources, which should not have adapters accessing its resources while they
+     *            are read
+     * @return the name of each resource read, or an empty map if the snapshot cannot be read
+     */
+    public static Map<Resource, String> read(ByteBuffer snapshot, ResourceSet resourceSet) {
+        Map<Resource, String> namesByResource = new LinkedHashMap<>();
+        LibrarySnapshot librarySnapshot = parse(snapshot);
+        if (librarySnapshot != null) {
+            // The SysML package is put in the registry itself before the parallel reads: its delegate registry may
+            // depend on the context class loader of the thread, which differs in the threads reading the resources
+            EPackage.Registry packageRegistry = resourceSet.getPackageRegistry();
+            if (!packageRegistry.containsKey(SysmlPackage.eNS_URI)) {
+                packageRegistry.put(SysmlPackage.eNS_URI, SysmlPackage.eINSTANCE);
+            }
+            Map<SnapshotResource, String> resources = librarySnapshot.createResources();
+            resourceSet.getResources().addAll(resources.keySet());
+            boolean contentsRead = resources.keySet().parallelStream()
+                    .map(SnapshotResource::readContent)
+                    .reduce(Boolean::logicalAnd)
+                    .orElse(false);
+            if (contentsRead) {
+                resources.forEach((resource, name) -> {
+                    resource.contentLoaded();
+                    namesByResource.put(resource, name);
+                });
+            } else {
+                resourceSet.getResources().removeAll(resources.keySet());
+            }
+        }
+        return namesByResource;
+    }
+
+    /**
+     * Adds the resources of this snapshot to the given resource set without reading their content, which is read when
+     * they are accessed. The resources are not shared with the other resource sets.
+     *
+     * @param resourceSet
+     *            the resource set of the resources, whose package registry should have the SysML package
+     * @return the name of each pending resource
+     */
+    public Map<Resource, String> register(ResourceSet resourceSet) {
+        Map<Resource, String> namesByResource = new LinkedHashMap<>();
+        this.createResources().forEach((resource, name) -> {
+            resourceSet.getResources().add(resource);
+            namesByResource.put(resource, name);
+        });
+        return namesByResource;
+    }
+
+    /**
+     * Returns the symbols of the resources of this snapshot.
+     *
+     * @return the symbol table of the resources
+     */
+    public LibrarySymbolTable getSymbolTable() {
+        return this.symbolTable;
+    }
+
+    /**
+     * Returns the URI of the resource containing the object with the given URI fragment.
+     *
+     * @param fragment
+     *            the URI fragment of an object, as recorded in the identifier tables
+     * @return the URI of the resource, or <code>null</code> if no resource of the snapshot has such an object
+     */
+    public URI getResourceURI(String fragment) {
+        return this.resourceURIsByFragment.get(fragment);
+    }
+
+    /**
+     * Returns the compactor of the given library resource: the compactor shared by all the resources read from the same
+     * snapshot, whose strings are shared with the header of the snapshot, or a new compactor if the resource has not
+     * been read from a snapshot.
+     *
+     * @param resource
+     *            a library resource
+     * @return the compactor of the resource
+     */
+    public static LibraryCompactor getCompactor(Resource resource) {
+        LibraryCompactor libraryCompactor;
+        if (resource instanceof SnapshotResource snapshotResource) {
+            libraryCompactor = snapshotResource.snapshot.compactor;
+        } else {
+            libraryCompactor = new LibraryCompactor();
+        }
+        return libraryCompactor;
+    }
+
+    /**
+     * Returns the snapshot from which the given resource has been registered.
+     *
+     * @param resource
+     *            a resource
+     * @return the snapshot of the resource, or <code>null</code> if it has not been registered from a snapshot
+     */
+    public static LibrarySnapshot getSnapshot(Resource resource) {
+        LibrarySnapshot snapshot = null;
+        if (resource instanceof SnapshotResource snapshotResource) {
+            snapshot = snapshotResource.snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns <code>true</code> if the given resource has been registered from a snapshot and its content has not
+     * been read yet.
+     *
+     * @param resource
+     *            a resource
+     * @return <code>true</code> if the resource is pending
+     */
+    public static boolean isPending(Resource resource) {
+        return resource instanceof SnapshotResource snapshotResource && snapshotResource.isPending();
+    }
+
+    /**
+     * Returns the symbols of the given resource recorded in its snapshot, they can be read without reading the content
+     * of the resource.
+     *
+     * @param resource
+     *            a resource
+     * @return the symbols of the resource, or an empty list if it has not been read from a snapshot
+     */
+    public static List<Symbol> getSymbols(Resource resource) {
+        List<Symbol> symbols = List.of();
+        if (resource instanceof SnapshotResource snapshotResource) {
+            symbols = snapshotResource.symbols;
+        }
+        return symbols;
+    }
+
+    /**
+     * Returns the contents of the given resource recorded in its snapshot, they can be read without reading the content
+     * of the resource.
+     *
+     * @param resource
+     *            a resource
+     * @return the contents of the resource, or <code>null</code> if it has not been read from a snapshot
+     */
+    public static ResourceContents getContents(Resource resource) {
+        ResourceContents contents = null;
+        if (resource instanceof SnapshotResource snapshotResource) {
+            contents = snapshotResource.entry.contents();
+        }
+        return contents;
+    }
+
+    /**
+     * Returns the global names of the given resource recorded in its snapshot, they can be read without reading the
+     * content of the resource.
+     *
+     * @param resource
+     *            a resource
+     * @return the global names of the resource, or an empty list if it has not been read from a snapshot
+     */
+    public static List<String> getGlobalNames(Resource resource) {
+        List<String> globalNames = List.of();
+        if (resource instanceof SnapshotResource snapshotResource) {
+            globalNames = snapshotResource.globalNames;
+        }
+        return globalNames;
+    }
+
+    private void internNullable(String string) {
+        if (string != null) {
+            this.compactor.intern(string);
+        }
+    }
+
+    private static List<Entry> readEntries(ByteBuffer header) {
+        int resourceCount = header.getInt();
+        List<URI> uris = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<List<String>> globalNames = new ArrayList<>();
+        List<List<Symbol>> symbols = new ArrayList<>();
+        List<ResourceContents> contents = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < resourceCount; i++) {
+            URI uri = URI.createURI(readString(header));
+            uris.add(uri);
+            names.add(readString(header));
+            String[] resourceGlobalNames = new String[header.getInt()];
+            for (int j = 0; j < resourceGlobalNames.length; j++) {
+                resourceGlobalNames[j] = readString(header);
+            }
+            globalNames.add(List.of(resourceGlobalNames));
+            symbols.add(readSymbols(header, uri));
+            contents.add(readContents(header, uri));
+            sizes.add(header.getInt());
+        }
+        List<Entry> entries = new ArrayList<>();
+        int position = header.position();
+        for (int i = 0; i < resourceCount; i++) {
+            ByteBuffer content = header.duplicate().position(position).limit(position + sizes.get(i)).slice();
+            String[] fragments = new String[content.getInt()];
+            for (int j = 0; j < fragments.length; j++) {
+                fragments[j] = readString(content);
+            }
+            entries.add(new Entry(uris.get(i), names.get(i), globalNames.get(i), symbols.get(i), contents.get(i), List.of(fragments), content.slice()));
+            position += sizes.get(i);
+        }
+        return entries;
+    }
+
+    private Map<SnapshotResource, String> createResources() {
+        Map<SnapshotResource, String> resources = new LinkedHashMap<>();
+        // The resources created together are read one at a time
+        Object lock = new Object();
+        for (Entry entry : this.entries) {
+            resources.put(new SnapshotResource(this, entry, lock), entry.name());
+        }
+        return resources;
+    }
+
+    private static List<Symbol> readSymbols(ByteBuffer header, URI resourceURI) {
+        int symbolCount = header.getInt();
+        List<Symbol> symbols = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            String qualifiedName = readNullableString(header);
+            String name = readNullableString(header);
+            String shortName = readNullableString(header);
+            String eClassName = readString(header);
+            String elementId = readNullableString(header);
+            String fragment = readString(header);
+            if (SysmlPackage.eINSTANCE.getEClassifier(eClassName) instanceof EClass eClass) {
+                symbols.add(new Symbol(qualifiedName, name, shortName, eClass, elementId, resourceURI, fragment));
+            } else {
+                LOGGER.warn("The class {} of the library symbol {} is unknown", eClassName, qualifiedName);
+            }
+        }
+        return List.copyOf(symbols);
+    }
+
+    private static ResourceContents readContents(ByteBuffer header, URI resourceURI) {
+        int eClassCount = header.getInt();
+        List<EClass> eClasses = new ArrayList<>(eClassCount);
+        for (int i = 0; i < eClassCount; i++) {
+            String eClassName = readString(header);
+            if (SysmlPackage.eINSTANCE.getEClassifier(eClassName) instanceof EClass eClass) {
+                eClasses.add(eClass);
+            } else {
+                LOGGER.warn("The class {} of the elements of the library {} is unknown", eClassName, resourceURI);
+            }
+        }
+        String[] elementIds = new String[header.getInt()];
+        for (int i = 0; i < elementIds.length; i++) {
+            elementIds[i] = readString(header);
+        }
+        return new ResourceContents(resourceURI, eClasses, List.of(elementIds));
+    }
+
+    private static List<String> computeGlobalNames(Resource resource) {
+        List<String> globalNames = List.of();
+        if (!resource.getContents().isEmpty() && resource.getContents().get(0) instanceof Namespace rootNamespace) {
+            globalNames = List.copyOf(new TreeSet<>(GlobalNameIndex.indexByName(rootNamespace.visibleMemberships(new BasicEList<>(), false, false)).keySet()));
+        }
+        return globalNames;
+    }
+
+    private static byte[] writeContent(Resource resource) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(content);
+        List<String> fragments = new ArrayList<>();
+        resource.getAllContents().forEachRemaining(eObject -> fragments.add(resource.getURIFragment(eObject)));
+        output.writeInt(fragments.size());
+        for (String fragment : fragments) {
+            writeString(output, fragment);
+        }
+        output.flush();
+        EObjectOutputStream eObjectOutput = new EObjectOutputStream(content, Map.of());
+        eObjectOutput.saveResource(resource);
+        eObjectOutput.flush();
+        return content.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            writeString(output, value);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readNullableString(ByteBuffer buffer) {
+        String value = null;
+        int length = buffer.getInt(buffer.position());
+        if (length < 0) {
+            buffer.getInt();
+        } else {
+            value = readString(buffer);
+        }
+        return value;
+    }
+
+    /**
+     * A resource of a snapshot, with its URI, name, global names, symbols, contents, identifier table and the objects
+     * part of its content.
+     *
+     * @author Arthur Daussy
+     */
+    private record Entry(URI uri, String name, List<String> globalNames, List<Symbol> symbols, ResourceContents contents, List<String> fragments, ByteBuffer content) {
+    }
+
+    /**
+     * A resource read from a snapshot, its objects are found by the URI fragments of the original resource.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class SnapshotResource extends ResourceImpl {
+
+        private final Map<String, EObject> eObjectsByFragment = new HashMap<>();
+
+        private final Map<EObject, String> fragmentsByEObject = new HashMap<>();
+
+        private final LibrarySnapshot snapshot;
+
+        private final Entry entry;
+
+        private final List<String> globalNames;
+
+        private final List<Symbol> symbols;
+
+        /**
+         * The lock shared by the resources registered together, their contents are read one at a time.
+         */
+        private final Object lock;
+
+        /**
+         * The content adapters added while the resource is pending, they adapt the resource once it is read.
+         */
+        private final Set<Adapter> deferredAdapters = new HashSet<>();
+
+        private ByteBuffer content;
+
+        /**
+         * Whether the content has been read and the loading of the resource has been notified.
+         */
+        private volatile boolean ready;
+
+        SnapshotResource(LibrarySnapshot snapshot, Entry entry, Object lock) {
+            super(entry.uri());
+            this.snapshot = snapshot;
+            this.entry = entry;
+            this.globalNames = entry.globalNames();
+            this.symbols = entry.symbols();
+            this.content = entry.content().duplicate();
+            this.lock = lock;
+        }
+
+        boolean isPending() {
+            return !this.ready;
+        }
+
+        @Override
+        public EList<Adapter> eAdapters() {
+            if (this.eAdapters == null) {
+                this.eAdapters = new DeferringAdapterList(this);
+            }
+            return this.eAdapters;
+        }
+
+        @Override
+        public void load(Map<?, ?> options) {
+            this.ensureReady();
+        }
+
+        @Override
+        public EList<EObject> getContents() {
+            this.ensureReady();
+            return super.getContents();
+        }
+
+        @Override
+        protected Notification setLoaded(boolean isLoaded) {
+            Notification notification = super.setLoaded(isLoaded);
+            if (this.isLoading) {
+                // The loading is notified once the identifier table has been read too
+                notification = null;
+            }
+            return notification;
+        }
+
+        @Override
+        public String getURIFragment(EObject eObject) {
+            String fragment = this.fragmentsByEObject.get(eObject);
+            if (fragment == null) {
+                fragment = super.getURIFragment(eObject);
+            }
+            return fragment;
+        }
+
+        @Override
+        public EObject getEObject(String uriFragment) {
+            EObject eObject = null;
+            boolean isPathFragment = uriFragment.startsWith("/");
+            if (this.ready || isPathFragment || this.entry.uri().equals(this.snapshot.getResourceURI(uriFragment))) {
+                // The unknown identifiers are not looked for in the content of a pending resource
+                this.ensureReady();
+                eObject = this.eObjectsByFragment.get(uriFragment);
+                if (eObject == null && isPathFragment) {
+                    // The identifier table has the identifiers of all the objects, only the paths are computed
+                    eObject = super.getEObject(uriFragment);
+                }
+            }
+            return eObject;
+        }
+
+        /**
+         * Reads the content of the resource if it is pending. The content is read while holding the lock of the
+         * resources registered together, the thread reading it can access the resource again while its loading is
+         * notified (e.g. to resolve the references from other resources to this one).
+         */
+        private void ensureReady() {
+            if (!this.ready) {
+                synchronized (this.lock) {
+                    if (!this.ready && this.content != null) {
+                        this.readContent();
+                        this.contentLoaded();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads the objects of the resource, without notifying the adapters of the resource.
+         */
+        private boolean readContent() {
+            ByteBuffer currentContent = this.content;
+            // Prevents the resource from being read again, its own loading accesses its contents
+            this.content = null;
+            boolean read = false;
+            boolean deliver = this.eDeliver();
+            try {
+                this.eSetDeliver(false);
+                this.isLoading = true;
+                new EObjectInputStream(new ByteBufferInputStream(currentContent), Map.of()).loadResource(this);
+                read = this.setFragments(this.entry.fragments());
+                if (!read) {
+                    LOGGER.warn("The identifiers of the library {} do not match its content", this.getURI());
+                }
+            } catch (IOException exception) {
+                LOGGER.warn("An error occurred while reading the library {}: {}", this.getURI(), exception.getMessage());
+            } finally {
+                this.isLoading = false;
+                this.eSetDeliver(deliver);
+            }
+            return read;
+        }
+
+        /**
+         * Marks the resource as loaded, notifies its adapters then lets the deferred content adapters adapt it.
+         */
+        private void contentLoaded() {
+            this.isLoaded = false;
+            Notification notification = this.setLoaded(true);
+            if (notification != null) {
+                this.eNotify(notification);
+            }
+            List<Adapter> adapters = List.copyOf(this.deferredAdapters);
+            this.deferredAdapters.clear();
+            this.ready = true;
+            adapters.forEach(adapter -> adapter.setTarget(this));
+        }
+
+        private boolean setFragments(List<String> fragments) {
+            int index = 0;
+            TreeIterator<EObject> contents = this.getAllContents();
+            while (contents.hasNext() && index < fragments.size()) {
+                EObject eObject = contents.next();
+                this.eObjectsByFragment.put(fragments.get(index), eObject);
+                this.fragmentsByEObject.put(eObject, fragments.get(index));
+                index++;
+            }
+            return index == fragments.size() && !contents.hasNext();
+        }
+
+        /**
+         * The adapters of a snapshot resource, the content adapters added while the resource is pending are only
+         * attached to it once it is read: attaching them would read the resource.
+         *
+         * @author Arthur Daussy
+         */
+        private static final class DeferringAdapterList extends EAdapterList<Adapter> {
+
+            private static final long serialVersionUID = 1L;
+
+            private final SnapshotResource resource;
+
+            DeferringAdapterList(SnapshotResource resource) {
+                super(resource);
+                this.resource = resource;
+            }
+
+            @Override
+            protected void didAdd(int index, Adapter newObject) {
+                boolean isContentAdapter = newObject instanceof EContentAdapter || newObject instanceof ECrossReferenceAdapter;
+                if (isContentAdapter && this.resource.isPending()) {
+                    this.resource.deferredAdapters.add(newObject);
+                } else {
+                    super.didAdd(index, newObject);
+                }
+            }
+
+            @Override
+            protected void didRemove(int index, Adapter oldObject) {
+                if (!this.resource.deferredAdapters.remove(oldObject)) {
+                    super.didRemove(index, oldObject);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer.
+     *
+     * @author Arthur Daussy
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            int value = -1;
+            if (this.buffer.hasRemaining()) {
+                value = this.buffer.get() & 0xFF;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            int count = -1;
+            if (this.buffer.hasRemaining()) {
+                count = Math.min(length, this.buffer.remaining());
+                this.buffer.get(bytes, offset, count);
+            }
+            return count;
+        }
+    }
+}
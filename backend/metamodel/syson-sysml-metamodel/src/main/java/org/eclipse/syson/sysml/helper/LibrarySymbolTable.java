@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+
+/**
+ * The symbols of library resources, i.e. their named elements, used to find library elements by name, qualified name,
+ * class or identifier without reading the libraries.
+ *
+ * <p>
+ * The symbols of the standard libraries are computed at build time and recorded in their {@link LibrarySnapshot}. A
+ * symbol locates its element by the URI of its resource and its URI fragment: the element is only read when a symbol
+ * matches (see {@link SharedLibraries#getElement(Symbol)}). The {@link ResourceContents contents} of each resource,
+ * i.e. the classes and the identifiers of all its elements, locate the unnamed elements too: only the resources which
+ * may contain them are read.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class LibrarySymbolTable {
+
+    private final List<Symbol> symbols;
+
+    private final Map<String, List<Symbol>> symbolsByQualifiedName = new HashMap<>();
+
+    private final Map<String, List<Symbol>> symbolsByName = new HashMap<>();
+
+    private final Map<EClass, List<Symbol>> symbolsByEClass = new HashMap<>();
+
+    private final Map<String, Symbol> symbolsByElementId = new HashMap<>();
+
+    private final Map<EClass, List<URI>> resourceURIsByEClass = new HashMap<>();
+
+    private final Map<String, URI> resourceURIsByElementId = new HashMap<>();
+
+    /**
+     * Indexes the given symbols and resource contents, the symbols and the resources with the same key keep their
+     * order.
+     *
+     * @param symbols
+     *            the symbols of the libraries, in the order of their resources
+     * @param contents
+     *            the contents of the library resources
+     */
+    public LibrarySymbolTable(List<Symbol> symbols, List<ResourceContents> contents) {
+        this.symbols = List.copyOf(symbols);
+        for (Symbol symbol : this.symbols) {
+            if (symbol.qualifiedName() != null) {
+                this.symbolsByQualifiedName.computeIfAbsent(symbol.qualifiedName(), key -> new ArrayList<>()).add(symbol);
+            }
+            if (symbol.name() != null) {
+                this.symbolsByName.computeIfAbsent(symbol.name(), key -> new ArrayList<>()).add(symbol);
+            }
+            if (symbol.shortName() != null && !symbol.shortName().equals(symbol.name())) {
+                this.symbolsByName.computeIfAbsent(symbol.shortName(), key -> new ArrayList<>()).add(symbol);
+            }
+            this.symbolsByEClass.computeIfAbsent(symbol.eClass(), key -> new ArrayList<>()).add(symbol);
+            if (symbol.elementId() != null) {
+                this.symbolsByElementId.putIfAbsent(symbol.elementId(), symbol);
+            }
+        }
+        for (ResourceContents resourceContents : contents) {
+            for (EClass eClass : resourceContents.eClasses()) {
+                this.resourceURIsByEClass.computeIfAbsent(eClass, key -> new ArrayList<>()).add(resourceContents.resourceURI());
+            }
+            for (String elementId : resourceContents.elementIds()) {
+                this.resourceURIsByElementId.putIfAbsent(elementId, resourceContents.resourceURI());
+            }
+        }
+    }
+
+    /**
+     * Computes the symbols of the given resource, in the order of its contents.
+     *
+     * @param resource
+     *            a library resource
+     * @return the symbols of the named elements of the resource
+     */
+    public static List<Symbol> computeSymbols(Resource resource) {
+        List<Symbol> symbols = new ArrayList<>();
+        TreeIterator<EObject> contents = resource.getAllContents();
+        while (contents.hasNext()) {
+            if (contents.next() instanceof Element element) {
+                String qualifiedName = element.getQualifiedName();
+                String shortName = element.getDeclaredShortName();
+                if (qualifiedName != null || shortName != null) {
+                    symbols.add(new Symbol(qualifiedName, element.getName(), shortName, element.eClass(), element.getElementId(), resource.getURI(), resource.getURIFragment(element)));
+                }
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * Computes the contents of the given resource, in the order of its contents.
+     *
+     * @param resource
+     *            a library resource
+     * @return the classes and the identifiers of all the elements of the resource
+     */
+    public static ResourceContents computeContents(Resource resource) {
+        Set<EClass> eClasses = new LinkedHashSet<>();
+        List<String> elementIds = new ArrayList<>();
+        TreeIterator<EObject> contents = resource.getAllContents();
+        while (contents.hasNext()) {
+            if (contents.next() instanceof Element element) {
+                eClasses.add(element.eClass());
+                if (element.getElementId() != null) {
+                    elementIds.add(element.getElementId());
+                }
+            }
+        }
+        return new ResourceContents(resource.getURI(), List.copyOf(eClasses), elementIds);
+    }
+
+    public List<Symbol> getSymbols() {
+        return this.symbols;
+    }
+
+    /**
+     * Returns the symbols with the given qualified name.
+     *
+     * @param qualifiedName
+     *            a qualified name
+     * @return the matching symbols
+     */
+    public List<Symbol> getSymbolsByQualifiedName(String qualifiedName) {
+        return this.symbolsByQualifiedName.getOrDefault(qualifiedName, List.of());
+    }
+
+    /**
+     * Returns the symbols with the given name or short name.
+     *
+     * @param name
+     *            a simple name
+     * @return the matching symbols
+     */
+    public List<Symbol> getSymbolsByName(String name) {
+        return this.symbolsByName.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Returns the symbols of the direct instances of the given class.
+     *
+     * @param eClass
+     *            a SysML class
+     * @return the matching symbols
+     */
+    public List<Symbol> getSymbols(EClass eClass) {
+        return this.symbolsByEClass.getOrDefault(eClass, List.of());
+    }
+
+    /**
+     * Returns the symbol of the element with the given identifier.
+     *
+     * @param elementId
+     *            the identifier of an element
+     * @return the symbol, or <code>null</code> if there is none
+     */
+    public Symbol getSymbol(String elementId) {
+        return this.symbolsByElementId.get(elementId);
+    }
+
+    /**
+     * Returns the URIs of the library resources containing direct instances of the given class, named or not.
+     *
+     * @param eClass
+     *            a SysML class
+     * @return the URIs of the matching resources
+     */
+    public List<URI> getResourceURIs(EClass eClass) {
+        return this.resourceURIsByEClass.getOrDefault(eClass, List.of());
+    }
+
+    /**
+     * Returns the URI of the library resource containing the element with the given identifier, named or not.
+     *
+     * @param elementId
+     *            the identifier of an element
+     * @return the URI of the resource, or <code>null</code> if there is none
+     */
+    public URI getResourceURI(String elementId) {
+        return this.resourceURIsByElementId.get(elementId);
+    }
+
+    /**
+     * A named library element.
+     *
+     * @param qualifiedName
+     *            the qualified name of the element, may be <code>null</code>
+     * @param name
+     *            the name of the element, may be <code>null</code>
+     * @param shortName
+     *            the declared short name of the element, may be <code>null</code>
+     * @param eClass
+     *            the class of the element
+     * @param elementId
+     *            the identifier of the element
+     * @param resourceURI
+     *            the URI of the library resource of the element
+     * @param fragment
+     *            the URI fragment of the element in its resource
+     * @author Arthur Daussy
+     */
+    public record Symbol(String qualifiedName, String name, String shortName, EClass eClass, String elementId, URI resourceURI, String fragment) {
+
+        public Symbol {
+            Objects.requireNonNull(eClass);
+            Objects.requireNonNull(resourceURI);
+            Objects.requireNonNull(fragment);
+        }
+
+        /**
+         * Returns the URI of the element, as used by the references to it.
+         *
+         * @return the URI of the element
+         */
+        public URI getURI() {
+            return this.resourceURI.appendFragment(this.fragment);
+        }
+    }
+
+    /**
+     * The classes and the identifiers of all the elements of a library resource.
+     *
+     * @param resourceURI
+     *            the URI of the library resource
+     * @param eClasses
+     *            the classes of the elements of the resource, without duplicates
+     * @param elementIds
+     *            the identifiers of the elements of the resource
+     * @author Arthur Daussy
+     */
+    public record ResourceContents(URI resourceURI, List<EClass> eClasses, List<String> elementIds) {
+
+        public ResourceContents {
+            Objects.requireNonNull(resourceURI);
+            eClasses = List.copyOf(eClasses);
+            elementIds = List.copyOf(elementIds);
+        }
+    }
+}
@@ -13,10 +13,12 @@
 package org.eclipse.syson.sysml.helper;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.BasicEList;
@@ -35,6 +37,7 @@ import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.Usage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.impl.ElementImpl;
 
 /**
  * Object in charge of computing:
@@ -44,18 +47,45 @@ import org.eclipse.syson.sysml.VisibilityKind;
  * <li>importedMemberships</li>
  * </ul>
  *
+ * <p>
+ * The visible and inherited memberships of each namespace are memoized in the cache of the namespace (see
+ * {@link DerivedFeatureCache}) until the next modification of the models. A memoized result is only reused when it
+ * does not depend on the elements already visited by the current computation: each result is stored with the elements
+ * visited to compute it, and a result is only stored if its computation has not been cut short by an element visited
+ * before it started (e.g. an excluded element or an element of an inheritance cycle).
+ * </p>
+ *
  * @author Arthur Daussy
  */
 public class MembershipComputer<T extends Element> {
 
-    private final Set<Element> visited;
+    static final Object[] VISIBLE_MEMBERSHIPS_KEYS = { "visibleMemberships", "visibleMemberships(includeProtectedInherited)", "visibleMemberships(includeAll)",
+        "visibleMemberships(includeAll, includeProtectedInherited)", "visibleMemberships(isRecursive)", "visibleMemberships(isRecursive, includeProtectedInherited)",
+        "visibleMemberships(isRecursive, includeAll)", "visibleMemberships(isRecursive, includeAll, includeProtectedInherited)", };
+
+    static final Object INHERITED_MEMBERSHIPS_KEY = "inheritedMemberships";
+
+    /**
+     * The index of each visited element in {@link #visitOrder}.
+     */
+    private final Map<Element, Integer> visited = new HashMap<>();
+
+    private final List<Element> visitOrder = new ArrayList<>();
+
+    private final long modificationCount;
+
+    /**
+     * The lowest index of the visited elements found again since the beginning of the current computation.
+     */
+    private int lowestVisitedIndexFound = Integer.MAX_VALUE;
 
     private final T sourceElement;
 
     public MembershipComputer(T sourceElement, EList<? extends Namespace> excluded) {
         super();
-        this.visited = excluded.stream().collect(toSet());
+        excluded.forEach(this::visit);
         this.sourceElement = sourceElement;
+        this.modificationCount = ModificationCounts.of(sourceElement).getModificationCount();
     }
 
     public EList<Membership> visibleMemberships(boolean isRecursive, boolean includeAll, boolean includeProtectedInherited) {
@@ -67,12 +97,23 @@ public class MembershipComputer<T extends Element> {
     }
 
     private EList<Membership> visibleMemberships(Namespace self, boolean isRecursive, boolean includeAll, boolean includeProtectedInherited) {
-        if (this.visited.contains(self)) {
+        if (this.isVisited(self)) {
             return new BasicEList<>();
         }
 
+        Object key = VISIBLE_MEMBERSHIPS_KEYS[this.toIndex(isRecursive) * 4 + this.toIndex(includeAll) * 2 + this.toIndex(includeProtectedInherited)];
+        Memo memo = this.getMemo(self, key);
+        if (memo != null && memo.isIndependentOf(this.visited)) {
+            memo.visitedElements().forEach(this::visit);
+            return new BasicEList<>(Arrays.asList(memo.memberships()));
+        }
+
+        int start = this.visitOrder.size();
+        int lowestVisitedIndexFoundBefore = this.lowestVisitedIndexFound;
+        this.lowestVisitedIndexFound = Integer.MAX_VALUE;
+
         // Protected against infinite loop while iterating on imported/inherited elements
-        this.visited.add(self);
+        this.visit(self);
 
         NameConflictingFilter nameConflictingFilter = new NameConflictingFilter();
         List<Membership> directMemberships = self.getOwnedMembership().stream()
@@ -110,6 +151,7 @@ public class MembershipComputer<T extends Element> {
             visibleMemberships.addAll(recursiveMembers);
         }
 
+        this.endComputation(self, key, start, lowestVisitedIndexFoundBefore, visibleMemberships.toArray(Membership[]::new));
         return visibleMemberships;
     }
 
@@ -121,8 +163,20 @@ public class MembershipComputer<T extends Element> {
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <T extends Namespace> EList<Membership> inheritedMemberships(Type self) {
-        this.visited.add(self);
+        this.visit(self);
+
+        // Self is visited in any case, the memoized result does not depend on it
+        Memo memo = this.getMemo(self, INHERITED_MEMBERSHIPS_KEY);
+        if (memo != null && memo.isIndependentOf(this.visited)) {
+            memo.visitedElements().forEach(this::visit);
+            return (EList<Membership>) memo.value();
+        }
+
+        int start = this.visitOrder.size();
+        int lowestVisitedIndexFoundBefore = this.lowestVisitedIndexFound;
+        this.lowestVisitedIndexFound = Integer.MAX_VALUE;
 
         NameConflictingFilter namefilter = new NameConflictingFilter();
         namefilter.fillUsedNames(self.getOwnedMembership());
@@ -138,7 +192,7 @@ public class MembershipComputer<T extends Element> {
         List<Membership> generalMemberships = new BasicEList<>();
         for (Specialization specialization : self.getOwnedSpecialization()) {
             Type general = specialization.getGeneral();
-            if (general != null && !this.visited.contains(general)) {
+            if (general != null && !this.isVisited(general)) {
                 this.visibleMemberships(general, false, true, true).stream()
                         .filter(namefilter)
                         .forEach(generalMemberships::add);
@@ -158,7 +212,9 @@ public class MembershipComputer<T extends Element> {
                 // Also inherit protected memberships
                 .filter(rel -> rel.getVisibility() != VisibilityKind.PRIVATE)
                 .toArray(Membership[]::new);
-        return new EcoreEList.UnmodifiableEList<>((InternalEObject) self, SysmlPackage.eINSTANCE.getType_InheritedMembership(), data.length, data);
+        EList<Membership> inheritedMemberships = new EcoreEList.UnmodifiableEList<>((InternalEObject) self, SysmlPackage.eINSTANCE.getType_InheritedMembership(), data.length, data);
+        this.endComputation(self, INHERITED_MEMBERSHIPS_KEY, start, lowestVisitedIndexFoundBefore, inheritedMemberships);
+        return inheritedMemberships;
     }
 
     public EList<Membership> importedMemberships() {
@@ -191,7 +247,7 @@ public class MembershipComputer<T extends Element> {
                 if (!msImport.isIsRecursive() || !(member instanceof Namespace)) {
                     importedMemberships.add(membership);
                 } else if (member instanceof Namespace namespace) {
-                    if (!this.visited.contains(namespace)) {
+                    if (!this.isVisited(namespace)) {
                         importedMemberships.add(membership);
                         importedMemberships.addAll(this.visibleMemberships(namespace, msImport.isIsRecursive(), msImport.isIsImportAll(), false));
                     }
@@ -205,9 +261,69 @@ public class MembershipComputer<T extends Element> {
     private EList<Membership> importedMemberships(NamespaceImport self) {
         Namespace aImportedNamespace = self.getImportedNamespace();
         BasicEList<Membership> result = new BasicEList<>();
-        if (aImportedNamespace != null && !this.visited.contains(aImportedNamespace)) {
+        if (aImportedNamespace != null && !this.isVisited(aImportedNamespace)) {
             result.addAll(this.visibleMemberships(aImportedNamespace, self.isIsRecursive(), self.isIsImportAll(), false));
         }
         return result;
     }
+
+    private void visit(Element element) {
+        if (this.visited.putIfAbsent(element, this.visitOrder.size()) == null) {
+            this.visitOrder.add(element);
+        }
+    }
+
+    private boolean isVisited(Element element) {
+        Integer index = this.visited.get(element);
+        if (index != null) {
+            this.lowestVisitedIndexFound = Math.min(this.lowestVisitedIndexFound, index);
+        }
+        return index != null;
+    }
+
+    private int toIndex(boolean value) {
+        if (value) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private Memo getMemo(Element element, Object key) {
+        Memo memo = null;
+        if (element instanceof ElementImpl elementImpl && elementImpl.getCachedValue(this.modificationCount, key) instanceof Memo cachedMemo) {
+            memo = cachedMemo;
+        }
+        return memo;
+    }
+
+    /**
+     * Memoizes the result of the computation started when the given number of elements had been visited, if it does
+     * not depend on these elements.
+     */
+    private void endComputation(Element self, Object key, int start, int lowestVisitedIndexFoundBefore, Object value) {
+        if (this.lowestVisitedIndexFound >= start && self instanceof ElementImpl elementImpl) {
+            // The element computing its inherited memberships may have been visited before the computation started
+            List<Element> visitedElements = this.visitOrder.subList(start, this.visitOrder.size()).stream()
+                    .filter(element -> element != self || key != INHERITED_MEMBERSHIPS_KEY)
+                    .toList();
+            elementImpl.setCachedValue(this.modificationCount, key, new Memo(value, visitedElements));
+        }
+        this.lowestVisitedIndexFound = Math.min(lowestVisitedIndexFoundBefore, this.lowestVisitedIndexFound);
+    }
+
+    /**
+     * A memoized result, with the elements visited to compute it.
+     *
+     * @author Arthur Daussy
+     */
+    private record Memo(Object value, List<Element> visitedElements) {
+
+        Membership[] memberships() {
+            return (Membership[]) this.value;
+        }
+
+        boolean isIndependentOf(Map<Element, Integer> alreadyVisited) {
+            return this.visitedElements.stream().noneMatch(alreadyVisited::containsKey);
+        }
+    }
 }
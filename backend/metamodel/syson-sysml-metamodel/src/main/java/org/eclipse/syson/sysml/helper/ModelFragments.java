@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+
+/**
+ * Stores packages in their own resources, called fragments, while they stay owned by their namespace.
+ *
+ * <p>
+ * A fragment is a package contained by a resource and owned by an owning membership stored in another resource (the
+ * owned related elements of relationships support cross-resource containment). When the resource of the membership is
+ * saved, the package is saved as a proxy. Once loaded again, the package is only loaded with its fragment when it is
+ * accessed, for example when the members of its namespace are computed, a name is resolved in it or its subtree is
+ * visited. The models can then be loaded as they are used instead of all at once.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ModelFragments {
+
+    private ModelFragments() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Stores the given package in the given resource, the package stays owned by its membership.
+     *
+     * @param pack
+     *            a package owned by an owning membership
+     * @param fragmentResource
+     *            an empty resource, which should belong to the resource set of the package
+     * @return <code>true</code> if the package is now a fragment
+     */
+    public static boolean createFragment(Package pack, Resource fragmentResource) {
+        boolean created = false;
+        if (pack.eContainer() instanceof OwningMembership && fragmentResource.getContents().isEmpty()) {
+            fragmentResource.getContents().add(pack);
+            created = true;
+        }
+        return created;
+    }
+
+    /**
+     * Stores each package owned by a root namespace of the given resource in its own resource.
+     *
+     * @param resource
+     *            a resource
+     * @param resourceProvider
+     *            provides the empty resource of a package, which should belong to the resource set of the resource
+     * @return the resources of the new fragments
+     */
+    public static List<Resource> fragmentTopLevelPackages(Resource resource, Function<Package, Resource> resourceProvider) {
+        List<Resource> fragmentResources = new ArrayList<>();
+        for (EObject root : List.copyOf(resource.getContents())) {
+            if (root instanceof Namespace namespace) {
+                for (Element member : namespace.getOwnedMember()) {
+                    if (member instanceof Package pack && !isFragment(pack)) {
+                        Resource fragmentResource = resourceProvider.apply(pack);
+                        if (createFragment(pack, fragmentResource)) {
+                            fragmentResources.add(fragmentResource);
+                        }
+                    }
+                }
+            }
+        }
+        return fragmentResources;
+    }
+
+    /**
+     * Stores the given fragment in the resource of its owning membership again. Its former resource is left empty.
+     *
+     * @param pack
+     *            a fragment
+     */
+    public static void mergeFragment(Package pack) {
+        if (isFragment(pack)) {
+            ((InternalEObject) pack).eDirectResource().getContents().remove(pack);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the given element is stored in another resource than its owner.
+     *
+     * @param element
+     *            an element
+     * @return <code>true</code> if the element is a fragment
+     */
+    public static boolean isFragment(Element element) {
+        return element.eContainer() != null && ((InternalEObject) element).eDirectResource() != null;
+    }
+}
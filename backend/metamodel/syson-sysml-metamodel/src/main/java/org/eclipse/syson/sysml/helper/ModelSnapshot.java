@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.impl.ElementImpl;
+import org.eclipse.syson.sysml.util.SysmlResourceImpl;
+
+/**
+ * A read-only copy of the models of a resource set, taken in a consistent state, which can be read by several threads
+ * in parallel while the live models are modified.
+ *
+ * <p>
+ * The copies do not deliver notifications and their derived feature caches are frozen (see
+ * {@link DerivedFeatureCache#FROZEN}): the derived features computed on a snapshot are kept until it is dropped, the
+ * modifications of the live models do not invalidate them. The caches can be populated in parallel with
+ * {@link #populate()} before handing the snapshot over to its readers. A snapshot must never be modified.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ModelSnapshot {
+
+    private final ResourceSet resourceSet;
+
+    private final Map<EObject, EObject> copies;
+
+    private final List<Element> elements;
+
+    private final ModificationCounts liveCounts;
+
+    private final long modificationCount;
+
+    private ModelSnapshot(ResourceSet resourceSet, Map<EObject, EObject> copies, List<Element> elements, ModificationCounts liveCounts) {
+        this.resourceSet = resourceSet;
+        this.copies = copies;
+        this.elements = List.copyOf(elements);
+        this.liveCounts = liveCounts;
+        this.modificationCount = liveCounts.getContentModificationCount();
+    }
+
+    /**
+     * Copies the resources of the given resource set. The references between the copied resources target the copies,
+     * the other ones are kept. The library resources (see {@link SharedLibraries}) are never modified, they are not
+     * copied.
+     *
+     * @param liveResourceSet
+     *            the resource set containing the live models
+     * @return the snapshot of the models
+     */
+    public static ModelSnapshot take(ResourceSet liveResourceSet) {
+        EcoreUtil.Copier copier = new EcoreUtil.Copier() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected EObject createCopy(EObject eObject) {
+                EObject copy = super.createCopy(eObject);
+                // The initialization of the copies is not notified, they are only read afterwards
+                copy.eSetDeliver(false);
+                return copy;
+            }
+        };
+        ResourceSet snapshotResourceSet = new ResourceSetImpl();
+        for (Resource resource : liveResourceSet.getResources()) {
+            if (!SharedLibraries.isLibrary(resource)) {
+                Resource snapshotResource = new SysmlResourceImpl(resource.getURI());
+                snapshotResource.getContents().addAll(copier.copyAll(resource.getContents()));
+                snapshotResource.eSetDeliver(false);
+                snapshotResourceSet.getResources().add(snapshotResource);
+            }
+        }
+        copier.copyReferences();
+        // Created before the parallel reads of the snapshot, which would otherwise add them concurrently
+        ModificationCounts.of(snapshotResourceSet);
+
+        List<Element> elements = new ArrayList<>();
+        for (EObject copy : copier.values()) {
+            if (copy instanceof Element element) {
+                if (element instanceof ElementImpl elementImpl) {
+                    elementImpl.freezeCaches();
+                }
+                elements.add(element);
+            }
+        }
+        return new ModelSnapshot(snapshotResourceSet, copier, elements, ModificationCounts.of(liveResourceSet));
+    }
+
+    /**
+     * Computes in parallel the names of all the elements of the snapshot and the memberships of its namespaces, which
+     * are read by most of the services.
+     *
+     * @return this snapshot
+     */
+    public ModelSnapshot populate() {
+        this.elements.parallelStream().forEach(element -> {
+            element.getQualifiedName();
+            if (element instanceof Namespace namespace) {
+                namespace.getMembership();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Returns the resource set containing the copied resources.
+     *
+     * @return the resource set of the snapshot
+     */
+    public ResourceSet getResourceSet() {
+        return this.resourceSet;
+    }
+
+    /**
+     * Returns the elements of the snapshot.
+     *
+     * @return the copies of the elements of the live models
+     */
+    public Collection<Element> getElements() {
+        return this.elements;
+    }
+
+    /**
+     * Returns the copy of the given live object.
+     *
+     * @param <T>
+     *            the type of the object
+     * @param liveObject
+     *            an object contained in the live resource set
+     * @return the copy of the object, or <code>null</code> if it was not contained in the resource set when the
+     *         snapshot has been taken
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends EObject> T getCopy(T liveObject) {
+        return (T) this.copies.get(liveObject);
+    }
+
+    /**
+     * Returns <code>true</code> if the models have been modified since this snapshot has been taken.
+     *
+     * @return <code>true</code> if the snapshot may be outdated
+     */
+    public boolean isOutdated() {
+        return this.modificationCount != this.liveCounts.getContentModificationCount();
+    }
+}
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * The modification counts of the models of a {@link ResourceSet}, used to validate the values cached by its elements
+ * (see {@link DerivedFeatureCache}).
+ *
+ * <p>
+ * The counts are an adapter of the resource set: the modifications of the models of an editing context do not
+ * invalidate the caches of the other ones. The elements which are not contained in a resource set (e.g. while a model
+ * is built) share a single set of counts. The counts are stamps taken from a sequence shared by all the resource sets,
+ * so a value cached in a resource set is never considered valid in another one, even if the element is moved from
+ * one resource set to the other.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class ModificationCounts extends AdapterImpl {
+
+    private static final AtomicLong STAMPS = new AtomicLong();
+
+    /**
+     * Incremented to invalidate the counts of all the resource sets at once (see
+     * {@link DerivedFeatureCache#setEnabled(boolean)}).
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * The counts shared by the elements which are not contained in a resource set.
+     */
+    private static final ModificationCounts DETACHED_ELEMENTS = new ModificationCounts();
+
+    private volatile long generation = -1;
+
+    private volatile long modificationCount;
+
+    private volatile long contentModificationCount;
+
+    private volatile long namingModificationCount;
+
+    private volatile long hierarchyModificationCount;
+
+    private volatile long libraryModificationCount;
+
+    private ModificationCounts() {
+        this.refresh();
+    }
+
+    /**
+     * Returns the counts of the models containing the given object.
+     *
+     * @param eObject
+     *            an object
+     * @return the counts of its resource set, or the ones of the elements which are not in a resource set
+     */
+    public static ModificationCounts of(EObject eObject) {
+        ModificationCounts counts = DETACHED_ELEMENTS;
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            counts = of(resource.getResourceSet());
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the counts of the given resource set, they are created the first time they are requested.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the counts of the resource set
+     */
+    public static ModificationCounts of(ResourceSet resourceSet) {
+        ModificationCounts counts = findCounts(resourceSet);
+        if (counts == null) {
+            synchronized (resourceSet) {
+                counts = findCounts(resourceSet);
+                if (counts == null) {
+                    counts = new ModificationCounts();
+                    resourceSet.eAdapters().add(counts);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Invalidates the counts of all the resource sets, the modifications may not have been notified while the caches
+     * were disabled.
+     */
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    private static ModificationCounts findCounts(ResourceSet resourceSet) {
+        for (Object adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof ModificationCounts counts) {
+                return counts;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ModificationCounts.class;
+    }
+
+    /**
+     * Invalidates the values cached by all the elements of the models, this should be called after each modification
+     * which may change the derived features of the elements, mainly their memberships: the modifications of the owned
+     * relationships, member elements, imports, generals, original types and names.
+     */
+    public void modelChanged() {
+        long stamp = STAMPS.incrementAndGet();
+        this.modificationCount = stamp;
+        this.contentModificationCount = stamp;
+    }
+
+    /**
+     * Records a modification of the models which does not change the derived features of the elements, e.g. the value
+     * of a literal or the direction of a feature. The values cached by the elements are kept.
+     */
+    public void contentChanged() {
+        this.contentModificationCount = STAMPS.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the cached names of all the elements of the models, this should be called after each modification
+     * which may change the names of elements located outside of the subtree of the modified element (e.g. the rename
+     * of a feature, which gives its name to the features redefining it).
+     */
+    public void namesChanged() {
+        this.namingModificationCount = STAMPS.incrementAndGet();
+    }
+
+    /**
+     * Invalidates the type hierarchies of all the types of the models (see {@link TypeHierarchy}), this should be
+     * called after each modification of a specialization or a conjugation.
+     */
+    public void hierarchyChanged() {
+        this.hierarchyModificationCount = STAMPS.incrementAndGet();
+    }
+
+    /**
+     * Returns the current modification count, which identifies a state of the models.
+     *
+     * @return the current modification count
+     */
+    public long getModificationCount() {
+        this.refreshIfInvalidated();
+        return this.modificationCount;
+    }
+
+    /**
+     * Returns the current content modification count, which changes after each modification of the models, even if it
+     * does not change the values cached by the elements.
+     *
+     * @return the current content modification count
+     */
+    public long getContentModificationCount() {
+        this.refreshIfInvalidated();
+        return this.contentModificationCount;
+    }
+
+    /**
+     * Returns the current naming modification count, used to validate the caches of names.
+     *
+     * @return the current naming modification count
+     */
+    public long getNamingModificationCount() {
+        this.refreshIfInvalidated();
+        return this.namingModificationCount;
+    }
+
+    /**
+     * Returns the current hierarchy modification count, used to validate the type hierarchies.
+     *
+     * @return the current hierarchy modification count
+     */
+    public long getHierarchyModificationCount() {
+        this.refreshIfInvalidated();
+        return this.hierarchyModificationCount;
+    }
+
+    /**
+     * Returns the current library modification count, used to validate the library classification of the elements.
+     * The classifications are invalidated element by element, this count only changes when the counts of all the
+     * resource sets are invalidated.
+     *
+     * @return the current library modification count
+     */
+    public long getLibraryModificationCount() {
+        this.refreshIfInvalidated();
+        return this.libraryModificationCount;
+    }
+
+    private void refreshIfInvalidated() {
+        if (this.generation != GENERATION.get()) {
+            this.refresh();
+        }
+    }
+
+    private synchronized void refresh() {
+        long currentGeneration = GENERATION.get();
+        if (this.generation != currentGeneration) {
+            this.modificationCount = STAMPS.incrementAndGet();
+            this.contentModificationCount = this.modificationCount;
+            this.namingModificationCount = STAMPS.incrementAndGet();
+            this.hierarchyModificationCount = STAMPS.incrementAndGet();
+            this.libraryModificationCount = STAMPS.incrementAndGet();
+            this.generation = currentGeneration;
+        }
+    }
+}
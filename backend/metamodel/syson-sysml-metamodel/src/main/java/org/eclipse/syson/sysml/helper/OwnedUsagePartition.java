@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EcoreEList;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.Type;
+
+/**
+ * The usages owned through a feature membership by a definition or a usage, partitioned by kind.
+ *
+ * <p>
+ * The owned usages are classified in a single pass, each one being added to the partitions of all the kinds it
+ * conforms to (a part usage is also an item usage, an occurrence usage and a usage). The derived features
+ * <code>Definition::ownedX</code> and <code>Usage::nestedX</code> are views on these partitions.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class OwnedUsagePartition {
+
+    private static final Object[] NO_USAGES = new Object[0];
+
+    /**
+     * The kinds of usages, i.e. the types of the <code>Usage::nestedX</code> features, which are also the types of the
+     * <code>Definition::ownedX</code> features.
+     */
+    private static final List<EClass> KINDS = SysmlPackage.eINSTANCE.getUsage().getEReferences().stream()
+            .filter(reference -> reference.getName().startsWith("nested"))
+            .map(EReference::getEReferenceType)
+            .distinct()
+            .toList();
+
+    /**
+     * The kinds each class of usage conforms to.
+     */
+    private static final Map<EClass, List<EClass>> KINDS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final Map<EClass, Object[]> usagesByKind;
+
+    private OwnedUsagePartition(Map<EClass, Object[]> usagesByKind) {
+        this.usagesByKind = usagesByKind;
+    }
+
+    /**
+     * Classifies the usages owned by the given type.
+     *
+     * @param owner
+     *            a definition or a usage
+     * @return the partition of its owned usages
+     */
+    public static OwnedUsagePartition compute(Type owner) {
+        Map<EClass, List<Element>> usagesByKind = new HashMap<>();
+        for (Relationship relationship : owner.getOwnedRelationship()) {
+            if (relationship instanceof FeatureMembership) {
+                for (Element ownedElement : relationship.getOwnedRelatedElement()) {
+                    for (EClass kind : KINDS_BY_CLASS.computeIfAbsent(ownedElement.eClass(), OwnedUsagePartition::computeKinds)) {
+                        usagesByKind.computeIfAbsent(kind, key -> new ArrayList<>()).add(ownedElement);
+                    }
+                }
+            }
+        }
+        Map<EClass, Object[]> partition = new HashMap<>();
+        usagesByKind.forEach((kind, usages) -> partition.put(kind, usages.toArray()));
+        return new OwnedUsagePartition(partition);
+    }
+
+    private static List<EClass> computeKinds(EClass eClass) {
+        return KINDS.stream()
+                .filter(kind -> kind.isSuperTypeOf(eClass))
+                .toList();
+    }
+
+    /**
+     * Returns the owned usages of the type of the given derived feature.
+     *
+     * @param <T>
+     *            the type of the usages
+     * @param owner
+     *            the definition or usage owning the usages
+     * @param feature
+     *            a <code>Definition::ownedX</code> or a <code>Usage::nestedX</code> feature
+     * @return an unmodifiable list of usages
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EList<T> get(InternalEObject owner, EReference feature) {
+        Object[] usages = this.usagesByKind.getOrDefault(feature.getEReferenceType(), NO_USAGES);
+        return (EList<T>) new EcoreEList.UnmodifiableEList<>(owner, feature, usages.length, usages);
+    }
+}
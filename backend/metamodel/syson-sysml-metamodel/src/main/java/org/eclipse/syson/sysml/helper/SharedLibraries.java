@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.ResourceContents;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.eclipse.syson.sysml.impl.ElementImpl;
+
+/**
+ * The read-only library resources of a resource set, whose elements can be found by name, class or identifier without
+ * reading all the libraries.
+ *
+ * <p>
+ * The libraries are an adapter of their resource set, and their resources are regular resources of the resource set:
+ * they are listed with the other resources and their elements are found by their URI fragments. The standard libraries
+ * are registered in each resource set from a {@link LibrarySnapshot} parsed once: only the immutable snapshot, the
+ * {@link LibrarySymbolTable symbols} and the strings of the libraries (see {@link LibraryCompactor}) are shared by the
+ * resource sets, each resource set reads its own library objects, which are only accessed with its thread and its
+ * adapters.
+ * </p>
+ *
+ * <p>
+ * The library resources must never be modified. The caches of their elements are frozen (see
+ * {@link DerivedFeatureCache#FROZEN}), their derived features are only computed once.
+ * </p>
+ *
+ * <p>
+ * The library resources registered from a snapshot can be pending: they are only read when they are first accessed.
+ * Their references are then resolved, which may read the libraries they depend on, and their elements are indexed. The
+ * symbols and the contents of all the libraries are known from the start, the lookups by name, class or identifier only
+ * read the libraries which contain the matching elements, named or not.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class SharedLibraries extends AdapterImpl {
+
+    private final List<Resource> resources;
+
+    private final Map<URI, Resource> resourcesByURI = new HashMap<>();
+
+    /**
+     * The snapshots of the resources registered from a snapshot, whose identifier tables locate their objects.
+     */
+    private final Set<LibrarySnapshot> snapshots = new LinkedHashSet<>();
+
+    /**
+     * The resources which have not been registered from a snapshot, their objects are looked for in each of them.
+     */
+    private final List<Resource> resourcesWithoutSnapshot = new ArrayList<>();
+
+    private final LibrarySymbolTable symbolTable;
+
+    private final Consumer<Resource> libraryInitializer;
+
+    private final Map<String, Element> elementsById = new HashMap<>();
+
+    private final Map<EClass, List<Element>> elementsByEClass = new HashMap<>();
+
+    private SharedLibraries(List<Resource> resources, LibrarySymbolTable symbolTable, Consumer<Resource> libraryInitializer) {
+        this.resources = List.copyOf(resources);
+        this.symbolTable = Objects.requireNonNull(symbolTable);
+        this.libraryInitializer = Objects.requireNonNull(libraryInitializer);
+        for (Resource resource : this.resources) {
+            this.resourcesByURI.putIfAbsent(resource.getURI(), resource);
+            LibrarySnapshot snapshot = LibrarySnapshot.getSnapshot(resource);
+            if (snapshot != null) {
+                this.snapshots.add(snapshot);
+            } else {
+                this.resourcesWithoutSnapshot.add(resource);
+            }
+        }
+    }
+
+    /**
+     * Registers all the resources of the given resource set as its libraries, the loaded ones should be resolved.
+     *
+     * @param resourceSet
+     *            a resource set without libraries, containing the library resources
+     * @return the libraries of the resource set
+     */
+    public static SharedLibraries register(ResourceSet resourceSet) {
+        List<Symbol> symbols = new ArrayList<>();
+        List<ResourceContents> contents = new ArrayList<>();
+        for (Resource resource : resourceSet.getResources()) {
+            if (LibrarySnapshot.isPending(resource)) {
+                symbols.addAll(LibrarySnapshot.getSymbols(resource));
+                contents.add(LibrarySnapshot.getContents(resource));
+            } else {
+                symbols.addAll(LibrarySymbolTable.computeSymbols(resource));
+                contents.add(LibrarySymbolTable.computeContents(resource));
+            }
+        }
+        return register(resourceSet, resourceSet.getResources(), new LibrarySymbolTable(symbols, contents), resource -> {
+            // Nothing to initialize
+        });
+    }
+
+    /**
+     * Registers the given resources of the given resource set as its libraries, the loaded ones should be resolved.
+     *
+     * @param resourceSet
+     *            a resource set without libraries
+     * @param resources
+     *            the library resources, already added to the resource set
+     * @param symbolTable
+     *            the symbols and the contents of the library resources
+     * @param libraryInitializer
+     *            initializes each library resource once it is loaded and indexed
+     * @return the libraries of the resource set
+     */
+    public static SharedLibraries register(ResourceSet resourceSet, List<Resource> resources, LibrarySymbolTable symbolTable, Consumer<Resource> libraryInitializer) {
+        SharedLibraries sharedLibraries = new SharedLibraries(resources, symbolTable, libraryInitializer);
+        resourceSet.eAdapters().add(sharedLibraries);
+        for (Resource resource : sharedLibraries.resources) {
+            if (LibrarySnapshot.isPending(resource)) {
+                resource.eAdapters().add(sharedLibraries);
+            } else {
+                sharedLibraries.libraryLoaded(resource);
+            }
+        }
+        return sharedLibraries;
+    }
+
+    /**
+     * Returns the libraries of the given resource set.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the libraries, or <code>null</code> if there are none
+     */
+    public static SharedLibraries getSharedLibraries(ResourceSet resourceSet) {
+        SharedLibraries sharedLibraries = null;
+        for (Object adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof SharedLibraries libraries) {
+                sharedLibraries = libraries;
+                break;
+            }
+        }
+        return sharedLibraries;
+    }
+
+    /**
+     * Checks whether the given resource is one of the libraries of its resource set.
+     *
+     * @param resource
+     *            a resource
+     * @return <code>true</code> if the resource is a library resource
+     */
+    public static boolean isLibrary(Resource resource) {
+        SharedLibraries sharedLibraries = null;
+        if (resource.getResourceSet() != null) {
+            sharedLibraries = getSharedLibraries(resource.getResourceSet());
+        }
+        return sharedLibraries != null && sharedLibraries.resourcesByURI.get(resource.getURI()) == resource;
+    }
+
+    /**
+     * Returns the library resources.
+     *
+     * @return the library resources
+     */
+    public List<Resource> getResources() {
+        return this.resources;
+    }
+
+    /**
+     * Returns the symbols of the libraries.
+     *
+     * @return the symbol table of the libraries
+     */
+    public LibrarySymbolTable getSymbolTable() {
+        return this.symbolTable;
+    }
+
+    /**
+     * Returns the library element with the given identifier, named or not. Only the pending library containing the
+     * element is read if needed.
+     *
+     * @param elementId
+     *            the identifier of an element
+     * @return the element, or <code>null</code> if there is none
+     */
+    public Element getElement(String elementId) {
+        Element element = this.elementsById.get(elementId);
+        if (element == null) {
+            Resource resource = this.getPendingResource(this.symbolTable.getResourceURI(elementId));
+            if (resource != null) {
+                resource.getContents();
+                element = this.elementsById.get(elementId);
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Returns the library element of the given symbol, its library is read if it is pending.
+     *
+     * @param symbol
+     *            the symbol of a library element
+     * @return the element, or <code>null</code> if the symbol does not belong to these libraries
+     */
+    public EObject getElement(Symbol symbol) {
+        EObject element = null;
+        Resource resource = this.resourcesByURI.get(symbol.resourceURI());
+        if (resource != null) {
+            element = resource.getEObject(symbol.fragment());
+        }
+        return element;
+    }
+
+    /**
+     * Returns the library object with the given URI fragment, as used by the identifiers of the library objects. Only
+     * the library containing the object is read, the pending libraries do not look for the unknown fragments.
+     *
+     * @param fragment
+     *            the URI fragment of an object in its library resource
+     * @return the object, or <code>null</code> if there is none
+     */
+    public EObject getEObject(String fragment) {
+        EObject eObject = null;
+        Resource snapshotResource = this.getSnapshotResource(fragment);
+        if (snapshotResource != null) {
+            eObject = snapshotResource.getEObject(fragment);
+        }
+        for (Resource resource : this.resourcesWithoutSnapshot) {
+            if (eObject == null) {
+                eObject = resource.getEObject(fragment);
+            }
+        }
+        return eObject;
+    }
+
+    /**
+     * Returns <code>true</code> if these libraries have an object with the given URI fragment, without reading the
+     * pending libraries.
+     *
+     * @param fragment
+     *            the URI fragment of an object in its library resource
+     * @return <code>true</code> if {@link #getEObject(String)} finds an object with this fragment
+     */
+    public boolean containsEObject(String fragment) {
+        boolean containsEObject = this.getSnapshotResource(fragment) != null;
+        for (Resource resource : this.resourcesWithoutSnapshot) {
+            containsEObject = containsEObject || resource.getEObject(fragment) != null;
+        }
+        return containsEObject;
+    }
+
+    /**
+     * Returns the library elements which are direct instances of the given class, named or not. Only the pending
+     * libraries containing elements of the class are read.
+     *
+     * @param eClass
+     *            a SysML class
+     * @return the elements of the class
+     */
+    public List<Element> getElements(EClass eClass) {
+        for (URI resourceURI : this.symbolTable.getResourceURIs(eClass)) {
+            Resource resource = this.getPendingResource(resourceURI);
+            if (resource != null) {
+                resource.getContents();
+            }
+        }
+        return List.copyOf(this.elementsByEClass.getOrDefault(eClass, List.of()));
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        if (notification.getNotifier() instanceof Resource resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED
+                && notification.getNewBooleanValue() && this.resourcesByURI.get(resource.getURI()) == resource) {
+            resource.eAdapters().remove(this);
+            // The pending library has just been read
+            EMFUtils.resolveAllNonDerived(resource);
+            LibrarySnapshot.getCompactor(resource).compact(resource);
+            this.libraryLoaded(resource);
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return SharedLibraries.class.equals(type);
+    }
+
+    @Override
+    public Notifier getTarget() {
+        // The libraries are shared by the resource set and its pending library resources
+        return null;
+    }
+
+    @Override
+    public void setTarget(Notifier newTarget) {
+        // The libraries are shared by the resource set and its pending library resources
+    }
+
+    @Override
+    public void unsetTarget(Notifier oldTarget) {
+        // The libraries are shared by the resource set and its pending library resources
+    }
+
+    private Resource getPendingResource(URI resourceURI) {
+        Resource resource = null;
+        if (resourceURI != null) {
+            resource = this.resourcesByURI.get(resourceURI);
+        }
+        if (resource != null && !LibrarySnapshot.isPending(resource)) {
+            resource = null;
+        }
+        return resource;
+    }
+
+    private Resource getSnapshotResource(String fragment) {
+        Resource resource = null;
+        for (LibrarySnapshot snapshot : this.snapshots) {
+            URI resourceURI = snapshot.getResourceURI(fragment);
+            if (resource == null && resourceURI != null) {
+                resource = this.resourcesByURI.get(resourceURI);
+            }
+        }
+        return resource;
+    }
+
+    private void libraryLoaded(Resource resource) {
+        TreeIterator<EObject> contents = resource.getAllContents();
+        while (contents.hasNext()) {
+            if (contents.next() instanceof Element element) {
+                if (element instanceof ElementImpl elementImpl) {
+                    elementImpl.freezeCaches();
+                }
+                if (element.getElementId() != null) {
+                    this.elementsById.putIfAbsent(element.getElementId(), element);
+                }
+                this.elementsByEClass.computeIfAbsent(element.eClass(), eClass -> new ArrayList<>()).add(element);
+            }
+        }
+        this.libraryInitializer.accept(resource);
+    }
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.syson.sysml.Conjugation;
+import org.eclipse.syson.sysml.Specialization;
+import org.eclipse.syson.sysml.Type;
+
+/**
+ * Transitive closure of the specializations and conjugations of a type, i.e. the type itself and all its direct and
+ * indirect supertypes.
+ *
+ * <p>
+ * The closure of a type is computed from the closures of its supertypes when they are already known, so that each
+ * type of a hierarchy (the standard library hierarchy included) is only walked once. The closures are only valid until
+ * the next modification of a specialization or a conjugation (see
+ * {@link ModificationCounts#getHierarchyModificationCount()}), other modifications of the models do not change them.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class TypeHierarchy {
+
+    private final Type type;
+
+    private final long modificationCount;
+
+    private final EList<Type> allSupertypes;
+
+    private final Set<Type> allSupertypesSet;
+
+    private TypeHierarchy(Type type, long modificationCount, List<Type> allSupertypes, Set<Type> allSupertypesSet) {
+        this.type = type;
+        this.modificationCount = modificationCount;
+        this.allSupertypes = new BasicEList.UnmodifiableEList<>(allSupertypes.size(), allSupertypes.toArray());
+        this.allSupertypesSet = allSupertypesSet;
+    }
+
+    /**
+     * Computes the closure of the given type.
+     *
+     * @param type
+     *            a type
+     * @param knownHierarchies
+     *            returns the closure of a type if it is already known and valid, <code>null</code> otherwise
+     * @return the closure of the type
+     */
+    public static TypeHierarchy compute(Type type, Function<Type, TypeHierarchy> knownHierarchies) {
+        long modificationCount = ModificationCounts.of(type).getHierarchyModificationCount();
+        List<Type> allSupertypes = new ArrayList<>();
+        Set<Type> allSupertypesSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        allSupertypes.add(type);
+        allSupertypesSet.add(type);
+
+        Deque<Type> typesToExpand = new ArrayDeque<>();
+        typesToExpand.add(type);
+        while (!typesToExpand.isEmpty()) {
+            for (Type supertype : getSupertypes(typesToExpand.poll())) {
+                if (allSupertypesSet.add(supertype)) {
+                    allSupertypes.add(supertype);
+                    TypeHierarchy knownHierarchy = knownHierarchies.apply(supertype);
+                    if (knownHierarchy != null) {
+                        // The supertypes of this supertype are already known, there is no need to walk them again
+                        knownHierarchy.getAllSupertypes().stream()
+                                .filter(allSupertypesSet::add)
+                                .forEach(allSupertypes::add);
+                    } else {
+                        typesToExpand.add(supertype);
+                    }
+                }
+            }
+        }
+        return new TypeHierarchy(type, modificationCount, allSupertypes, allSupertypesSet);
+    }
+
+    /**
+     * Returns the direct supertypes of the given type: the original type of its conjugator if it is conjugated, the
+     * general types of its owned specializations otherwise.
+     *
+     * @param type
+     *            a type
+     * @return the direct supertypes of the type
+     */
+    public static List<Type> getSupertypes(Type type) {
+        List<Type> supertypes = new ArrayList<>();
+        Conjugation conjugator = type.getOwnedConjugator();
+        if (conjugator != null) {
+            if (conjugator.getOriginalType() != null) {
+                supertypes.add(conjugator.getOriginalType());
+            }
+        } else {
+            for (Specialization specialization : type.getOwnedSpecialization()) {
+                Type general = specialization.getGeneral();
+                if (general != null) {
+                    supertypes.add(general);
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    /**
+     * Returns <code>true</code> if this closure has been computed since the last modification of a specialization or a
+     * conjugation in the resource set of its type.
+     *
+     * @return <code>true</code> if this closure can still be used
+     */
+    public boolean isValid() {
+        return DerivedFeatureCache.isEnabled() && this.modificationCount == ModificationCounts.of(this.type).getHierarchyModificationCount();
+    }
+
+    /**
+     * Returns the type and all its direct and indirect supertypes, the type first.
+     *
+     * @return an unmodifiable list of types
+     */
+    public EList<Type> getAllSupertypes() {
+        return this.allSupertypes;
+    }
+
+    /**
+     * Returns <code>true</code> if the type is the given type or specializes it directly or indirectly.
+     *
+     * @param supertype
+     *            a type
+     * @return <code>true</code> if the given type is in this closure
+     */
+    public boolean specializes(Type supertype) {
+        return this.allSupertypesSet.contains(supertype);
+    }
+}
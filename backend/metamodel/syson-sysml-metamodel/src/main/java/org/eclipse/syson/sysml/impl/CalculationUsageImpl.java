@@ -26,6 +26,7 @@ import org.eclipse.syson.sysml.Expression;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.Function;
 import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.CompiledExpression;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Calculation Usage</b></em>'. <!-- end-user-doc
@@ -157,19 +158,17 @@ public class CalculationUsageImpl extends ActionUsageImpl implements Calculation
      */
     @Override
     public boolean checkCondition(Element target) {
-        return false;
+        return CompiledExpression.of(this).checkCondition(target);
     }
 
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Element> evaluate(Element target) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        return CompiledExpression.of(this).evaluate(target);
     }
 
     /**
@@ -111,6 +111,13 @@ public class ConjugatedPortDefinitionImpl extends PortDefinitionImpl implements
      */
     @Override
     public String effectiveName() {
+        return this.getCachedName(SysmlPackage.eINSTANCE.getElement_Name(), ConjugatedPortDefinitionImpl::computeEffectiveName);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private String computeEffectiveName() {
         PortDefinition portDef = this.getOriginalPortDefinition();
         if (portDef != null && portDef.getName() != null) {
             return "~" + portDef.getName();
@@ -33,6 +33,7 @@ import org.eclipse.syson.sysml.RequirementConstraintMembership;
 import org.eclipse.syson.sysml.Step;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.helper.CompiledExpression;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Constraint Usage</b></em>'. <!-- end-user-doc
@@ -212,19 +213,17 @@ public class ConstraintUsageImpl extends OccurrenceUsageImpl implements Constrai
      */
     @Override
     public boolean checkCondition(Element target) {
-        return false;
+        return CompiledExpression.of(this).checkCondition(target);
     }
 
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Element> evaluate(Element target) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        return CompiledExpression.of(this).evaluate(target);
     }
 
     /**
@@ -32,7 +32,6 @@ import org.eclipse.syson.sysml.ConnectorAsUsage;
 import org.eclipse.syson.sysml.ConstraintUsage;
 import org.eclipse.syson.sysml.Definition;
 import org.eclipse.syson.sysml.EnumerationUsage;
-import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.FlowConnectionUsage;
 import org.eclipse.syson.sysml.InterfaceUsage;
 import org.eclipse.syson.sysml.ItemUsage;
@@ -178,15 +177,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ActionUsage> getOwnedAction() {
-        List<ActionUsage> actions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ActionUsage.class::isInstance)
-                .map(ActionUsage.class::cast)
-                .forEach(actions::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedAction(), actions.size(), actions.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedAction());
     }
 
     /**
@@ -196,15 +187,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<AllocationUsage> getOwnedAllocation() {
-        List<AllocationUsage> allocations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AllocationUsage.class::isInstance)
-                .map(AllocationUsage.class::cast)
-                .forEach(allocations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedAllocation(), allocations.size(), allocations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedAllocation());
     }
 
     /**
@@ -214,15 +197,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<AnalysisCaseUsage> getOwnedAnalysisCase() {
-        List<AnalysisCaseUsage> analysisCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AnalysisCaseUsage.class::isInstance)
-                .map(AnalysisCaseUsage.class::cast)
-                .forEach(analysisCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedAnalysisCase(), analysisCases.size(), analysisCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedAnalysisCase());
     }
 
     /**
@@ -232,15 +207,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<AttributeUsage> getOwnedAttribute() {
-        List<AttributeUsage> attributes = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AttributeUsage.class::isInstance)
-                .map(AttributeUsage.class::cast)
-                .forEach(attributes::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedAttribute(), attributes.size(), attributes.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedAttribute());
     }
 
     /**
@@ -250,15 +217,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<CalculationUsage> getOwnedCalculation() {
-        List<CalculationUsage> calculations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(CalculationUsage.class::isInstance)
-                .map(CalculationUsage.class::cast)
-                .forEach(calculations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedCalculation(), calculations.size(), calculations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedCalculation());
     }
 
     /**
@@ -268,15 +227,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<CaseUsage> getOwnedCase() {
-        List<CaseUsage> cases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(CaseUsage.class::isInstance)
-                .map(CaseUsage.class::cast)
-                .forEach(cases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedCase(), cases.size(), cases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedCase());
     }
 
     /**
@@ -286,15 +237,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ConcernUsage> getOwnedConcern() {
-        List<ConcernUsage> concerns = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ConcernUsage.class::isInstance)
-                .map(ConcernUsage.class::cast)
-                .forEach(concerns::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedConcern(), concerns.size(), concerns.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedConcern());
     }
 
     /**
@@ -304,15 +247,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ConnectorAsUsage> getOwnedConnection() {
-        List<ConnectorAsUsage> connections = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ConnectorAsUsage.class::isInstance)
-                .map(ConnectorAsUsage.class::cast)
-                .forEach(connections::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedConnection(), connections.size(), connections.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedConnection());
     }
 
     /**
@@ -322,15 +257,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ConstraintUsage> getOwnedConstraint() {
-        List<ConstraintUsage> constraints = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ConstraintUsage.class::isInstance)
-                .map(ConstraintUsage.class::cast)
-                .forEach(constraints::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedConstraint(), constraints.size(), constraints.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedConstraint());
     }
 
     /**
@@ -340,15 +267,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<EnumerationUsage> getOwnedEnumeration() {
-        List<EnumerationUsage> enumerations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(EnumerationUsage.class::isInstance)
-                .map(EnumerationUsage.class::cast)
-                .forEach(enumerations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedEnumeration(), enumerations.size(), enumerations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedEnumeration());
     }
 
     /**
@@ -358,15 +277,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<FlowConnectionUsage> getOwnedFlow() {
-        List<FlowConnectionUsage> flows = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(FlowConnectionUsage.class::isInstance)
-                .map(FlowConnectionUsage.class::cast)
-                .forEach(flows::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedFlow(), flows.size(), flows.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedFlow());
     }
 
     /**
@@ -376,15 +287,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<InterfaceUsage> getOwnedInterface() {
-        List<InterfaceUsage> interfaces = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(InterfaceUsage.class::isInstance)
-                .map(InterfaceUsage.class::cast)
-                .forEach(interfaces::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedInterface(), interfaces.size(), interfaces.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedInterface());
     }
 
     /**
@@ -394,15 +297,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ItemUsage> getOwnedItem() {
-        List<ItemUsage> ownedItems = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ItemUsage.class::isInstance)
-                .map(ItemUsage.class::cast)
-                .forEach(ownedItems::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedItem(), ownedItems.size(), ownedItems.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedItem());
     }
 
     /**
@@ -412,15 +307,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<MetadataUsage> getOwnedMetadata() {
-        List<MetadataUsage> metadatas = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(MetadataUsage.class::isInstance)
-                .map(MetadataUsage.class::cast)
-                .forEach(metadatas::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedMetadata(), metadatas.size(), metadatas.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedMetadata());
     }
 
     /**
@@ -430,15 +317,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<OccurrenceUsage> getOwnedOccurrence() {
-        List<OccurrenceUsage> occurences = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(OccurrenceUsage.class::isInstance)
-                .map(OccurrenceUsage.class::cast)
-                .forEach(occurences::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedOccurrence(), occurences.size(), occurences.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedOccurrence());
     }
 
     /**
@@ -448,15 +327,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<PartUsage> getOwnedPart() {
-        List<PartUsage> omnedParts = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(PartUsage.class::isInstance)
-                .map(PartUsage.class::cast)
-                .forEach(omnedParts::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedPart(), omnedParts.size(), omnedParts.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedPart());
     }
 
     /**
@@ -466,15 +337,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<PortUsage> getOwnedPort() {
-        List<PortUsage> ownedPorts = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(PortUsage.class::isInstance)
-                .map(PortUsage.class::cast)
-                .forEach(ownedPorts::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedPort(), ownedPorts.size(), ownedPorts.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedPort());
     }
 
     /**
@@ -484,15 +347,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ReferenceUsage> getOwnedReference() {
-        List<ReferenceUsage> references = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ReferenceUsage.class::isInstance)
-                .map(ReferenceUsage.class::cast)
-                .forEach(references::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedReference(), references.size(), references.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedReference());
     }
 
     /**
@@ -502,15 +357,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<RenderingUsage> getOwnedRendering() {
-        List<RenderingUsage> renderings = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(RenderingUsage.class::isInstance)
-                .map(RenderingUsage.class::cast)
-                .forEach(renderings::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedRendering(), renderings.size(), renderings.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedRendering());
     }
 
     /**
@@ -520,15 +367,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<RequirementUsage> getOwnedRequirement() {
-        List<RequirementUsage> requirements = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(RequirementUsage.class::isInstance)
-                .map(RequirementUsage.class::cast)
-                .forEach(requirements::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedRequirement(), requirements.size(), requirements.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedRequirement());
     }
 
     /**
@@ -538,15 +377,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<StateUsage> getOwnedState() {
-        List<StateUsage> states = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(StateUsage.class::isInstance)
-                .map(StateUsage.class::cast)
-                .forEach(states::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedState(), states.size(), states.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedState());
     }
 
     /**
@@ -556,15 +387,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<TransitionUsage> getOwnedTransition() {
-        List<TransitionUsage> transitions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(TransitionUsage.class::isInstance)
-                .map(TransitionUsage.class::cast)
-                .forEach(transitions::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedTransition(), transitions.size(), transitions.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedTransition());
     }
 
     /**
@@ -574,15 +397,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<Usage> getOwnedUsage() {
-        List<Usage> usages = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(Usage.class::isInstance)
-                .map(Usage.class::cast)
-                .forEach(usages::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedUsage(), usages.size(), usages.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedUsage());
     }
 
     /**
@@ -592,15 +407,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<UseCaseUsage> getOwnedUseCase() {
-        List<UseCaseUsage> useCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(UseCaseUsage.class::isInstance)
-                .map(UseCaseUsage.class::cast)
-                .forEach(useCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedUseCase(), useCases.size(), useCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedUseCase());
     }
 
     /**
@@ -610,15 +417,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<VerificationCaseUsage> getOwnedVerificationCase() {
-        List<VerificationCaseUsage> verificationCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(VerificationCaseUsage.class::isInstance)
-                .map(VerificationCaseUsage.class::cast)
-                .forEach(verificationCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedVerificationCase(), verificationCases.size(), verificationCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedVerificationCase());
     }
 
     /**
@@ -628,15 +427,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ViewUsage> getOwnedView() {
-        List<ViewUsage> views = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ViewUsage.class::isInstance)
-                .map(ViewUsage.class::cast)
-                .forEach(views::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedView(), views.size(), views.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedView());
     }
 
     /**
@@ -646,15 +437,7 @@ public class DefinitionImpl extends ClassifierImpl implements Definition {
      */
     @Override
     public EList<ViewpointUsage> getOwnedViewpoint() {
-        List<ViewpointUsage> viewpoints = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ViewpointUsage.class::isInstance)
-                .map(ViewpointUsage.class::cast)
-                .forEach(viewpoints::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getDefinition_OwnedViewpoint(), viewpoints.size(), viewpoints.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getDefinition_OwnedViewpoint());
     }
 
     /**
@@ -13,33 +13,58 @@
 package org.eclipse.syson.sysml.impl;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.NotificationChain;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.impl.MinimalEObjectImpl;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
 import org.eclipse.emf.ecore.util.EObjectContainmentWithInverseEList;
 import org.eclipse.emf.ecore.util.EcoreEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.syson.sysml.Annotation;
+import org.eclipse.syson.sysml.Conjugation;
 import org.eclipse.syson.sysml.Documentation;
 import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.LibraryPackage;
 import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PortConjugation;
+import org.eclipse.syson.sysml.PortDefinition;
+import org.eclipse.syson.sysml.Redefinition;
+import org.eclipse.syson.sysml.ReferenceSubsetting;
 import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.Specialization;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.TextualRepresentation;
+import org.eclipse.syson.sysml.TransitionUsage;
+import org.eclipse.syson.sysml.helper.CompiledExpression;
+import org.eclipse.syson.sysml.helper.DerivedFeatureCache;
+import org.eclipse.syson.sysml.helper.GlobalNameIndex;
+import org.eclipse.syson.sysml.helper.InverseReferenceIndex;
+import org.eclipse.syson.sysml.helper.ModificationCounts;
 import org.eclipse.syson.sysml.helper.NameHelper;
-import org.eclipse.syson.sysml.util.ElementUtil;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Element</b></em>'. <!-- end-user-doc -->
@@ -170,6 +195,31 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     protected static final boolean IS_LIBRARY_ELEMENT_EDEFAULT = false;
 
+    /**
+     * The value of {@link #libraryNamespaceCount} when the library namespace has not been computed. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private static final long UNKNOWN_LIBRARY_NAMESPACE = -1;
+
+    /**
+     * The attributes used to compute the memberships of the namespaces, the modifications of the other attributes do
+     * not invalidate the derived features cached by the elements (see {@link #isMembershipChange(Object)}). <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private static final Set<EAttribute> MEMBERSHIP_ATTRIBUTES = Set.of(
+            SysmlPackage.eINSTANCE.getElement_DeclaredName(),
+            SysmlPackage.eINSTANCE.getElement_DeclaredShortName(),
+            SysmlPackage.eINSTANCE.getMembership_MemberName(),
+            SysmlPackage.eINSTANCE.getMembership_MemberShortName(),
+            SysmlPackage.eINSTANCE.getMembership_Visibility(),
+            SysmlPackage.eINSTANCE.getImport_Visibility(),
+            SysmlPackage.eINSTANCE.getImport_IsImportAll(),
+            SysmlPackage.eINSTANCE.getImport_IsRecursive());
+
     /**
      * The default value of the '{@link #getName() <em>Name</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc
      * -->
@@ -210,6 +260,48 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     protected EList<Relationship> ownedRelationship;
 
+    /**
+     * The values of the derived features of this element which have already been computed in the current state of the
+     * models. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile DerivedFeatureCache derivedFeatureCache = DerivedFeatureCache.EMPTY;
+
+    /**
+     * The names of this element which have already been computed since the last modification of the names. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile DerivedFeatureCache namingCache = DerivedFeatureCache.EMPTY;
+
+    /**
+     * The compiled form of the expression or function body rooted on this element, dropped when its subtree is
+     * modified. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile CompiledExpression compiledExpression;
+
+    /**
+     * The library namespace of this element (see {@link #libraryNamespace()}), valid while
+     * {@link #libraryNamespaceCount} is the current library modification count. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile Namespace cachedLibraryNamespace;
+
+    /**
+     * The library modification count in which {@link #cachedLibraryNamespace} has been computed, or
+     * {@link #UNKNOWN_LIBRARY_NAMESPACE}. It is dropped when this element or one of its ancestors is moved. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile long libraryNamespaceCount = UNKNOWN_LIBRARY_NAMESPACE;
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -360,7 +452,7 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public boolean isIsLibraryElement() {
-        return ElementUtil.isFromLibrary(this, false);
+        return this.libraryNamespace() != null;
     }
 
     /**
@@ -397,6 +489,13 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public EList<Element> getOwnedElement() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getElement_OwnedElement(), ElementImpl::computeOwnedElement);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Element> computeOwnedElement() {
         List<Element> ownedElement = new ArrayList<>();
         this.getOwnedRelationship().stream()
                 .flatMap(fm -> fm.getOwnedRelatedElement().stream())
@@ -554,6 +653,13 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public String getQualifiedName() {
+        return this.getCachedName(SysmlPackage.eINSTANCE.getElement_QualifiedName(), ElementImpl::computeQualifiedName);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private String computeQualifiedName() {
         String selfName = NameHelper.toPrintableName(this.getName());
         if (selfName.isBlank()) {
             return null;
@@ -651,11 +757,39 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
      */
     @Override
     public Namespace libraryNamespace() {
-        Relationship owningRelationship = this.getOwningRelationship();
-        if (owningRelationship != null) {
-            return owningRelationship.libraryNamespace();
+        Namespace libraryNamespace;
+        if (DerivedFeatureCache.isEnabled()) {
+            ModificationCounts counts = ModificationCounts.of(this);
+            long libraryModificationCount = counts.getLibraryModificationCount();
+            if (this.libraryNamespaceCount == libraryModificationCount) {
+                libraryNamespace = this.cachedLibraryNamespace;
+            } else {
+                long modificationCount = counts.getModificationCount();
+                libraryNamespace = this.computeLibraryNamespace();
+                // Do not keep a library namespace if the models have been modified during its computation
+                if (modificationCount == counts.getModificationCount()) {
+                    this.cachedLibraryNamespace = libraryNamespace;
+                    this.libraryNamespaceCount = libraryModificationCount;
+                }
+            }
+        } else {
+            libraryNamespace = this.computeLibraryNamespace();
         }
-        return null;
+        return libraryNamespace;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns the library namespace of the container of this element, i.e. of its owning
+     * relationship, or of the owning related element or owning relationship of a relationship. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private Namespace computeLibraryNamespace() {
+        Namespace libraryNamespace = null;
+        if (this.eInternalContainer() instanceof Element container) {
+            libraryNamespace = container.libraryNamespace();
+        }
+        return libraryNamespace;
     }
 
     /**
@@ -902,6 +1036,391 @@ public abstract class ElementImpl extends MinimalEObjectImpl.Container implement
         return super.eInvoke(operationID, arguments);
     }
 
+    /**
+     * <!-- begin-user-doc --> Notifications are required to invalidate the derived features cached by the elements of
+     * the same resource set, even if there is no adapter, unless the delivery of the notifications has been disabled
+     * for this element: the values computed by {@link CompiledExpression} are not part of any model and do not deliver
+     * notifications. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    @Override
+    public boolean eNotificationRequired() {
+        return this.eDeliver() && (DerivedFeatureCache.isEnabled() || super.eNotificationRequired());
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    @Override
+    public void eNotify(Notification notification) {
+        if (!notification.isTouch()) {
+            ModificationCounts counts = ModificationCounts.of(this);
+            Object feature = notification.getFeature();
+            if (isMembershipChange(feature)) {
+                counts.modelChanged();
+            } else {
+                counts.contentChanged();
+            }
+            if ((this instanceof Specialization || this instanceof Conjugation) && feature instanceof EReference) {
+                counts.hierarchyChanged();
+            }
+            this.invalidateCompiledExpressions();
+            this.invalidateOwnedUsagePartition(notification);
+            this.invalidateLibraryNamespace(notification);
+            InverseReferenceIndex.notifyElementChanged(notification);
+            // The index is up to date to find the elements named after this one
+            this.invalidateCachedNames(notification);
+            GlobalNameIndex.notifyElementChanged(notification);
+        } else if (notification.getEventType() == Notification.RESOLVE) {
+            // The references to the resolved proxies are indexed again
+            InverseReferenceIndex.notifyElementChanged(notification);
+        }
+        super.eNotify(notification);
+    }
+
+    /**
+     * <!-- begin-user-doc --> Checks whether the modification of the given feature may change the derived features
+     * cached by the elements, mainly the memberships of the namespaces. They depend on the references, such as the
+     * owned relationships, the member elements, the imported namespaces and memberships, the generals and the original
+     * types, and on the names, visibilities and kinds of imports. The other attributes, e.g. the values of the
+     * literals, the multiplicities or the directions of the features, do not change them. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private static boolean isMembershipChange(Object feature) {
+        return feature instanceof EReference || feature instanceof EAttribute attribute && MEMBERSHIP_ATTRIBUTES.contains(attribute);
+    }
+
+    /**
+     * <!-- begin-user-doc --> Drops the owned usages partitioned by kind of the type whose owned relationships, or the
+     * owned related elements of these relationships, are modified by the given notification. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateOwnedUsagePartition(Notification notification) {
+        Object feature = notification.getFeature();
+        if (feature == SysmlPackage.eINSTANCE.getElement_OwnedRelationship() && this instanceof TypeImpl type) {
+            type.ownedUsagePartition = null;
+        } else if (feature == SysmlPackage.eINSTANCE.getRelationship_OwnedRelatedElement() && this.eInternalContainer() instanceof TypeImpl type) {
+            type.ownedUsagePartition = null;
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Drops the library namespace of the subtree of a moved element. The descendants whose
+     * library namespace is unknown or which are library packages are skipped with their own descendants, since the
+     * library namespace of the latter does not depend on the moved element. The proxies of the subtree are not
+     * resolved, the elements which are not loaded have no library namespace to drop. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateLibraryNamespace(Notification notification) {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        Object feature = notification.getFeature();
+        if (feature == sysmlPackage.getElement_OwningRelationship() || feature == sysmlPackage.getRelationship_OwningRelatedElement()) {
+            this.libraryNamespaceCount = UNKNOWN_LIBRARY_NAMESPACE;
+            TreeIterator<EObject> contents = EcoreUtil.getAllContents(this, false);
+            while (contents.hasNext()) {
+                EObject content = contents.next();
+                if (content instanceof ElementImpl element) {
+                    if (element.libraryNamespaceCount == UNKNOWN_LIBRARY_NAMESPACE || element instanceof LibraryPackage) {
+                        contents.prune();
+                    } else {
+                        element.libraryNamespaceCount = UNKNOWN_LIBRARY_NAMESPACE;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Drops the compiled expressions of this element and its ancestors, which are the only
+     * ones containing this element in their subtree. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateCompiledExpressions() {
+        InternalEObject current = this;
+        while (current != null) {
+            if (current instanceof ElementImpl element) {
+                element.compiledExpression = null;
+            }
+            current = current.eInternalContainer();
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Invalidates the cached names which may have been changed by the given notification.
+     * Renaming or moving an element changes the qualified names of its subtree. The name of a feature or a port
+     * definition is also given to the features redefining or referencing it and to its conjugated port definitions,
+     * whose names are invalidated as well (see {@link #invalidateCachedNamesOfNamedElements()}). The other
+     * relationships, such as the feature typings, do not change any name. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateCachedNames(Notification notification) {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        Object feature = notification.getFeature();
+        boolean isRename = feature == sysmlPackage.getElement_DeclaredName() || feature == sysmlPackage.getElement_DeclaredShortName();
+        boolean isMove = feature == sysmlPackage.getElement_OwningRelationship() || feature == sysmlPackage.getRelationship_OwningRelatedElement();
+        boolean isNamingChange = feature == sysmlPackage.getRedefinition_RedefinedFeature() || feature == sysmlPackage.getReferenceSubsetting_ReferencedFeature()
+                || feature == sysmlPackage.getPortConjugation_OriginalPortDefinition();
+        if (!DerivedFeatureCache.isEnabled()) {
+            // The names are not cached
+            return;
+        } else if ((isRename || isMove) && (this instanceof Feature || this instanceof PortDefinition)) {
+            // A feature may also be named after its owning membership or type
+            this.invalidateCachedNamesOfNamedElements();
+        } else if (isRename || isMove) {
+            this.invalidateCachedNamesOfSubtree();
+        } else if (isNamingChange && this.eInternalContainer() instanceof ElementImpl owner) {
+            owner.invalidateCachedNamesOfNamedElements();
+        } else if (feature == sysmlPackage.getElement_OwnedRelationship() && this instanceof TransitionUsage) {
+            this.invalidateCachedNamesOfSubtree();
+        } else if (feature == sysmlPackage.getElement_OwnedRelationship() && (this.isNamingRelationship(notification.getOldValue()) || this.isNamingRelationship(notification.getNewValue()))) {
+            this.invalidateCachedNamesOfNamedElements();
+        }
+    }
+
+    /**
+     * @generated NOT
+     */
+    private boolean isNamingRelationship(Object value) {
+        boolean isNamingRelationship = value instanceof Redefinition || value instanceof ReferenceSubsetting || value instanceof PortConjugation;
+        if (value instanceof Collection<?> values) {
+            isNamingRelationship = values.stream().anyMatch(this::isNamingRelationship);
+        }
+        return isNamingRelationship;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Invalidates the cached names of the subtree of this element and of the elements named
+     * after it, transitively: the owners of the redefinitions and reference subsettings of this feature, or of the
+     * port conjugations of this port definition, and the transition whose trigger payload parameter may be this
+     * feature. These elements are found with the {@link InverseReferenceIndex}, and the {@link GlobalNameIndex} is
+     * notified of their new names since they do not send any notification. The names of all the elements are
+     * invalidated if this element is not contained in an indexed resource (e.g. while a model is built) or while its
+     * resource is loaded, since building the index would load the other fragments of the model. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateCachedNamesOfNamedElements() {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        InverseReferenceIndex index = null;
+        if (!(this.eResource() instanceof Resource.Internal resource && resource.isLoading())) {
+            index = InverseReferenceIndex.getIndexOf(this);
+        }
+        if (index == null) {
+            ModificationCounts.of(this).namesChanged();
+        } else {
+            List<EReference> namingReferences = List.of(sysmlPackage.getRedefinition_RedefinedFeature(), sysmlPackage.getReferenceSubsetting_ReferencedFeature(),
+                    sysmlPackage.getPortConjugation_OriginalPortDefinition());
+            Set<ElementImpl> invalidatedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+            Deque<ElementImpl> elements = new ArrayDeque<>();
+            elements.push(this);
+            while (!elements.isEmpty()) {
+                ElementImpl element = elements.pop();
+                if (invalidatedElements.add(element)) {
+                    GlobalNameIndex.notifyNameChanged(element);
+                    element.invalidateCachedNamesOfSubtree();
+                    element.invalidateCachedNamesOfOwningTransition();
+                    for (EReference reference : namingReferences) {
+                        for (Setting setting : index.getInverse(element, reference)) {
+                            if (((InternalEObject) setting.getEObject()).eInternalContainer() instanceof ElementImpl namedElement) {
+                                elements.push(namedElement);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Invalidates the cached names of the subtree of the closest transition owning this
+     * element, whose parameters may be named after its trigger payload parameter. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private void invalidateCachedNamesOfOwningTransition() {
+        InternalEObject ancestor = this.eInternalContainer();
+        while (ancestor != null && !(ancestor instanceof TransitionUsage)) {
+            ancestor = ancestor.eInternalContainer();
+        }
+        if (ancestor instanceof ElementImpl transition) {
+            transition.invalidateCachedNamesOfSubtree();
+        }
+    }
+
+    /**
+     * @generated NOT
+     */
+    private void invalidateCachedNamesOfSubtree() {
+        this.namingCache = DerivedFeatureCache.EMPTY;
+        EcoreUtil.getAllContents(this, false).forEachRemaining(content -> {
+            if (content instanceof ElementImpl element) {
+                element.namingCache = DerivedFeatureCache.EMPTY;
+            }
+        });
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns a name of this element, computed by the given function only if it has not
+     * already been computed since the last modification of the names. <!-- end-user-doc -->
+     *
+     * @param key
+     *            the key of the name, usually its {@link org.eclipse.emf.ecore.EStructuralFeature}
+     * @param computation
+     *            the function computing the name of this element
+     * @return the name
+     * @generated NOT
+     */
+    @SuppressWarnings("unchecked")
+    protected <S extends ElementImpl> String getCachedName(Object key, Function<S, String> computation) {
+        if (!DerivedFeatureCache.isEnabled()) {
+            return computation.apply((S) this);
+        }
+        ModificationCounts counts = ModificationCounts.of(this);
+        long modificationCount = counts.getNamingModificationCount();
+        DerivedFeatureCache cache = this.namingCache;
+        if (cache.contains(modificationCount, key)) {
+            return (String) cache.get(modificationCount, key);
+        }
+        String name = computation.apply((S) this);
+        if (cache.isFrozen() || modificationCount == counts.getNamingModificationCount()) {
+            this.namingCache = this.namingCache.with(modificationCount, key, name);
+        }
+        return name;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns the value of a derived feature of this element, computed by the given function
+     * only if it has not already been computed since the last modification of the models. The returned values are
+     * shared by all the callers and should not be modified. <!-- end-user-doc -->
+     *
+     * @param key
+     *            the key of the derived feature, usually its {@link org.eclipse.emf.ecore.EStructuralFeature}
+     * @param computation
+     *            the function computing the value of the derived feature for this element
+     * @return the value of the derived feature
+     * @generated NOT
+     */
+    @SuppressWarnings("unchecked")
+    protected <S extends ElementImpl, T> T getCachedDerivedFeature(Object key, Function<S, T> computation) {
+        if (!DerivedFeatureCache.isEnabled()) {
+            return computation.apply((S) this);
+        }
+        ModificationCounts counts = ModificationCounts.of(this);
+        long modificationCount = counts.getModificationCount();
+        DerivedFeatureCache cache = this.derivedFeatureCache;
+        if (cache.contains(modificationCount, key)) {
+            return (T) cache.get(modificationCount, key);
+        }
+        T value = computation.apply((S) this);
+        // Do not keep a value if the models have been modified during its computation
+        if (cache.isFrozen() || modificationCount == counts.getModificationCount()) {
+            this.derivedFeatureCache = this.derivedFeatureCache.with(modificationCount, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns a value cached for this element by
+     * {@link #setCachedValue(long, Object, Object)}, used by the helpers computing several derived features at once.
+     * <!-- end-user-doc -->
+     *
+     * @param modificationCount
+     *            the modification count of the state of the models in which the value should have been computed
+     * @param key
+     *            the key of the value
+     * @return the value, or <code>null</code> if it has not been computed in this state of the models
+     * @generated NOT
+     */
+    public Object getCachedValue(long modificationCount, Object key) {
+        Object value = null;
+        if (DerivedFeatureCache.isEnabled()) {
+            value = this.derivedFeatureCache.get(modificationCount, key);
+        }
+        return value;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Caches a value for this element, the value is dropped if the models of its resource set
+     * have been modified since the given modification count (see {@link ModificationCounts}). <!-- end-user-doc -->
+     *
+     * @param modificationCount
+     *            the modification count of the state of the models in which the value has been computed
+     * @param key
+     *            the key of the value
+     * @param value
+     *            the value, which should not be modified afterwards
+     * @generated NOT
+     */
+    public void setCachedValue(long modificationCount, Object key, Object value) {
+        DerivedFeatureCache cache = this.derivedFeatureCache;
+        if (DerivedFeatureCache.isEnabled() && (cache.isFrozen() || modificationCount == ModificationCounts.of(this).getModificationCount())) {
+            this.derivedFeatureCache = cache.with(modificationCount, key, value);
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Freezes the caches of this element, which will never be modified: the derived features
+     * and names computed afterwards are kept whatever the modifications of the other models (see
+     * {@link org.eclipse.syson.sysml.helper.ModelSnapshot}). <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    public void freezeCaches() {
+        this.derivedFeatureCache = DerivedFeatureCache.FROZEN;
+        this.namingCache = DerivedFeatureCache.FROZEN;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Clears the caches of this element, which must be called after modifications which have
+     * not been notified (see {@link org.eclipse.syson.sysml.helper.BulkModelBuilder}). <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    public void clearCaches() {
+        this.derivedFeatureCache = DerivedFeatureCache.EMPTY;
+        this.namingCache = DerivedFeatureCache.EMPTY;
+        this.libraryNamespaceCount = UNKNOWN_LIBRARY_NAMESPACE;
+        this.compiledExpression = null;
+        if (this instanceof TypeImpl type) {
+            type.ownedUsagePartition = null;
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns the compiled form of the expression or function body rooted on this element.
+     * Unlike the derived features, it is only dropped when the subtree of this element is modified. <!-- end-user-doc
+     * -->
+     *
+     * @return the compiled expression, or <code>null</code> if it has not been compiled since the last modification of
+     *         the subtree of this element
+     * @generated NOT
+     */
+    public CompiledExpression getCompiledExpression() {
+        return this.compiledExpression;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Keeps the compiled form of the expression or function body rooted on this element until
+     * the next modification of its subtree. <!-- end-user-doc -->
+     *
+     * @param compiledExpression
+     *            the compiled expression
+     * @generated NOT
+     */
+    public void setCompiledExpression(CompiledExpression compiledExpression) {
+        if (DerivedFeatureCache.isEnabled()) {
+            this.compiledExpression = compiledExpression;
+        }
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
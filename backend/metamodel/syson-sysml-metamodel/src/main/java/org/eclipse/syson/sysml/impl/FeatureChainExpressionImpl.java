@@ -19,6 +19,8 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureChainExpression;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.ParameterMembership;
 import org.eclipse.syson.sysml.SysmlPackage;
 
 /**
@@ -67,13 +69,16 @@ public class FeatureChainExpressionImpl extends OperatorExpressionImpl implement
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
-     * @generated
+     * @generated NOT
      */
     public Feature basicGetTargetFeature() {
-        // TODO: implement this method to return the 'Target Feature' reference
-        // -> do not perform proxy resolution
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        return this.getOwnedMembership().stream()
+                .filter(mem -> !(mem instanceof ParameterMembership))
+                .map(Membership::getMemberElement)
+                .filter(Feature.class::isInstance)
+                .map(Feature.class::cast)
+                .findFirst()
+                .orElse(null);
     }
 
     /**
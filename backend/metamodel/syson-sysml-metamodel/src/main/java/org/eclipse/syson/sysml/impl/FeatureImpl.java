@@ -883,6 +883,13 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public String effectiveName() {
+        return this.getCachedName(SysmlPackage.eINSTANCE.getElement_Name(), FeatureImpl::computeEffectiveName);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private String computeEffectiveName() {
         String dName = this.getDeclaredName();
         String dShortName = this.getDeclaredShortName();
         final String effectiveName;
@@ -904,6 +911,13 @@ public class FeatureImpl extends TypeImpl implements Feature {
      */
     @Override
     public String effectiveShortName() {
+        return this.getCachedName(SysmlPackage.eINSTANCE.getElement_ShortName(), FeatureImpl::computeEffectiveShortName);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private String computeEffectiveShortName() {
         String dName = this.getDeclaredName();
         String dShortName = this.getDeclaredShortName();
         final String effectiveName;
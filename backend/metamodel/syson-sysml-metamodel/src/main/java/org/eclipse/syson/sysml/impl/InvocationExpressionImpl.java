@@ -12,16 +12,16 @@
 *******************************************************************************/
 package org.eclipse.syson.sysml.impl;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.util.EcoreEList;
 import org.eclipse.syson.sysml.Expression;
+import org.eclipse.syson.sysml.FeatureValue;
 import org.eclipse.syson.sysml.InvocationExpression;
+import org.eclipse.syson.sysml.ParameterMembership;
 import org.eclipse.syson.sysml.SysmlPackage;
-import org.eclipse.syson.sysml.Usage;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Invocation Expression</b></em>'. <!--
@@ -62,8 +62,18 @@ public class InvocationExpressionImpl extends ExpressionImpl implements Invocati
      */
     @Override
     public EList<Expression> getArgument() {
-        List<Usage> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getInvocationExpression_Argument(), data.size(), data.toArray());
+        Expression[] data = this.getOwnedRelationship().stream()
+                .filter(ParameterMembership.class::isInstance)
+                .map(ParameterMembership.class::cast)
+                .map(ParameterMembership::getOwnedMemberParameter)
+                .filter(Objects::nonNull)
+                .flatMap(parameter -> parameter.getOwnedRelationship().stream())
+                .filter(FeatureValue.class::isInstance)
+                .map(FeatureValue.class::cast)
+                .map(FeatureValue::getValue)
+                .filter(Objects::nonNull)
+                .toArray(Expression[]::new);
+        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getInvocationExpression_Argument(), data.length, data);
     }
 
     /**
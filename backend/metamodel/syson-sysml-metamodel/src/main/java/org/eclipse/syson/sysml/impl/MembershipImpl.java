@@ -298,13 +298,33 @@ public class MembershipImpl extends RelationshipImpl implements Membership {
     }
 
     /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * <!-- begin-user-doc --> Two memberships are distinguishable if their member elements have unrelated kinds or if
+     * none of the names of one of them is a name of the other one. <!-- end-user-doc -->
      *
      * @generated NOT
      */
     @Override
     public boolean isDistinguishableFrom(Membership other) {
-        return false;
+        boolean distinguishable = true;
+        if (other != null) {
+            Element memberElement = this.getMemberElement();
+            Element otherMemberElement = other.getMemberElement();
+            boolean relatedKinds = memberElement == null || otherMemberElement == null || memberElement.eClass().isSuperTypeOf(otherMemberElement.eClass())
+                    || otherMemberElement.eClass().isSuperTypeOf(memberElement.eClass());
+            if (relatedKinds) {
+                distinguishable = this.isNameDistinguishable(this.getMemberShortName(), other) && this.isNameDistinguishable(this.getMemberName(), other);
+            }
+        }
+        return distinguishable;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private boolean isNameDistinguishable(String name, Membership other) {
+        return name == null || !(name.equals(other.getMemberShortName()) || name.equals(other.getMemberName()));
     }
 
     /**
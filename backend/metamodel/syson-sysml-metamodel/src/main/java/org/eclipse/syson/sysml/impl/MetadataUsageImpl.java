@@ -28,6 +28,7 @@ import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.syson.sysml.AnnotatingElement;
 import org.eclipse.syson.sysml.Annotation;
 import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Expression;
 import org.eclipse.syson.sysml.Feature;
 import org.eclipse.syson.sysml.FeatureTyping;
 import org.eclipse.syson.sysml.Metaclass;
@@ -36,6 +37,7 @@ import org.eclipse.syson.sysml.MetadataUsage;
 import org.eclipse.syson.sysml.Structure;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.helper.CompiledExpression;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Metadata Usage</b></em>'. <!-- end-user-doc -->
@@ -155,15 +157,22 @@ public class MetadataUsageImpl extends ItemUsageImpl implements MetadataUsage {
     }
 
     /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * <!-- begin-user-doc --> Evaluates the value of the feature of this metadata usage which is, or redefines, the
+     * given feature of its metaclass. <!-- end-user-doc -->
      *
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Element> evaluateFeature(Feature baseFeature) {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
-        return null;
+        EList<Element> values = null;
+        Feature feature = CompiledExpression.findFeature(this, baseFeature);
+        if (feature != null) {
+            Expression value = CompiledExpression.getFeatureValue(feature);
+            if (value != null) {
+                values = CompiledExpression.of(value).evaluate(this);
+            }
+        }
+        return values;
     }
 
     /**
@@ -16,14 +16,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.UniqueEList;
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
@@ -34,6 +33,7 @@ import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.helper.GlobalNameIndex;
 import org.eclipse.syson.sysml.helper.MembershipComputer;
 import org.eclipse.syson.sysml.helper.NameConflictingFilter;
 import org.eclipse.syson.sysml.helper.NameHelper;
@@ -81,7 +81,7 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> getImportedMembership() {
-        return this.getImportedMembership(new BasicEList<>());
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace_ImportedMembership(), (NamespaceImpl namespace) -> namespace.getImportedMembership(new BasicEList<>()));
     }
 
     /**
@@ -113,7 +113,7 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> getMembership() {
-        return this.getMembership(new BasicEList<>());
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace_Membership(), (NamespaceImpl namespace) -> namespace.getMembership(new BasicEList<>()));
     }
 
     /**
@@ -134,6 +134,13 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Import> getOwnedImport() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace_OwnedImport(), NamespaceImpl::computeOwnedImport);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Import> computeOwnedImport() {
         List<Element> ownedImports = new ArrayList<>();
         this.getOwnedRelationship().stream()
                 .filter(Import.class::isInstance)
@@ -150,6 +157,13 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Element> getOwnedMember() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace_OwnedMember(), NamespaceImpl::computeOwnedMember);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Element> computeOwnedMember() {
         List<Element> ownedMembers = new ArrayList<>();
         this.getOwnedMembership().stream()
                 .flatMap(m -> m.getOwnedRelatedElement().stream())
@@ -164,6 +178,13 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public EList<Membership> getOwnedMembership() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace_OwnedMembership(), NamespaceImpl::computeOwnedMembership);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Membership> computeOwnedMembership() {
         List<Membership> ownedMemberships = new ArrayList<>();
         this.getOwnedRelationship().stream()
                 .filter(Membership.class::isInstance)
@@ -282,19 +303,15 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
         Resource owningEcoreResource = this.eResource();
         if (owningEcoreResource != null) {
             ResourceSet owningResourceSet = owningEcoreResource.getResourceSet();
-            if (owningResourceSet != null) {
-                for (var resource : owningResourceSet.getResources()) {
-                    if (!resource.getContents().isEmpty()) {
-                        EObject root = resource.getContents().get(0);
-                        if (root instanceof Namespace rootNamespace) {
-                            result = rootNamespace.resolveVisible(qualifiedName);
-                        }
-                        if (result != null) {
-                            break;
-                        }
-                    }
+            String qualification = this.qualificationOf(qualifiedName);
+            if (qualification != null) {
+                // Resolve the qualification in the global scope, then the name in the resolved namespace
+                Membership membership = this.resolveGlobal(qualification);
+                if (membership != null && membership.getMemberElement() instanceof Namespace namespace) {
+                    result = namespace.resolveVisible(this.unqualifiedNameOf(qualifiedName));
                 }
-
+            } else if (owningResourceSet != null) {
+                result = GlobalNameIndex.getIndex(owningResourceSet).resolve(qualifiedName);
             }
         }
         return result;
@@ -310,10 +327,11 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
     @Override
     public Membership resolveLocal(String name) {
         // Try to resolve the Simple name in the current namespace
-        Optional<Membership> membership = this.getMembership().stream()
-                .filter(m -> (m.getMemberShortName() != null && m.getMemberShortName().equals(name)) || (m.getMemberName() != null && m.getMemberName().equals(name))).findFirst();
+        Map<String, Membership> membershipsByName = this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace__ResolveLocal__String(),
+                (NamespaceImpl namespace) -> GlobalNameIndex.indexByName(namespace.getMembership()));
+        Membership membership = membershipsByName.get(name);
 
-        if (membership.isEmpty()) {
+        if (membership == null) {
             // if not resolved, try on the parent namespace
             Namespace owningNamespace = this.getOwningNamespace();
 
@@ -324,7 +342,7 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
                 return this.resolveGlobal(name);
             }
         } else {
-            return membership.get();
+            return membership;
         }
     }
 
@@ -336,13 +354,9 @@ public class NamespaceImpl extends ElementImpl implements Namespace {
      */
     @Override
     public Membership resolveVisible(String name) {
-        EList<Membership> memberships = this.visibleMemberships(new BasicEList<>(), false, false);
-
-        Optional<Membership> membership = memberships.stream().filter(m -> {
-            return (m.getMemberShortName() != null && m.getMemberShortName().equals(name)) || (m.getMemberName() != null && m.getMemberName().equals(name));
-        }).findFirst();
-
-        return membership.orElseGet(() -> null);
+        Map<String, Membership> visibleMembershipsByName = this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getNamespace__ResolveVisible__String(),
+                (NamespaceImpl namespace) -> GlobalNameIndex.indexByName(namespace.visibleMemberships(new BasicEList<>(), false, false)));
+        return visibleMembershipsByName.get(name);
     }
 
     /**
@@ -28,7 +28,6 @@ import org.eclipse.emf.ecore.util.EcoreEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.syson.sysml.Element;
-import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.Relationship;
 import org.eclipse.syson.sysml.SysmlPackage;
 
@@ -143,14 +142,16 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
     }
 
     /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * <!-- begin-user-doc --> The owned related elements may be stored in other resources than their owning
+     * relationship (see {@link org.eclipse.syson.sysml.helper.ModelFragments}), they are proxies until they are
+     * accessed. <!-- end-user-doc -->
      *
      * @generated
      */
     @Override
     public EList<Element> getOwnedRelatedElement() {
         if (this.ownedRelatedElement == null) {
-            this.ownedRelatedElement = new EObjectContainmentWithInverseEList<>(Element.class, this, SysmlPackage.RELATIONSHIP__OWNED_RELATED_ELEMENT,
+            this.ownedRelatedElement = new EObjectContainmentWithInverseEList.Resolving<>(Element.class, this, SysmlPackage.RELATIONSHIP__OWNED_RELATED_ELEMENT,
                     SysmlPackage.ELEMENT__OWNING_RELATIONSHIP);
         }
         return this.ownedRelatedElement;
@@ -239,22 +240,6 @@ public abstract class RelationshipImpl extends ElementImpl implements Relationsh
         return this.target;
     }
 
-    /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
-     *
-     * @generated NOT
-     */
-    @Override
-    public Namespace libraryNamespace() {
-        Namespace libraryNamespace = null;
-        if (this.getOwningRelatedElement() != null) {
-            libraryNamespace = this.getOwningRelatedElement().libraryNamespace();
-        } else if (this.getOwningRelationship() != null) {
-            libraryNamespace = this.getOwningRelationship().libraryNamespace();
-        }
-        return libraryNamespace;
-    }
-
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
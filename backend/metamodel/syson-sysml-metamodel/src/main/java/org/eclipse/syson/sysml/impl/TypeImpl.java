@@ -25,6 +25,7 @@ import org.eclipse.emf.common.util.BasicEList;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.UniqueEList;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 import org.eclipse.emf.ecore.util.EcoreEList;
@@ -43,8 +44,12 @@ import org.eclipse.syson.sysml.Specialization;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.Unioning;
+import org.eclipse.syson.sysml.helper.DerivedFeatureCache;
 import org.eclipse.syson.sysml.helper.MembershipComputer;
+import org.eclipse.syson.sysml.helper.ModificationCounts;
 import org.eclipse.syson.sysml.helper.NameConflictingFilter;
+import org.eclipse.syson.sysml.helper.OwnedUsagePartition;
+import org.eclipse.syson.sysml.helper.TypeHierarchy;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model object '<em><b>Type</b></em>'. <!-- end-user-doc -->
@@ -131,6 +136,23 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     protected boolean isSufficient = IS_SUFFICIENT_EDEFAULT;
 
+    /**
+     * <!-- begin-user-doc --> The closure of the specializations and conjugations of this type, computed on demand.
+     * <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    private volatile TypeHierarchy typeHierarchy;
+
+    /**
+     * <!-- begin-user-doc --> The usages owned by this type partitioned by kind, dropped when the owned relationships
+     * of this type or their owned related elements are modified (see
+     * {@link ElementImpl#eNotify(Notification)}). <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    volatile OwnedUsagePartition ownedUsagePartition;
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -192,6 +214,13 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public EList<Feature> getFeature() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getType_Feature(), TypeImpl::computeFeature);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Feature> computeFeature() {
         Feature[] features = this.getFeatureMembership().stream()
                 .filter(fm -> fm.getFeature() != null)
                 .map(FeatureMembership::getFeature)
@@ -206,6 +235,13 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public EList<FeatureMembership> getFeatureMembership() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getType_FeatureMembership(), TypeImpl::computeFeatureMembership);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<FeatureMembership> computeFeatureMembership() {
         FeatureMembership[] featureMemberships = Stream.concat(this.getOwnedFeatureMembership().stream(), this.inheritedMemberships(new BasicEList<>()).stream())
                 .filter(FeatureMembership.class::isInstance)
                 .toArray(FeatureMembership[]::new);
@@ -219,6 +255,13 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public EList<Feature> getInheritedFeature() {
+        return this.getCachedDerivedFeature(SysmlPackage.eINSTANCE.getType_InheritedFeature(), TypeImpl::computeInheritedFeature);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private EList<Feature> computeInheritedFeature() {
         List<Feature> inheritedFeatures = new ArrayList<>();
         this.getInheritedMembership().stream()
                 .filter(FeatureMembership.class::isInstance)
@@ -500,12 +543,62 @@ public class TypeImpl extends NamespaceImpl implements Type {
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
-     * @generated
+     * @generated NOT
      */
     @Override
     public EList<Type> allSupertypes() {
-        // TODO: implement this method
-        // Ensure that you remove @generated or mark it @generated NOT
+        return this.getTypeHierarchy().getAllSupertypes();
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns the closure of the specializations and conjugations of this type, computed again
+     * only after a modification of a specialization or a conjugation. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    public TypeHierarchy getTypeHierarchy() {
+        TypeHierarchy hierarchy = this.getValidTypeHierarchy();
+        if (hierarchy == null) {
+            hierarchy = TypeHierarchy.compute(this, type -> {
+                TypeHierarchy knownHierarchy = null;
+                if (type instanceof TypeImpl typeImpl) {
+                    knownHierarchy = typeImpl.getValidTypeHierarchy();
+                }
+                return knownHierarchy;
+            });
+            this.typeHierarchy = hierarchy;
+        }
+        return hierarchy;
+    }
+
+    /**
+     * <!-- begin-user-doc --> Returns the usages owned by this type through a feature membership which conform to the
+     * type of the given <code>Definition::ownedX</code> or <code>Usage::nestedX</code> feature. <!-- end-user-doc -->
+     *
+     * @generated NOT
+     */
+    protected <T> EList<T> getOwnedUsages(EReference feature) {
+        OwnedUsagePartition partition = this.ownedUsagePartition;
+        if (partition == null) {
+            ModificationCounts counts = ModificationCounts.of(this);
+            long modificationCount = counts.getModificationCount();
+            partition = OwnedUsagePartition.compute(this);
+            // Do not keep a partition if the owned relationships have been modified during its computation
+            if (DerivedFeatureCache.isEnabled() && modificationCount == counts.getModificationCount()) {
+                this.ownedUsagePartition = partition;
+            }
+        }
+        return partition.get(this, feature);
+    }
+
+    /**
+     * @generated NOT
+     */
+    private TypeHierarchy getValidTypeHierarchy() {
+        TypeHierarchy hierarchy = this.typeHierarchy;
+        if (hierarchy != null && hierarchy.isValid()) {
+            return hierarchy;
+        }
         return null;
     }
 
@@ -570,7 +663,7 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean specializes(Type supertype) {
-        return false;
+        return supertype != null && this.getTypeHierarchy().specializes(supertype);
     }
 
     /**
@@ -580,7 +673,8 @@ public class TypeImpl extends NamespaceImpl implements Type {
      */
     @Override
     public boolean specializesFromLibrary(String libraryTypeName) {
-        return false;
+        Membership membership = this.resolveGlobal(libraryTypeName);
+        return membership != null && membership.getMemberElement() instanceof Type libraryType && this.specializes(libraryType);
     }
 
     /**
@@ -36,7 +36,6 @@ import org.eclipse.syson.sysml.ConstraintUsage;
 import org.eclipse.syson.sysml.Definition;
 import org.eclipse.syson.sysml.EnumerationUsage;
 import org.eclipse.syson.sysml.Feature;
-import org.eclipse.syson.sysml.FeatureMembership;
 import org.eclipse.syson.sysml.FlowConnectionUsage;
 import org.eclipse.syson.sysml.InterfaceUsage;
 import org.eclipse.syson.sysml.ItemUsage;
@@ -243,15 +242,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ActionUsage> getNestedAction() {
-        List<ActionUsage> nestedActions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ActionUsage.class::isInstance)
-                .map(ActionUsage.class::cast)
-                .forEach(nestedActions::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedAction(), nestedActions.size(), nestedActions.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedAction());
     }
 
     /**
@@ -261,15 +252,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<AllocationUsage> getNestedAllocation() {
-        List<AllocationUsage> nestedAllocations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AllocationUsage.class::isInstance)
-                .map(AllocationUsage.class::cast)
-                .forEach(nestedAllocations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedAllocation(), nestedAllocations.size(), nestedAllocations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedAllocation());
     }
 
     /**
@@ -279,15 +262,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<AnalysisCaseUsage> getNestedAnalysisCase() {
-        List<AnalysisCaseUsage> nestedAnalysisCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AnalysisCaseUsage.class::isInstance)
-                .map(AnalysisCaseUsage.class::cast)
-                .forEach(nestedAnalysisCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedAnalysisCase(), nestedAnalysisCases.size(), nestedAnalysisCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedAnalysisCase());
     }
 
     /**
@@ -297,15 +272,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<AttributeUsage> getNestedAttribute() {
-        List<AttributeUsage> nestedAttributes = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(AttributeUsage.class::isInstance)
-                .map(AttributeUsage.class::cast)
-                .forEach(nestedAttributes::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedAttribute(), nestedAttributes.size(), nestedAttributes.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedAttribute());
     }
 
     /**
@@ -315,15 +282,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<CalculationUsage> getNestedCalculation() {
-        List<CalculationUsage> nestedCalculations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(CalculationUsage.class::isInstance)
-                .map(CalculationUsage.class::cast)
-                .forEach(nestedCalculations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedCalculation(), nestedCalculations.size(), nestedCalculations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedCalculation());
     }
 
     /**
@@ -333,15 +292,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<CaseUsage> getNestedCase() {
-        List<CaseUsage> nestedCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(CaseUsage.class::isInstance)
-                .map(CaseUsage.class::cast)
-                .forEach(nestedCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedCase(), nestedCases.size(), nestedCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedCase());
     }
 
     /**
@@ -351,15 +302,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ConcernUsage> getNestedConcern() {
-        List<ConcernUsage> nestedConcerns = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ConcernUsage.class::isInstance)
-                .map(ConcernUsage.class::cast)
-                .forEach(nestedConcerns::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedConcern(), nestedConcerns.size(), nestedConcerns.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedConcern());
     }
 
     /**
@@ -369,8 +312,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ConnectorAsUsage> getNestedConnection() {
-        List<ConnectorAsUsage> data = new ArrayList<>();
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedConnection(), data.size(), data.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedConnection());
     }
 
     /**
@@ -380,15 +322,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ConstraintUsage> getNestedConstraint() {
-        List<ConstraintUsage> nestedConstraints = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ConstraintUsage.class::isInstance)
-                .map(ConstraintUsage.class::cast)
-                .forEach(nestedConstraints::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedConstraint(), nestedConstraints.size(), nestedConstraints.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedConstraint());
     }
 
     /**
@@ -398,15 +332,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<EnumerationUsage> getNestedEnumeration() {
-        List<EnumerationUsage> nestedEnumerations = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(EnumerationUsage.class::isInstance)
-                .map(EnumerationUsage.class::cast)
-                .forEach(nestedEnumerations::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedEnumeration(), nestedEnumerations.size(), nestedEnumerations.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedEnumeration());
     }
 
     /**
@@ -416,15 +342,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<FlowConnectionUsage> getNestedFlow() {
-        List<FlowConnectionUsage> nestedFlows = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(FlowConnectionUsage.class::isInstance)
-                .map(FlowConnectionUsage.class::cast)
-                .forEach(nestedFlows::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedFlow(), nestedFlows.size(), nestedFlows.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedFlow());
     }
 
     /**
@@ -434,15 +352,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<InterfaceUsage> getNestedInterface() {
-        List<InterfaceUsage> nestedInterfaces = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(InterfaceUsage.class::isInstance)
-                .map(InterfaceUsage.class::cast)
-                .forEach(nestedInterfaces::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedInterface(), nestedInterfaces.size(), nestedInterfaces.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedInterface());
     }
 
     /**
@@ -452,15 +362,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ItemUsage> getNestedItem() {
-        List<ItemUsage> nestedItems = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ItemUsage.class::isInstance)
-                .map(ItemUsage.class::cast)
-                .forEach(nestedItems::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedItem(), nestedItems.size(), nestedItems.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedItem());
     }
 
     /**
@@ -470,15 +372,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<MetadataUsage> getNestedMetadata() {
-        List<MetadataUsage> nestedMetadatas = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(MetadataUsage.class::isInstance)
-                .map(MetadataUsage.class::cast)
-                .forEach(nestedMetadatas::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedMetadata(), nestedMetadatas.size(), nestedMetadatas.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedMetadata());
     }
 
     /**
@@ -488,15 +382,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<OccurrenceUsage> getNestedOccurrence() {
-        List<OccurrenceUsage> nestedOccurences = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(OccurrenceUsage.class::isInstance)
-                .map(OccurrenceUsage.class::cast)
-                .forEach(nestedOccurences::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedOccurrence(), nestedOccurences.size(), nestedOccurences.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedOccurrence());
     }
 
     /**
@@ -506,15 +392,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<PartUsage> getNestedPart() {
-        List<PartUsage> nestedParts = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(PartUsage.class::isInstance)
-                .map(PartUsage.class::cast)
-                .forEach(nestedParts::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedPart(), nestedParts.size(), nestedParts.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedPart());
     }
 
     /**
@@ -524,15 +402,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<PortUsage> getNestedPort() {
-        List<PortUsage> nestedPorts = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(PortUsage.class::isInstance)
-                .map(PortUsage.class::cast)
-                .forEach(nestedPorts::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedPort(), nestedPorts.size(), nestedPorts.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedPort());
     }
 
     /**
@@ -542,15 +412,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ReferenceUsage> getNestedReference() {
-        List<ReferenceUsage> nestedReferences = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ReferenceUsage.class::isInstance)
-                .map(ReferenceUsage.class::cast)
-                .forEach(nestedReferences::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedReference(), nestedReferences.size(), nestedReferences.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedReference());
     }
 
     /**
@@ -560,15 +422,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<RenderingUsage> getNestedRendering() {
-        List<RenderingUsage> nestedRenderings = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(RenderingUsage.class::isInstance)
-                .map(RenderingUsage.class::cast)
-                .forEach(nestedRenderings::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedRendering(), nestedRenderings.size(), nestedRenderings.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedRendering());
     }
 
     /**
@@ -578,15 +432,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<RequirementUsage> getNestedRequirement() {
-        List<RequirementUsage> nestedRequirements = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(RequirementUsage.class::isInstance)
-                .map(RequirementUsage.class::cast)
-                .forEach(nestedRequirements::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedRequirement(), nestedRequirements.size(), nestedRequirements.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedRequirement());
     }
 
     /**
@@ -596,15 +442,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<StateUsage> getNestedState() {
-        List<StateUsage> nestedStates = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(StateUsage.class::isInstance)
-                .map(StateUsage.class::cast)
-                .forEach(nestedStates::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedState(), nestedStates.size(), nestedStates.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedState());
     }
 
     /**
@@ -614,15 +452,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<TransitionUsage> getNestedTransition() {
-        List<TransitionUsage> nestedTransitions = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(TransitionUsage.class::isInstance)
-                .map(TransitionUsage.class::cast)
-                .forEach(nestedTransitions::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedTransition(), nestedTransitions.size(), nestedTransitions.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedTransition());
     }
 
     /**
@@ -632,15 +462,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<Usage> getNestedUsage() {
-        List<Usage> nestedUsages = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(Usage.class::isInstance)
-                .map(Usage.class::cast)
-                .forEach(nestedUsages::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedUsage(), nestedUsages.size(), nestedUsages.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedUsage());
     }
 
     /**
@@ -650,15 +472,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<UseCaseUsage> getNestedUseCase() {
-        List<UseCaseUsage> nestedUseCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(UseCaseUsage.class::isInstance)
-                .map(UseCaseUsage.class::cast)
-                .forEach(nestedUseCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedUseCase(), nestedUseCases.size(), nestedUseCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedUseCase());
     }
 
     /**
@@ -668,15 +482,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<VerificationCaseUsage> getNestedVerificationCase() {
-        List<VerificationCaseUsage> nestedVerificationCases = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(VerificationCaseUsage.class::isInstance)
-                .map(VerificationCaseUsage.class::cast)
-                .forEach(nestedVerificationCases::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedVerificationCase(), nestedVerificationCases.size(), nestedVerificationCases.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedVerificationCase());
     }
 
     /**
@@ -686,15 +492,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ViewUsage> getNestedView() {
-        List<ViewUsage> nestedViews = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ViewUsage.class::isInstance)
-                .map(ViewUsage.class::cast)
-                .forEach(nestedViews::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedView(), nestedViews.size(), nestedViews.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedView());
     }
 
     /**
@@ -704,15 +502,7 @@ public class UsageImpl extends FeatureImpl implements Usage {
      */
     @Override
     public EList<ViewpointUsage> getNestedViewpoint() {
-        List<ViewpointUsage> nestedViewpoints = new ArrayList<>();
-        this.getOwnedRelationship().stream()
-                .filter(FeatureMembership.class::isInstance)
-                .map(FeatureMembership.class::cast)
-                .flatMap(fm -> fm.getOwnedRelatedElement().stream())
-                .filter(ViewpointUsage.class::isInstance)
-                .map(ViewpointUsage.class::cast)
-                .forEach(nestedViewpoints::add);
-        return new EcoreEList.UnmodifiableEList<>(this, SysmlPackage.eINSTANCE.getUsage_NestedViewpoint(), nestedViewpoints.size(), nestedViewpoints.toArray());
+        return this.getOwnedUsages(SysmlPackage.eINSTANCE.getUsage_NestedViewpoint());
     }
 
     /**
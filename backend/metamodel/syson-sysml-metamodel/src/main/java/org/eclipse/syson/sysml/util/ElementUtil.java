@@ -16,7 +16,6 @@ import com.fasterxml.uuid.Generators;
 
 import java.util.UUID;
 
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Featuring;
@@ -49,7 +48,9 @@ public class ElementUtil {
     public static final String SYSML_LIBRARY_BASE_URI = "https://www.omg.org/spec/SysML/";
 
     /**
-     * Check if the given {@link Element} comes from a library (i.e. a {@link LibraryPackage}) or not.
+     * Check if the given {@link Element} comes from a library (i.e. a {@link LibraryPackage}) or not. The nearest
+     * enclosing library package is given by {@link Element#libraryNamespace()}, which is cached by the elements, so
+     * that this method does not walk the containers of the element on each call.
      * 
      * @param element
      *            the given {@link Element}.
@@ -59,20 +60,11 @@ public class ElementUtil {
      * @return <code>true</code> if the given element is contained in a library, <code>false</code> otherwise.
      */
     public static boolean isFromLibrary(Element element, boolean standardOnly) {
-        boolean isFromStandardLibrary = false;
-        if (element instanceof LibraryPackage libraryPackage) {
-            if (standardOnly) {
-                isFromStandardLibrary = libraryPackage.isIsStandard();
-            } else {
-                isFromStandardLibrary = true;
-            }
-        } else {
-            EObject eContainer = element.eContainer();
-            if (eContainer instanceof Element eContainerElement) {
-                isFromStandardLibrary = isFromStandardLibrary(eContainerElement);
-            }
+        boolean isFromLibrary = false;
+        if (element != null && element.libraryNamespace() instanceof LibraryPackage libraryPackage) {
+            isFromLibrary = !standardOnly || libraryPackage.isIsStandard();
         }
-        return isFromStandardLibrary;
+        return isFromLibrary;
     }
 
     /**
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.validation;
+
+import java.util.Map;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.Element;
+
+/**
+ * Contributes the diagnostics of the {@link ValidationEngine} of the resource set of an element to its EMF validation.
+ *
+ * <p>
+ * The engine is brought up to date before its diagnostics are read, so only the elements affected by the modifications
+ * since the previous validation are checked again. The elements whose resource set has no engine have no diagnostic.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SysmlEValidator implements EValidator {
+
+    @Override
+    public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+        return this.validate(eObject.eClass(), eObject, diagnostics, context);
+    }
+
+    @Override
+    public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+        boolean isValid = true;
+        Resource resource = eObject.eResource();
+        if (eObject instanceof Element element && resource != null && resource.getResourceSet() != null) {
+            ValidationEngine engine = ValidationEngine.getEngine(resource.getResourceSet());
+            if (engine != null) {
+                engine.update();
+                for (Diagnostic diagnostic : engine.getDiagnostics(element)) {
+                    isValid = isValid && diagnostic.getSeverity() < Diagnostic.ERROR;
+                    if (diagnostics != null) {
+                        diagnostics.add(diagnostic);
+                    }
+                }
+            }
+        }
+        return isValid;
+    }
+
+    @Override
+    public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context) {
+        return true;
+    }
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Expression;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.LiteralInfinity;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.MultiplicityRange;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Redefinition;
+import org.eclipse.syson.sysml.Subsetting;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.Type;
+
+/**
+ * The SysML well-formedness rules checked by default by a {@link ValidationEngine}.
+ *
+ * @author Arthur Daussy
+ */
+public final class SysmlValidationRules {
+
+    /**
+     * The code of the diagnostics of owned members which are not distinguishable.
+     */
+    public static final int NAMESPACE_DISTINGUISHABILITY = 1;
+
+    /**
+     * The code of the diagnostics of invalid multiplicity bounds.
+     */
+    public static final int MULTIPLICITY_BOUNDS = 2;
+
+    /**
+     * The code of the diagnostics of usages typed by a type of the wrong kind.
+     */
+    public static final int USAGE_TYPING = 3;
+
+    /**
+     * The code of the diagnostics of features subsetting or redefining themselves.
+     */
+    public static final int SUBSETTING_CYCLE = 4;
+
+    /**
+     * The code of the diagnostics of features redefining a feature of their own featuring type.
+     */
+    public static final int REDEFINITION_FEATURING_TYPE = 5;
+
+    /**
+     * The code of the diagnostics of features whose multiplicity exceeds the multiplicity of a subsetted feature.
+     */
+    public static final int SUBSETTING_MULTIPLICITY = 6;
+
+    private static final int INFINITE_BOUND = Integer.MAX_VALUE;
+
+    /**
+     * The kind of type expected by each kind of usage, the first kind matching a usage gives its expected type.
+     */
+    private static final Map<EClass, EClass> EXPECTED_TYPES = new LinkedHashMap<>();
+
+    static {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        EXPECTED_TYPES.put(sysmlPackage.getActionUsage(), sysmlPackage.getBehavior());
+        EXPECTED_TYPES.put(sysmlPackage.getAttributeUsage(), sysmlPackage.getDataType());
+        EXPECTED_TYPES.put(sysmlPackage.getPortUsage(), sysmlPackage.getPortDefinition());
+        EXPECTED_TYPES.put(sysmlPackage.getItemUsage(), sysmlPackage.getStructure());
+    }
+
+    private SysmlValidationRules() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Registers all the rules of this class in the given engine.
+     *
+     * @param engine
+     *            a validation engine
+     */
+    public static void registerAll(ValidationEngine engine) {
+        SysmlPackage sysmlPackage = SysmlPackage.eINSTANCE;
+        engine.addRule(sysmlPackage.getNamespace(), SysmlValidationRules::validateDistinguishability);
+        engine.addRule(sysmlPackage.getMultiplicityRange(), SysmlValidationRules::validateMultiplicityBounds);
+        engine.addRule(sysmlPackage.getUsage(), SysmlValidationRules::validateUsageTyping);
+        engine.addRule(sysmlPackage.getFeature(), SysmlValidationRules::validateSubsettings);
+    }
+
+    /**
+     * Checks that the owned members of a namespace are distinguishable from each other (see
+     * {@link Membership#isDistinguishableFrom(Membership)}).
+     *
+     * @param element
+     *            a namespace
+     * @param diagnostics
+     *            the diagnostics
+     */
+    public static void validateDistinguishability(Element element, DiagnosticChain diagnostics) {
+        if (element instanceof Namespace namespace) {
+            // Only the memberships sharing a name may not be distinguishable
+            Map<String, List<Membership>> membershipsByName = new HashMap<>();
+            for (Membership membership : namespace.getOwnedMembership()) {
+                if (membership.getMemberName() != null) {
+                    membershipsByName.computeIfAbsent(membership.getMemberName(), name -> new ArrayList<>()).add(membership);
+                }
+                if (membership.getMemberShortName() != null && !membership.getMemberShortName().equals(membership.getMemberName())) {
+                    membershipsByName.computeIfAbsent(membership.getMemberShortName(), name -> new ArrayList<>()).add(membership);
+                }
+            }
+            List<Membership> reported = new ArrayList<>();
+            for (Map.Entry<String, List<Membership>> entry : membershipsByName.entrySet()) {
+                List<Membership> memberships = entry.getValue();
+                for (int i = 0; i < memberships.size(); i++) {
+                    for (int j = i + 1; j < memberships.size(); j++) {
+                        Membership membership = memberships.get(i);
+                        Membership other = memberships.get(j);
+                        if (!reported.contains(other) && !membership.isDistinguishableFrom(other)) {
+                            reported.add(other);
+                            diagnostics.add(createDiagnostic(Diagnostic.WARNING, NAMESPACE_DISTINGUISHABILITY,
+                                    "Duplicate of other owned member name " + entry.getKey(), namespace, other.getMemberElement()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the lower bound of a multiplicity range is positive and not greater than its upper bound.
+     *
+     * @param element
+     *            a multiplicity range
+     * @param diagnostics
+     *            the diagnostics
+     */
+    public static void validateMultiplicityBounds(Element element, DiagnosticChain diagnostics) {
+        if (element instanceof MultiplicityRange range) {
+            Integer lowerBound = getBoundValue(range.getLowerBound());
+            Integer upperBound = getBoundValue(range.getUpperBound());
+            if (lowerBound != null && lowerBound < 0) {
+                diagnostics.add(createDiagnostic(Diagnostic.ERROR, MULTIPLICITY_BOUNDS, "The lower bound of a multiplicity must not be negative", range));
+            } else if (lowerBound != null && lowerBound == INFINITE_BOUND) {
+                diagnostics.add(createDiagnostic(Diagnostic.ERROR, MULTIPLICITY_BOUNDS, "The lower bound of a multiplicity must not be infinite", range));
+            } else if (lowerBound != null && upperBound != null && lowerBound > upperBound) {
+                diagnostics.add(createDiagnostic(Diagnostic.ERROR, MULTIPLICITY_BOUNDS, "The lower bound of a multiplicity must not be greater than its upper bound", range));
+            }
+        }
+    }
+
+    /**
+     * Checks that a usage is typed by types of the kind expected for its kind of usage (e.g. an attribute usage by data
+     * types).
+     *
+     * @param element
+     *            a usage
+     * @param diagnostics
+     *            the diagnostics
+     */
+    public static void validateUsageTyping(Element element, DiagnosticChain diagnostics) {
+        if (element instanceof Feature feature) {
+            EClass expectedType = EXPECTED_TYPES.entrySet().stream()
+                    .filter(entry -> entry.getKey().isSuperTypeOf(feature.eClass()))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse(null);
+            if (expectedType != null) {
+                for (FeatureTyping typing : feature.getOwnedTyping()) {
+                    Type type = typing.getType();
+                    if (type != null && !expectedType.isSuperTypeOf(type.eClass())) {
+                        diagnostics.add(createDiagnostic(Diagnostic.ERROR, USAGE_TYPING,
+                                "A " + feature.eClass().getName() + " must be typed by a " + expectedType.getName() + ", not by a " + type.eClass().getName(), feature, type));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the subsettings and redefinitions owned by a feature: a feature must not subset itself, must not redefine
+     * a feature of its own featuring type and its upper bound must not exceed the upper bound of the subsetted
+     * features.
+     *
+     * @param element
+     *            a feature
+     * @param diagnostics
+     *            the diagnostics
+     */
+    public static void validateSubsettings(Element element, DiagnosticChain diagnostics) {
+        if (element instanceof Feature feature) {
+            for (Subsetting subsetting : feature.getOwnedSubsetting()) {
+                Feature subsettedFeature = subsetting.getSubsettedFeature();
+                if (subsettedFeature == feature) {
+                    diagnostics.add(createDiagnostic(Diagnostic.ERROR, SUBSETTING_CYCLE, "A feature must not subset or redefine itself", feature));
+                } else if (subsettedFeature != null) {
+                    if (subsetting instanceof Redefinition && feature.getOwningType() != null && feature.getOwningType() == subsettedFeature.getOwningType()) {
+                        diagnostics.add(createDiagnostic(Diagnostic.ERROR, REDEFINITION_FEATURING_TYPE,
+                                "A feature must not redefine a feature of its own featuring type", feature, subsettedFeature));
+                    }
+                    Integer upperBound = getUpperBound(feature);
+                    Integer subsettedUpperBound = getUpperBound(subsettedFeature);
+                    if (upperBound != null && subsettedUpperBound != null && upperBound > subsettedUpperBound) {
+                        diagnostics.add(createDiagnostic(Diagnostic.WARNING, SUBSETTING_MULTIPLICITY,
+                                "The upper bound of a feature should not exceed the upper bound of the feature it subsets or redefines", feature, subsettedFeature));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Integer getUpperBound(Feature feature) {
+        return feature.getOwnedElement().stream()
+                .filter(MultiplicityRange.class::isInstance)
+                .map(MultiplicityRange.class::cast)
+                .findFirst()
+                .map(range -> getBoundValue(range.getUpperBound()))
+                .orElse(null);
+    }
+
+    /**
+     * Returns the value of a bound, {@link #INFINITE_BOUND} standing for <code>*</code>.
+     */
+    private static Integer getBoundValue(Expression bound) {
+        Integer value = null;
+        if (bound instanceof LiteralInteger literal) {
+            value = literal.getValue();
+        } else if (bound instanceof LiteralInfinity) {
+            value = INFINITE_BOUND;
+        }
+        return value;
+    }
+
+    private static Diagnostic createDiagnostic(int severity, int code, String message, Object... data) {
+        return new BasicDiagnostic(severity, ValidationEngine.DIAGNOSTIC_SOURCE, code, message, data);
+    }
+}
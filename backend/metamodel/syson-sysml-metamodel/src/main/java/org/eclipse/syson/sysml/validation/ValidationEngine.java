@@ -0,0 +1,392 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.helper.InverseReferenceIndex;
+import org.eclipse.syson.sysml.helper.LibrarySnapshot;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
+import org.eclipse.syson.sysml.util.ElementUtil;
+
+/**
+ * Checks the well-formedness rules of the SysML elements of a resource set and keeps their diagnostics up to date.
+ *
+ * <p>
+ * The rules are registered per {@link EClass} and apply to the instances of the sub-classes too. The engine is an
+ * adapter of the resource set: the first call to {@link #validate()} checks all the elements, the following ones only
+ * check again the elements affected by the modifications notified since the previous call. A modification of an
+ * element affects the element, its ancestors, the elements referencing any of them (see
+ * {@link InverseReferenceIndex}) and the owners of those referencing relationships. The elements of the standard
+ * libraries are not checked.
+ * </p>
+ *
+ * <p>
+ * Resolving a proxy or reading a pending library modifies the resource set, it is done on the thread modifying the
+ * models before the rules are checked: the references of the elements to check and of their contents, down to the
+ * redefinitions of their members which give the names of the members, are resolved first (all the references of the
+ * models on a full validation). The rules are then checked in parallel over partitions of the elements, they only read
+ * the models (see {@link ValidationRule}), and the diagnostics are stored on the calling thread.
+ * </p>
+ *
+ * <p>
+ * The diagnostics of the engine of a resource set are contributed to the EMF validation of its elements by
+ * {@link SysmlEValidator}.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class ValidationEngine extends EContentAdapter {
+
+    /**
+     * The source of the diagnostics created by the rules.
+     */
+    public static final String DIAGNOSTIC_SOURCE = "org.eclipse.syson.sysml";
+
+    /**
+     * The number of elements checked by each task, a single partition is checked on the calling thread.
+     */
+    private static final int PARTITION_SIZE = 256;
+
+    /**
+     * The depth of the contents of an element to check whose references are resolved beforehand: its owned
+     * relationships, their related elements (e.g. the members of a namespace) and their owned relationships (e.g. the
+     * redefinitions giving the names of the members).
+     */
+    private static final int RESOLVED_CONTENTS_DEPTH = 3;
+
+    private final Map<EClass, List<ValidationRule>> registeredRules = new LinkedHashMap<>();
+
+    private final Map<EClass, List<ValidationRule>> rulesByEClass = new HashMap<>();
+
+    private final Map<Element, List<Diagnostic>> diagnosticsByElement = new HashMap<>();
+
+    private final Set<Element> affectedElements = new HashSet<>();
+
+    private ResourceSet resourceSet;
+
+    private boolean fullValidationRequired = true;
+
+    /**
+     * Creates an engine checking the rules of {@link SysmlValidationRules}.
+     *
+     * @return a new engine
+     */
+    public static ValidationEngine createDefault() {
+        ValidationEngine engine = new ValidationEngine();
+        SysmlValidationRules.registerAll(engine);
+        return engine;
+    }
+
+    /**
+     * Returns the engine of the given resource set.
+     *
+     * @param resourceSet
+     *            a resource set
+     * @return the engine adapting the resource set, or <code>null</code> if there is none
+     */
+    public static ValidationEngine getEngine(ResourceSet resourceSet) {
+        for (Object adapter : resourceSet.eAdapters()) {
+            if (adapter instanceof ValidationEngine engine) {
+                return engine;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers a rule checked on the instances of the given class and of its sub-classes.
+     *
+     * @param eClass
+     *            a SysML class
+     * @param rule
+     *            the rule
+     */
+    public void addRule(EClass eClass, ValidationRule rule) {
+        this.registeredRules.computeIfAbsent(eClass, key -> new ArrayList<>()).add(rule);
+        this.rulesByEClass.clear();
+        this.fullValidationRequired = true;
+    }
+
+    /**
+     * Checks the elements affected by the modifications of the models since the previous validation, or all the
+     * elements the first time.
+     *
+     * @return the diagnostics of all the elements
+     */
+    public Diagnostic validate() {
+        this.update();
+        BasicDiagnostic diagnostic = new BasicDiagnostic(DIAGNOSTIC_SOURCE, 0, "Diagnosis of the SysML models", null);
+        this.diagnosticsByElement.values().forEach(diagnostics -> diagnostics.forEach(diagnostic::add));
+        return diagnostic;
+    }
+
+    /**
+     * Checks the elements affected by the modifications of the models since the previous validation, or all the
+     * elements the first time, without gathering the diagnostics of all the elements.
+     */
+    public void update() {
+        if (this.resourceSet != null && (this.fullValidationRequired || !this.affectedElements.isEmpty())) {
+            List<Element> elements;
+            boolean fullValidation = this.fullValidationRequired;
+            if (fullValidation) {
+                this.diagnosticsByElement.clear();
+                elements = this.getAllElements();
+            } else {
+                elements = this.affectedElements.stream()
+                        .filter(element -> element.eResource() != null && element.eResource().getResourceSet() == this.resourceSet)
+                        .filter(element -> !ElementUtil.isFromStandardLibrary(element))
+                        .toList();
+            }
+            this.affectedElements.clear();
+            this.fullValidationRequired = false;
+            for (Element element : elements) {
+                this.getRules(element.eClass());
+                if (fullValidation) {
+                    this.resolveReferences(element);
+                } else {
+                    this.resolveReferences(element, RESOLVED_CONTENTS_DEPTH);
+                }
+            }
+            this.check(elements);
+        }
+    }
+
+    /**
+     * Returns the diagnostics of the given element computed by the last validation.
+     *
+     * @param element
+     *            an element
+     * @return the diagnostics of the element
+     */
+    public List<Diagnostic> getDiagnostics(Element element) {
+        return this.diagnosticsByElement.getOrDefault(element, List.of());
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && !this.fullValidationRequired) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof Element element) {
+                this.addAffectedElements(element);
+                if (notification.getFeature() instanceof EReference reference && reference.isContainment()) {
+                    this.getValues(notification, false).forEach(this::removeSubtree);
+                    this.getValues(notification, true).forEach(this::addSubtree);
+                }
+            } else if (notifier instanceof Resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                this.getValues(notification, false).forEach(this::removeSubtree);
+                this.getValues(notification, true).forEach(this::addSubtree);
+            } else if (this.isModelsLoading(notification)) {
+                this.fullValidationRequired = true;
+            }
+        }
+    }
+
+    /**
+     * The engine does not resolve the proxies of the contents it visits, adapting the models must not load the
+     * resources of the packages stored in their own resources.
+     */
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        this.resourceSet = target;
+        this.fullValidationRequired = true;
+        super.setTarget(target);
+    }
+
+    @Override
+    protected void unsetTarget(ResourceSet target) {
+        super.unsetTarget(target);
+        this.resourceSet = null;
+        this.diagnosticsByElement.clear();
+        this.affectedElements.clear();
+    }
+
+    /**
+     * Checks the given elements over partitions checked in parallel, their rules must have been computed. Only the
+     * diagnostics are computed in parallel, they are stored on the calling thread.
+     */
+    private void check(List<Element> elements) {
+        List<List<Element>> partitions = new ArrayList<>();
+        for (int start = 0; start < elements.size(); start += PARTITION_SIZE) {
+            partitions.add(elements.subList(start, Math.min(start + PARTITION_SIZE, elements.size())));
+        }
+        Stream<List<Element>> stream = partitions.stream();
+        if (partitions.size() > 1) {
+            stream = stream.parallel();
+        }
+        List<List<Diagnostic>> diagnostics = stream.map(partition -> partition.stream().map(this::check).toList())
+                .flatMap(List::stream)
+                .toList();
+        for (int i = 0; i < elements.size(); i++) {
+            if (diagnostics.get(i).isEmpty()) {
+                this.diagnosticsByElement.remove(elements.get(i));
+            } else {
+                this.diagnosticsByElement.put(elements.get(i), diagnostics.get(i));
+            }
+        }
+    }
+
+    private List<Diagnostic> check(Element element) {
+        BasicDiagnostic diagnostics = new BasicDiagnostic();
+        for (ValidationRule rule : this.rulesByEClass.get(element.eClass())) {
+            rule.validate(element, diagnostics);
+        }
+        return List.copyOf(diagnostics.getChildren());
+    }
+
+    private void resolveReferences(EObject eObject, int depth) {
+        this.resolveReferences(eObject);
+        if (depth > 0) {
+            for (EObject content : eObject.eContents()) {
+                this.resolveReferences(content, depth - 1);
+            }
+        }
+    }
+
+    /**
+     * Resolves the proxies referenced by the non-derived cross references of the given object, which may read the
+     * libraries or other resources.
+     */
+    private void resolveReferences(EObject eObject) {
+        for (EReference reference : eObject.eClass().getEAllReferences()) {
+            if (!reference.isDerived() && !reference.isContainment() && !reference.isContainer() && reference.isResolveProxies()) {
+                Object value = eObject.eGet(reference, true);
+                if (value instanceof List<?> values) {
+                    // Getting the values of a list resolves them
+                    for (int i = 0; i < values.size(); i++) {
+                        values.get(i);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<ValidationRule> getRules(EClass eClass) {
+        return this.rulesByEClass.computeIfAbsent(eClass, key -> this.registeredRules.entrySet().stream()
+                .filter(entry -> entry.getKey().isSuperTypeOf(key))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList());
+    }
+
+    private List<Element> getAllElements() {
+        List<Element> elements = new ArrayList<>();
+        for (Resource resource : this.resourceSet.getResources()) {
+            // The library resources are not validated, they are not read either
+            if (!SharedLibraries.isLibrary(resource) && !LibrarySnapshot.isPending(resource)) {
+                TreeIterator<EObject> contents = EcoreUtil.getAllProperContents(resource, false);
+                while (contents.hasNext()) {
+                    EObject content = contents.next();
+                    if (content instanceof Element element) {
+                        if (ElementUtil.isFromStandardLibrary(element)) {
+                            contents.prune();
+                        } else {
+                            elements.add(element);
+                        }
+                    }
+                }
+            }
+        }
+        return elements;
+    }
+
+    private void addAffectedElements(Element element) {
+        InverseReferenceIndex index = InverseReferenceIndex.getIndex(this.resourceSet);
+        EObject current = element;
+        while (current instanceof Element ancestor) {
+            this.affectedElements.add(ancestor);
+            for (Setting setting : index.getInverse(ancestor)) {
+                if (setting.getEObject() instanceof Element source) {
+                    this.affectedElements.add(source);
+                    if (source instanceof Relationship relationship && relationship.getOwningRelatedElement() != null) {
+                        this.affectedElements.add(relationship.getOwningRelatedElement());
+                    }
+                }
+            }
+            current = current.eContainer();
+        }
+    }
+
+    private void addSubtree(Object root) {
+        if (root instanceof Element element) {
+            this.affectedElements.add(element);
+            EcoreUtil.getAllContents(element, false).forEachRemaining(content -> {
+                if (content instanceof Element contentElement) {
+                    this.affectedElements.add(contentElement);
+                }
+            });
+        }
+    }
+
+    private void removeSubtree(Object root) {
+        if (root instanceof Element element && element.eResource() == null) {
+            this.diagnosticsByElement.remove(element);
+            EcoreUtil.getAllContents(element, false).forEachRemaining(this.diagnosticsByElement::remove);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the given notification is the loading of a model resource or a modification of the
+     * resources of the resource set. Reading a library, e.g. while the proxies are resolved, does not require a full
+     * validation: the libraries are not checked.
+     */
+    private boolean isModelsLoading(Notification notification) {
+        boolean modelsLoading;
+        if (notification.getNotifier() instanceof Resource resource) {
+            modelsLoading = notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED && !SharedLibraries.isLibrary(resource);
+        } else {
+            modelsLoading = notification.getNotifier() instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+        }
+        return modelsLoading;
+    }
+
+    private List<?> getValues(Notification notification, boolean newValues) {
+        Object value = notification.getOldValue();
+        if (newValues) {
+            value = notification.getNewValue();
+        }
+        List<?> values = List.of();
+        if (value instanceof List<?> list) {
+            values = list;
+        } else if (value != null) {
+            values = List.of(value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.validation;
+
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.syson.sysml.Element;
+
+/**
+ * A well-formedness rule checked on the elements of a given kind by a {@link ValidationEngine}.
+ *
+ * <p>
+ * A rule may read the element, its subtree and the elements it references but must not modify any element. When an
+ * element changes, the rules of the element, of its ancestors and of the elements referencing them are checked again
+ * (see {@link ValidationEngine}), a rule should only depend on those.
+ * </p>
+ *
+ * <p>
+ * The rules are checked in parallel on several elements. The references of the element and of its contents down to
+ * the redefinitions of its members are resolved beforehand, a rule must not resolve other proxies or look for elements
+ * in pending libraries (e.g. with <code>Namespace#resolveGlobal(String)</code>): both modify the resource set.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@FunctionalInterface
+public interface ValidationRule {
+
+    /**
+     * Checks the given element.
+     *
+     * @param element
+     *            the element to check
+     * @param diagnostics
+     *            the diagnostics to which the problems found are added
+     */
+    void validate(Element element, DiagnosticChain diagnostics);
+}
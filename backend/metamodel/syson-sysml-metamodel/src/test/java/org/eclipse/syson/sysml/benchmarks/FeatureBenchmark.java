@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.PartUsage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the computation of the features of the types and of the usages owned by definitions and usages,
+ * partitioned by kind.
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeatureBenchmark {
+
+    @Benchmark
+    public EList<Feature> getFeature(SyntheticModelState state) {
+        return state.nextType().getFeature();
+    }
+
+    @Benchmark
+    public EList<PartUsage> getNestedPart(SyntheticModelState state) {
+        return state.nextUsage().getNestedPart();
+    }
+
+    @Benchmark
+    public EList<AttributeUsage> getNestedAttribute(SyntheticModelState state) {
+        return state.nextUsage().getNestedAttribute();
+    }
+
+    @Benchmark
+    public EList<PartUsage> getOwnedPart(SyntheticModelState state) {
+        return state.nextDefinition().getOwnedPart();
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.benchmarks;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the metamodel benchmarks with the GC profiler and reports the time and the allocated bytes per call.
+ *
+ * <p>
+ * The arguments are the regular JMH command line arguments, for example
+ * <code>MembershipBenchmark -p depth=4 -p importFanOut=8</code>. It can be launched with
+ * <code>mvn test-compile exec:exec -Pbenchmark</code> (use <code>-Dbenchmark.args="..."</code> to give arguments).
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public final class MetamodelBenchmarkRunner {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private MetamodelBenchmarkRunner() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(MetamodelBenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        Collection<RunResult> results = new Runner(optionsBuilder.build()).run();
+        report(results, System.out);
+    }
+
+    private static void report(Collection<RunResult> results, PrintStream out) {
+        out.println();
+        out.println(String.format("%-40s %-85s %12s %12s", "Benchmark", "Params", "ns/call", "bytes/call"));
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            Result<?> primaryResult = result.getPrimaryResult();
+            double nanoSecondsPerCall = TimeUnit.NANOSECONDS.convert(1, params.getTimeUnit()) * primaryResult.getScore();
+            Result<?> allocation = result.getSecondaryResults().get(ALLOCATION_METRIC);
+            double bytesPerCall = Double.NaN;
+            if (allocation != null) {
+                bytesPerCall = allocation.getScore();
+            }
+            out.println(String.format("%-40s %-85s %12.1f %12.1f", getBenchmarkLabel(params), getParamsLabel(params), nanoSecondsPerCall, bytesPerCall));
+        }
+    }
+
+    private static String getBenchmarkLabel(BenchmarkParams params) {
+        return params.getBenchmark().substring(MetamodelBenchmarkRunner.class.getPackageName().length() + 1);
+    }
+
+    private static String getParamsLabel(BenchmarkParams params) {
+        StringBuilder label = new StringBuilder();
+        for (String key : params.getParamsKeys()) {
+            if (!label.isEmpty()) {
+                label.append(',');
+            }
+            label.append(key).append('=').append(params.getParam(key));
+        }
+        return label.toString();
+    }
+}
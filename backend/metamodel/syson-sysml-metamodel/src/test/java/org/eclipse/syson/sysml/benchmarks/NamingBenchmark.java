@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the computation of the qualified names of the elements and the resolution of names in namespaces.
+ *
+ * <p>
+ * The resolved names are qualified names resolved from the global scope, simple names owned or imported by a package
+ * and simple names inherited through the whole specialization chain of a definition.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamingBenchmark {
+
+    @Benchmark
+    public String getQualifiedName(SyntheticModelState state) {
+        return state.nextElement().getQualifiedName();
+    }
+
+    @Benchmark
+    public Membership resolve(SyntheticModelState state) {
+        Pair<Namespace, String> resolution = state.nextResolution();
+        return resolution.getLeft().resolve(resolution.getRight());
+    }
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+
+/**
+ * Builds synthetic SysML models of a configurable scale, used to benchmark the derived features of the metamodel.
+ *
+ * <p>
+ * The generated model is a tree of packages of the given depth, each package containing <code>width</code>
+ * sub-packages. The leaf packages contain <code>width</code> part definitions, each one owning <code>width</code>
+ * usages of various kinds (parts, attributes, ports and actions), the part usages owning <code>width</code> nested
+ * usages in the same way. All the part definitions specialize the last definition of a chain of
+ * <code>specializationDepth</code> base definitions, each base definition owning a part usage inherited by the
+ * others. Each leaf package imports <code>importFanOut</code> other random leaf packages.
+ * </p>
+ * <p>
+ * The generation is seeded, two generators created with the same parameters produce models of the same shape.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+public class SyntheticModelGenerator {
+
+    private static final long SEED = 42L;
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private final Random random = new Random(SEED);
+
+    private final int width;
+
+    private final int depth;
+
+    private final int importFanOut;
+
+    private final int specializationDepth;
+
+    private final List<Element> elements = new ArrayList<>();
+
+    private final List<Namespace> namespaces = new ArrayList<>();
+
+    private final List<Type> types = new ArrayList<>();
+
+    private final List<Definition> definitions = new ArrayList<>();
+
+    private final List<Usage> usages = new ArrayList<>();
+
+    private final List<Package> leafPackages = new ArrayList<>();
+
+    private final List<Pair<Namespace, String>> resolutions = new ArrayList<>();
+
+    private final List<PartDefinition> baseDefinitions = new ArrayList<>();
+
+    private Namespace root;
+
+    public SyntheticModelGenerator(int width, int depth, int importFanOut, int specializationDepth) {
+        this.width = width;
+        this.depth = depth;
+        this.importFanOut = importFanOut;
+        this.specializationDepth = specializationDepth;
+    }
+
+    public void generate() {
+        this.root = this.builder.createWithName(Namespace.class, null);
+        this.generateBaseDefinitions();
+        this.generatePackages(this.root, "", 1);
+        this.generateImports();
+        this.collect();
+    }
+
+    private void generateBaseDefinitions() {
+        Package basePackage = this.builder.createInWithName(Package.class, this.root, "Base");
+        PartDefinition previous = null;
+        for (int i = 0; i < this.specializationDepth; i++) {
+            PartDefinition baseDefinition = this.builder.createInWithName(PartDefinition.class, basePackage, "Base" + i);
+            this.builder.createInWithName(PartUsage.class, baseDefinition, "base" + i);
+            if (previous != null) {
+                this.builder.addSuperType(baseDefinition, previous);
+            }
+            this.baseDefinitions.add(baseDefinition);
+            previous = baseDefinition;
+        }
+    }
+
+    private void generatePackages(Namespace parent, String prefix, int level) {
+        for (int i = 0; i < this.width; i++) {
+            String name = prefix + "P" + i;
+            Package pack = this.builder.createInWithName(Package.class, parent, name);
+            if (level < this.depth) {
+                this.generatePackages(pack, name + "_", level + 1);
+            } else {
+                this.generateDefinitions(pack);
+                this.leafPackages.add(pack);
+            }
+        }
+    }
+
+    private void generateDefinitions(Package pack) {
+        for (int i = 0; i < this.width; i++) {
+            PartDefinition definition = this.builder.createInWithName(PartDefinition.class, pack, "Def" + i);
+            if (!this.baseDefinitions.isEmpty()) {
+                this.builder.addSuperType(definition, this.baseDefinitions.get(this.baseDefinitions.size() - 1));
+            }
+            for (int j = 0; j < this.width; j++) {
+                Usage usage = this.generateUsage(definition, j);
+                if (usage instanceof PartUsage) {
+                    for (int k = 0; k < this.width; k++) {
+                        this.generateUsage(usage, k);
+                    }
+                }
+            }
+        }
+    }
+
+    private Usage generateUsage(Type owner, int index) {
+        Usage usage;
+        switch (index % 4) {
+            case 0:
+                usage = this.builder.createInWithName(PartUsage.class, owner, "part" + index);
+                break;
+            case 1:
+                usage = this.builder.createInWithName(AttributeUsage.class, owner, "attribute" + index);
+                break;
+            case 2:
+                usage = this.builder.createInWithName(PortUsage.class, owner, "port" + index);
+                break;
+            default:
+                usage = this.builder.createInWithName(ActionUsage.class, owner, "action" + index);
+                break;
+        }
+        return usage;
+    }
+
+    private void generateImports() {
+        for (Package pack : this.leafPackages) {
+            for (int i = 0; i < this.importFanOut; i++) {
+                Package importedPackage = this.leafPackages.get(this.random.nextInt(this.leafPackages.size()));
+                this.builder.createIn(NamespaceImport.class, pack).setImportedNamespace(importedPackage);
+            }
+        }
+    }
+
+    private void collect() {
+        this.elements.add(this.root);
+        this.root.eAllContents().forEachRemaining(content -> {
+            if (content instanceof Element element) {
+                this.elements.add(element);
+            }
+            if (content instanceof Namespace namespace) {
+                this.namespaces.add(namespace);
+            }
+            if (content instanceof Type type) {
+                this.types.add(type);
+            }
+            if (content instanceof Definition definition) {
+                this.definitions.add(definition);
+            }
+            if (content instanceof Usage usage) {
+                this.usages.add(usage);
+            }
+        });
+        for (Package pack : this.leafPackages) {
+            Package otherPackage = this.leafPackages.get(this.random.nextInt(this.leafPackages.size()));
+            // A qualified name resolved from the global scope
+            this.resolutions.add(Pair.of(pack, otherPackage.getQualifiedName() + "::Def0"));
+            // A simple name imported or owned
+            this.resolutions.add(Pair.of(pack, "Def" + this.random.nextInt(this.width)));
+        }
+        if (!this.baseDefinitions.isEmpty()) {
+            // A simple name inherited through the whole specialization chain
+            for (Definition definition : this.definitions) {
+                if (!this.baseDefinitions.contains(definition)) {
+                    this.resolutions.add(Pair.of(definition, "base0"));
+                }
+            }
+        }
+    }
+
+    public Namespace getRoot() {
+        return this.root;
+    }
+
+    public List<Element> getElements() {
+        return this.elements;
+    }
+
+    public List<Namespace> getNamespaces() {
+        return this.namespaces;
+    }
+
+    public List<Type> getTypes() {
+        return this.types;
+    }
+
+    public List<Definition> getDefinitions() {
+        return this.definitions;
+    }
+
+    public List<Usage> getUsages() {
+        return this.usages;
+    }
+
+    public List<Pair<Namespace, String>> getResolutions() {
+        return this.resolutions;
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.benchmarks;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.helper.DerivedFeatureCache;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH state holding a synthetic model built by {@link SyntheticModelGenerator}.
+ *
+ * <p>
+ * The scale of the model is controlled by the JMH parameters, they can be overridden from the command line (for
+ * example <code>-p depth=4 -p importFanOut=8</code>). Each benchmark invocation performs a single call on the next
+ * element of one of the lists of the model, so that the scores are given per call. When the caches are disabled, each
+ * call computes the derived feature and all the derived features it depends on, as after a modification of the model.
+ * </p>
+ *
+ * @author Arthur Daussy
+ */
+@State(Scope.Thread)
+public class SyntheticModelState {
+
+    @Param({ "5" })
+    protected int width;
+
+    @Param({ "3" })
+    protected int depth;
+
+    @Param({ "2" })
+    protected int importFanOut;
+
+    @Param({ "4" })
+    protected int specializationDepth;
+
+    @Param({ "true", "false" })
+    protected boolean cachesEnabled;
+
+    private SyntheticModelGenerator generator;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void generateModel() {
+        this.generator = new SyntheticModelGenerator(this.width, this.depth, this.importFanOut, this.specializationDepth);
+        this.generator.generate();
+        DerivedFeatureCache.setEnabled(this.cachesEnabled);
+    }
+
+    @TearDown(Level.Trial)
+    public void enableCaches() {
+        DerivedFeatureCache.setEnabled(true);
+    }
+
+    public Element nextElement() {
+        return this.next(this.generator.getElements());
+    }
+
+    public Namespace nextNamespace() {
+        return this.next(this.generator.getNamespaces());
+    }
+
+    public Type nextType() {
+        return this.next(this.generator.getTypes());
+    }
+
+    public Definition nextDefinition() {
+        return this.next(this.generator.getDefinitions());
+    }
+
+    public Usage nextUsage() {
+        return this.next(this.generator.getUsages());
+    }
+
+    public Pair<Namespace, String> nextResolution() {
+        return this.next(this.generator.getResolutions());
+    }
+
+    private <T> T next(List<T> values) {
+        this.index++;
+        if (this.index >= values.size()) {
+            this.index = 0;
+        }
+        return values.get(this.index);
+    }
+}
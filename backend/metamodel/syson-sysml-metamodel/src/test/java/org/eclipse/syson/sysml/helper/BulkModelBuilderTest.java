@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.syson.sysml.LibraryPackage;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link BulkModelBuilder}.
+ *
+ * @author Arthur Daussy
+ */
+public class BulkModelBuilderTest {
+
+    private static final int DEFINITION_COUNT = 10;
+
+    @Test
+    public void attach() {
+        Package root = new ModelBuilder().createWithName(Package.class, "Root");
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        List<Notification> notifications = new ArrayList<>();
+        EContentAdapter adapter = new EContentAdapter() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                super.notifyChanged(notification);
+                notifications.add(notification);
+            }
+        };
+        resource.eAdapters().add(adapter);
+        // Computes the cached members of the root before its modification
+        assertEquals(0, root.getOwnedMember().size());
+
+        BulkModelBuilder builder = new BulkModelBuilder();
+        Package pack = builder.create(Package.class);
+        pack.setDeclaredName("Pack");
+        builder.reserve(pack, DEFINITION_COUNT);
+        List<PartUsage> parts = new ArrayList<>();
+        for (int i = 0; i < DEFINITION_COUNT; i++) {
+            PartDefinition definition = builder.createInWithName(PartDefinition.class, pack, "Def" + i);
+            parts.add(builder.createInWithName(PartUsage.class, definition, "part"));
+        }
+        builder.attach(pack, root);
+
+        // A single notification for the whole subtree
+        assertEquals(1, notifications.size());
+        assertTrue(parts.stream().allMatch(part -> part.eDeliver() && part.eAdapters().contains(adapter)));
+        assertEquals("Root::Pack::Def3::part", parts.get(3).getQualifiedName());
+        assertEquals(List.of(pack), root.getOwnedMember());
+        assertEquals(DEFINITION_COUNT, pack.getOwnedMember().size());
+        assertEquals(1, ((PartDefinition) pack.getOwnedMember().get(0)).getOwnedPart().size());
+        BasicEList<?> ownedRelationships = (BasicEList<?>) pack.getOwnedRelationship();
+        assertEquals(ownedRelationships.size(), ownedRelationships.data().length);
+
+        // The modifications of the attached elements are notified
+        parts.get(0).setDeclaredName("renamed");
+        assertEquals(2, notifications.size());
+        assertEquals("Root::Pack::Def0::renamed", parts.get(0).getQualifiedName());
+    }
+
+    @Test
+    public void attachToStandardLibrary() {
+        BulkModelBuilder builder = new BulkModelBuilder();
+        LibraryPackage library = builder.create(LibraryPackage.class);
+        library.setDeclaredName("Library");
+        library.setIsStandard(true);
+        PartDefinition definition = builder.createInWithName(PartDefinition.class, library, "Def");
+        Resource resource = new ResourceImpl(URI.createURI("sysmllibrary:///library"));
+        builder.attach(library, resource);
+
+        assertInstanceOf(LibraryPackage.class, resource.getContents().get(0));
+        // The identifiers of the standard library elements are computed from their qualified names
+        assertEquals(ElementUtil.generateUUID(library).toString(), library.getElementId());
+        assertEquals(ElementUtil.generateUUID(definition).toString(), definition.getElementId());
+    }
+}
@@ -0,0 +1,391 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.eclipse.syson.sysml.util.TestUtils.assertContentEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.ConjugatedPortDefinition;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureDirectionKind;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortConjugation;
+import org.eclipse.syson.sysml.PortDefinition;
+import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.impl.ElementImpl;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DerivedFeatureCache}.
+ *
+ * @author Arthur Daussy
+ */
+public class DerivedFeatureCacheTest {
+
+    private ModelBuilder builder;
+
+    private Package p1;
+
+    private Package p2;
+
+    private PartDefinition def1;
+
+    private PartDefinition def2;
+
+    /**
+     * Builds the following model.
+     *
+     * <pre>
+     * package p1 {
+     *     part def Def1 {
+     *         part part1;
+     *     }
+     * }
+     * package p2 {
+     *     import p1::*;
+     *     part def Def2 :> Def1;
+     * }
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        DerivedFeatureCache.setEnabled(true);
+        this.builder = new ModelBuilder();
+        this.p1 = this.builder.createWithName(Package.class, "p1");
+        this.p2 = this.builder.createWithName(Package.class, "p2");
+        this.builder.createIn(NamespaceImport.class, this.p2).setImportedNamespace(this.p1);
+        this.def1 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def1");
+        this.builder.createInWithName(PartUsage.class, this.def1, "part1");
+        this.def2 = this.builder.createInWithName(PartDefinition.class, this.p2, "Def2");
+        this.builder.addSuperType(this.def2, this.def1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        DerivedFeatureCache.setEnabled(!Boolean.getBoolean(DerivedFeatureCache.DISABLED_PROPERTY));
+    }
+
+    @Test
+    public void repeatedReadsReturnTheSameValue() {
+        assertSame(this.p1.getOwnedMembership(), this.p1.getOwnedMembership());
+        assertSame(this.p2.getOwnedImport(), this.p2.getOwnedImport());
+        assertSame(this.p1.getOwnedMember(), this.p1.getOwnedMember());
+        assertSame(this.p2.getMembership(), this.p2.getMembership());
+        assertSame(this.p2.getImportedMembership(), this.p2.getImportedMembership());
+        assertSame(this.def2.getFeatureMembership(), this.def2.getFeatureMembership());
+        assertSame(this.def2.getFeature(), this.def2.getFeature());
+        assertSame(this.def2.getInheritedFeature(), this.def2.getInheritedFeature());
+        assertSame(this.def1.getOwnedElement(), this.def1.getOwnedElement());
+    }
+
+    @Test
+    public void ownedRelationshipChangesInvalidateTheCache() {
+        assertContentEquals(this.p1.getOwnedMember(), this.def1);
+
+        PartDefinition def3 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def3");
+
+        assertContentEquals(this.p1.getOwnedMember(), this.def1, def3);
+        assertContentEquals(this.p1.getOwnedElement(), this.def1, def3);
+    }
+
+    @Test
+    public void importedElementChangesInvalidateTheCache() {
+        assertEquals(List.of("Def1"), this.getMemberNames(this.p2.getImportedMembership()));
+
+        this.builder.createInWithName(PartDefinition.class, this.p1, "Def3");
+        assertEquals(List.of("Def1", "Def3"), this.getMemberNames(this.p2.getImportedMembership()));
+
+        this.def1.setDeclaredName("Def1Renamed");
+        assertEquals(List.of("Def2", "Def1Renamed", "Def3"), this.getMemberNames(this.p2.getMembership()));
+    }
+
+    @Test
+    public void inheritedFeatureChangesInvalidateTheCache() {
+        assertEquals(List.of("part1"), this.def2.getInheritedFeature().stream().map(feature -> feature.getName()).toList());
+
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, this.def1, "part2");
+        assertEquals(List.of("part1", "part2"), this.def2.getInheritedFeature().stream().map(feature -> feature.getName()).toList());
+
+        EcoreUtil.delete(part2.getOwningRelationship(), true);
+        assertEquals(List.of("part1"), this.def2.getFeature().stream().map(feature -> feature.getName()).toList());
+    }
+
+    @Test
+    public void valueChangesDoNotInvalidateTheCache() {
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        LiteralInteger bound = this.builder.create(LiteralInteger.class);
+        this.builder.addMultiplicityRange(part1, bound);
+        List<Membership> memberships = this.p2.getMembership();
+        List<Feature> inheritedFeatures = this.def2.getInheritedFeature();
+        ModificationCounts counts = ModificationCounts.of(part1);
+        long contentModificationCount = counts.getContentModificationCount();
+
+        bound.setValue(4);
+        part1.setIsComposite(false);
+        part1.setDirection(FeatureDirectionKind.IN);
+
+        assertSame(memberships, this.p2.getMembership());
+        assertSame(inheritedFeatures, this.def2.getInheritedFeature());
+        assertNotEquals(contentModificationCount, counts.getContentModificationCount());
+    }
+
+    @Test
+    public void visibilityChangesInvalidateTheCache() {
+        assertEquals(List.of(this.def1.getName()), this.getMemberNames(this.p2.getImportedMembership()));
+
+        this.def1.getOwningMembership().setVisibility(VisibilityKind.PRIVATE);
+
+        assertEquals(List.of(), this.getMemberNames(this.p2.getImportedMembership()));
+    }
+
+    @Test
+    public void valueChangesKeepTheMemoizedMemberships() {
+        ModificationCounts counts = ModificationCounts.of(this.def2);
+        this.def2.getInheritedMembership();
+        this.p2.visibleMemberships(new BasicEList<>(), false, false);
+        Object inheritedMemberships = ((ElementImpl) this.def2).getCachedValue(counts.getModificationCount(), MembershipComputer.INHERITED_MEMBERSHIPS_KEY);
+        Object visibleMemberships = ((ElementImpl) this.p2).getCachedValue(counts.getModificationCount(), MembershipComputer.VISIBLE_MEMBERSHIPS_KEYS[0]);
+        assertNotNull(inheritedMemberships);
+        assertNotNull(visibleMemberships);
+
+        this.def1.setIsAbstract(true);
+        this.def2.setIsVariation(true);
+        this.def2.getInheritedMembership();
+        this.p2.visibleMemberships(new BasicEList<>(), false, false);
+
+        assertSame(inheritedMemberships, ((ElementImpl) this.def2).getCachedValue(counts.getModificationCount(), MembershipComputer.INHERITED_MEMBERSHIPS_KEY));
+        assertSame(visibleMemberships, ((ElementImpl) this.p2).getCachedValue(counts.getModificationCount(), MembershipComputer.VISIBLE_MEMBERSHIPS_KEYS[0]));
+
+        this.builder.createInWithName(PartUsage.class, this.def1, "part2");
+
+        assertNull(((ElementImpl) this.def2).getCachedValue(counts.getModificationCount(), MembershipComputer.INHERITED_MEMBERSHIPS_KEY));
+        assertNull(((ElementImpl) this.p2).getCachedValue(counts.getModificationCount(), MembershipComputer.VISIBLE_MEMBERSHIPS_KEYS[0]));
+    }
+
+    @Test
+    public void renameInvalidatesTheQualifiedNamesOfTheSubtree() {
+        String def2QualifiedName = this.def2.getQualifiedName();
+        assertEquals("p1::Def1", this.def1.getQualifiedName());
+        assertSame(this.def1.getQualifiedName(), this.def1.getQualifiedName());
+
+        this.p1.setDeclaredName("p1Renamed");
+
+        assertEquals("p1Renamed::Def1", this.def1.getQualifiedName());
+        assertEquals("p1Renamed::Def1::part1", this.def1.getOwnedFeature().get(0).getQualifiedName());
+        // Outside of the subtree of the renamed package
+        assertSame(def2QualifiedName, this.def2.getQualifiedName());
+    }
+
+    @Test
+    public void moveInvalidatesTheQualifiedNamesOfTheSubtree() {
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        assertEquals("p1::Def1::part1", part1.getQualifiedName());
+
+        this.p2.getOwnedRelationship().add(this.def1.getOwningRelationship());
+
+        assertEquals("p2::Def1", this.def1.getQualifiedName());
+        assertEquals("p2::Def1::part1", part1.getQualifiedName());
+    }
+
+    @Test
+    public void redefinedFeatureRenameInvalidatesTheEffectiveNames() {
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        PartUsage redefiningPart = this.builder.createIn(PartUsage.class, this.def2);
+        this.builder.addRedefinition(redefiningPart, part1);
+        assertEquals("part1", redefiningPart.getName());
+        assertEquals("p2::Def2::part1", redefiningPart.getQualifiedName());
+
+        part1.setDeclaredName("engine");
+
+        assertEquals("engine", redefiningPart.getName());
+        assertEquals("p2::Def2::engine", redefiningPart.getQualifiedName());
+    }
+
+    @Test
+    public void redefinedFeatureRenameInvalidatesTheNamesOfTheRedefiningFeaturesOnly() {
+        this.createResourceSet();
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        PartUsage redefiningPart = this.builder.createIn(PartUsage.class, this.def2);
+        this.builder.addRedefinition(redefiningPart, part1);
+        PartUsage wheel = this.builder.createInWithName(PartUsage.class, redefiningPart, "wheel");
+        PartDefinition subDef2 = this.builder.createInWithName(PartDefinition.class, this.p2, "SubDef2");
+        this.builder.addSuperType(subDef2, this.def2);
+        PartUsage subRedefiningPart = this.builder.createIn(PartUsage.class, subDef2);
+        this.builder.addRedefinition(subRedefiningPart, redefiningPart);
+        assertEquals("p2::Def2::part1::wheel", wheel.getQualifiedName());
+        assertEquals("p2::SubDef2::part1", subRedefiningPart.getQualifiedName());
+        String subDef2QualifiedName = subDef2.getQualifiedName();
+
+        part1.setDeclaredName("engine");
+
+        assertEquals("p2::Def2::engine::wheel", wheel.getQualifiedName());
+        assertEquals("p2::SubDef2::engine", subRedefiningPart.getQualifiedName());
+        assertSame(subDef2QualifiedName, subDef2.getQualifiedName());
+    }
+
+    @Test
+    public void redefinitionChangesInvalidateTheNameOfTheRedefiningFeature() {
+        this.createResourceSet();
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, this.def1, "part2");
+        PartUsage redefiningPart = this.builder.createIn(PartUsage.class, this.def2);
+        assertNull(redefiningPart.getName());
+
+        this.builder.addRedefinition(redefiningPart, part1);
+        assertEquals(part1.getName(), redefiningPart.getName());
+
+        redefiningPart.getOwnedRedefinition().get(0).setRedefinedFeature(part2);
+        assertEquals(part2.getName(), redefiningPart.getName());
+    }
+
+    @Test
+    public void featureTypingsDoNotInvalidateTheNames() {
+        this.createResourceSet();
+        PartUsage part1 = (PartUsage) this.def1.getOwnedFeature().get(0);
+        PartUsage redefiningPart = this.builder.createIn(PartUsage.class, this.def2);
+        this.builder.addRedefinition(redefiningPart, part1);
+        String part1QualifiedName = part1.getQualifiedName();
+        String redefiningPartName = redefiningPart.getName();
+
+        this.builder.setType(part1, this.def2);
+        this.builder.setType(redefiningPart, this.def1);
+        this.builder.createInWithName(PartUsage.class, this.def2, "part2").setDeclaredName("part2Renamed");
+
+        assertSame(part1QualifiedName, part1.getQualifiedName());
+        assertSame(redefiningPartName, redefiningPart.getName());
+    }
+
+    @Test
+    public void portDefinitionRenameInvalidatesTheNamesOfItsConjugatedPortDefinitions() {
+        this.createResourceSet();
+        PortDefinition portDefinition = this.builder.createInWithName(PortDefinition.class, this.p1, "Port");
+        ConjugatedPortDefinition conjugatedPortDefinition = this.builder.createIn(ConjugatedPortDefinition.class, this.p2);
+        this.builder.createIn(PortConjugation.class, conjugatedPortDefinition).setOriginalPortDefinition(portDefinition);
+        assertEquals("p2::'~Port'", conjugatedPortDefinition.getQualifiedName());
+
+        portDefinition.setDeclaredName("Connector");
+
+        assertEquals(LabelConstants.CONJUGATED + "Connector", conjugatedPortDefinition.getName());
+        assertEquals("p2::'~Connector'", conjugatedPortDefinition.getQualifiedName());
+    }
+
+    @Test
+    public void memoizedMembershipsMatchComputedMemberships() {
+        // Inheritance cycle and diamond: Def3 :> Def4, Def4 :> Def3, Def5 :> Def3, Def5 :> Def4
+        PartDefinition def3 = this.builder.createInWithName(PartDefinition.class, this.p2, "Def3");
+        PartDefinition def4 = this.builder.createInWithName(PartDefinition.class, this.p2, "Def4");
+        PartDefinition def5 = this.builder.createInWithName(PartDefinition.class, this.p2, "Def5");
+        this.builder.createInWithName(PartUsage.class, def3, "part3");
+        this.builder.createInWithName(PartUsage.class, def4, "part4");
+        this.builder.addSuperType(def3, def4);
+        this.builder.addSuperType(def4, def3);
+        this.builder.addSuperType(def4, this.def2);
+        this.builder.addSuperType(def5, def3);
+        this.builder.addSuperType(def5, def4);
+        List<PartDefinition> definitions = List.of(this.def2, def3, def4, def5);
+
+        DerivedFeatureCache.setEnabled(false);
+        List<List<String>> expectedInheritedMemberships = definitions.stream().map(definition -> this.getMemberNames(definition.getInheritedMembership())).toList();
+        List<String> expectedVisibleMemberships = this.getMemberNames(this.p2.visibleMemberships(new BasicEList<>(), true, true));
+
+        DerivedFeatureCache.setEnabled(true);
+        // Compute the memberships of the most specific definitions first, so that they are memoized while computing the others
+        for (int i = definitions.size() - 1; i >= 0; i--) {
+            assertEquals(expectedInheritedMemberships.get(i), this.getMemberNames(definitions.get(i).getInheritedMembership()));
+        }
+        assertEquals(expectedVisibleMemberships, this.getMemberNames(this.p2.visibleMemberships(new BasicEList<>(), true, true)));
+        for (int i = 0; i < definitions.size(); i++) {
+            assertEquals(expectedInheritedMemberships.get(i), this.getMemberNames(definitions.get(i).getInheritedMembership()));
+        }
+    }
+
+    @Test
+    public void modificationsOfOtherResourceSetsDoNotInvalidateTheCache() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(this.createResource(this.p1));
+        resourceSet.getResources().add(this.createResource(this.p2));
+        ModelBuilder otherBuilder = new ModelBuilder();
+        Package otherPackage = otherBuilder.createWithName(Package.class, "other");
+        new ResourceSetImpl().getResources().add(this.createResource(otherPackage));
+
+        List<Membership> memberships = this.p2.getMembership();
+        String qualifiedName = this.def1.getQualifiedName();
+        otherBuilder.createInWithName(PartDefinition.class, otherPackage, "OtherDef");
+        otherPackage.setDeclaredName("otherRenamed");
+        // Detached elements do not share the modification counts of the resource set either
+        this.builder.createWithName(PartDefinition.class, "Def4").setDeclaredName("Def4Renamed");
+
+        assertSame(memberships, this.p2.getMembership());
+        assertSame(qualifiedName, this.def1.getQualifiedName());
+        assertNotSame(ModificationCounts.of(resourceSet), ModificationCounts.of(otherPackage));
+    }
+
+    @Test
+    public void moveToAnotherResourceSetInvalidatesTheCache() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createResource(this.p1);
+        resourceSet.getResources().add(resource);
+        List<Membership> memberships = this.p1.getOwnedMembership();
+        assertSame(memberships, this.p1.getOwnedMembership());
+
+        new ResourceSetImpl().getResources().add(resource);
+
+        assertNotSame(memberships, this.p1.getOwnedMembership());
+        assertEquals(List.of("Def1"), this.getMemberNames(this.p1.getOwnedMembership()));
+    }
+
+    @Test
+    public void disabledCache() {
+        DerivedFeatureCache.setEnabled(false);
+
+        assertNotSame(this.p2.getMembership(), this.p2.getMembership());
+        assertEquals(List.of("Def2", "Def1"), this.getMemberNames(this.p2.getMembership()));
+    }
+
+    private void createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(this.createResource(this.p1));
+        resourceSet.getResources().add(this.createResource(this.p2));
+    }
+
+    private Resource createResource(Package root) {
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        return resource;
+    }
+
+    private List<String> getMemberNames(List<Membership> memberships) {
+        return memberships.stream().map(Membership::getMemberName).toList();
+    }
+}
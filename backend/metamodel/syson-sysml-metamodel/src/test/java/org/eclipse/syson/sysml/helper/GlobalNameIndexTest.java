@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link GlobalNameIndex}.
+ *
+ * @author Arthur Daussy
+ */
+public class GlobalNameIndexTest {
+
+    private ModelBuilder builder;
+
+    private ResourceSet resourceSet;
+
+    private Package p1;
+
+    private Package p2;
+
+    private Resource resource1;
+
+    private Resource resource2;
+
+    /**
+     * Builds the following models, in two resources.
+     *
+     * <pre>
+     * package p1 {
+     *     part def Def1;
+     * }
+     * </pre>
+     *
+     * <pre>
+     * package p2;
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        this.builder = new ModelBuilder();
+        this.resourceSet = new ResourceSetImpl();
+        Namespace root1 = this.builder.createWithName(Namespace.class, null);
+        this.p1 = this.builder.createInWithName(Package.class, root1, "p1");
+        this.builder.createInWithName(PartDefinition.class, this.p1, "Def1");
+        this.resource1 = this.createResource(root1);
+        Namespace root2 = this.builder.createWithName(Namespace.class, null);
+        this.p2 = this.builder.createInWithName(Package.class, root2, "p2");
+        this.resource2 = this.createResource(root2);
+    }
+
+    @Test
+    public void deepModificationsDoNotIndexTheResourceAgain() {
+        GlobalNameIndex index = GlobalNameIndex.getIndex(this.resourceSet);
+        assertEquals(this.p1, index.resolve("p1").getMemberElement());
+        assertTrue(index.isIndexed(this.resource1));
+        assertTrue(index.isIndexed(this.resource2));
+
+        this.builder.createInWithName(PartDefinition.class, this.p1, "Def2");
+        assertTrue(index.isIndexed(this.resource1));
+        assertEquals(this.p1, index.resolve("p1").getMemberElement());
+        assertNull(index.resolve("Def2"));
+    }
+
+    @Test
+    public void modificationsOfTheGlobalScopeIndexTheirResourceAgain() {
+        GlobalNameIndex index = GlobalNameIndex.getIndex(this.resourceSet);
+        assertEquals(this.p2, index.resolve("p2").getMemberElement());
+
+        // Renamed member of a root namespace
+        this.p2.setDeclaredName("p3");
+        assertTrue(index.isIndexed(this.resource1));
+        assertFalse(index.isIndexed(this.resource2));
+        assertNull(index.resolve("p2"));
+        assertEquals(this.p2, index.resolve("p3").getMemberElement());
+
+        // New member of a root namespace
+        Package p4 = this.builder.createInWithName(Package.class, (Namespace) this.resource1.getContents().get(0), "p4");
+        assertTrue(index.isIndexed(this.resource2));
+        assertFalse(index.isIndexed(this.resource1));
+        assertEquals(p4, index.resolve("p4").getMemberElement());
+    }
+
+    @Test
+    public void featuresNamedAfterARenamedFeatureIndexTheirResourceAgain() {
+        PartUsage wheel = this.builder.createInWithName(PartUsage.class, this.p1.getOwnedMember().get(0), "wheel");
+        PartUsage redefiningPart = this.builder.createIn(PartUsage.class, (Namespace) this.resource2.getContents().get(0));
+        this.builder.addRedefinition(redefiningPart, wheel);
+        GlobalNameIndex index = GlobalNameIndex.getIndex(this.resourceSet);
+        assertEquals(redefiningPart, index.resolve("wheel").getMemberElement());
+
+        wheel.setDeclaredName("tire");
+
+        assertFalse(index.isIndexed(this.resource2));
+        assertNull(index.resolve("wheel"));
+        assertEquals(redefiningPart, index.resolve("tire").getMemberElement());
+    }
+
+    @Test
+    public void rootNamespacesWithImportsAreIndexedAfterEachModification() {
+        Namespace root2 = (Namespace) this.resource2.getContents().get(0);
+        this.builder.createIn(NamespaceImport.class, root2).setImportedNamespace(this.p1);
+        GlobalNameIndex index = GlobalNameIndex.getIndex(this.resourceSet);
+        assertEquals(this.p1.getOwnedMember().get(0), index.resolve("Def1").getMemberElement());
+        assertFalse(index.isIndexed(this.resource2));
+
+        // The imported members are not in the global scope of their own resource
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def2");
+        assertEquals(def2, index.resolve("Def2").getMemberElement());
+        assertTrue(index.isIndexed(this.resource1));
+    }
+
+    private Resource createResource(EObject root) {
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        this.resourceSet.getResources().add(resource);
+        return resource;
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link InverseReferenceIndex}.
+ *
+ * @author Arthur Daussy
+ */
+public class InverseReferenceIndexTest {
+
+    private static final EReference TYPE = SysmlPackage.eINSTANCE.getFeatureTyping_Type();
+
+    private ModelBuilder builder;
+
+    private ResourceSet resourceSet;
+
+    private Package p1;
+
+    private PartDefinition def1;
+
+    private PartUsage part1;
+
+    /**
+     * Builds the following model.
+     *
+     * <pre>
+     * package p1 {
+     *     part def Def1;
+     *     part part1 : Def1;
+     * }
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        this.builder = new ModelBuilder();
+        this.resourceSet = new ResourceSetImpl();
+        this.p1 = this.builder.createWithName(Package.class, "p1");
+        this.def1 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def1");
+        this.part1 = this.builder.createInWithName(PartUsage.class, this.p1, "part1");
+        this.builder.setType(this.part1, this.def1);
+        this.createResource(this.p1);
+    }
+
+    @Test
+    public void inverseReferences() {
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+        assertEquals(Set.of(this.def1.getOwningMembership()), this.getSources(this.def1, SysmlPackage.eINSTANCE.getMembership_MemberElement()));
+        assertTrue(this.getSources(this.part1, TYPE).isEmpty());
+        // All the indexed references
+        assertEquals(Set.of(this.def1.getOwningMembership(), this.getTyping(this.part1)),
+                InverseReferenceIndex.getIndex(this.resourceSet).getInverse(this.def1).stream().map(setting -> setting.getEObject()).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void modificationsUpdateTheIndex() {
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+
+        // Added subtree
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, this.p1, "part2");
+        this.builder.setType(part2, this.def1);
+        assertEquals(Set.of(this.getTyping(this.part1), this.getTyping(part2)), this.getSources(this.def1, TYPE));
+
+        // Modified reference
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def2");
+        this.getTyping(part2).setType(def2);
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+        assertEquals(Set.of(this.getTyping(part2)), this.getSources(def2, TYPE));
+
+        // Removed subtree
+        EcoreUtil.remove(this.part1.getOwningMembership());
+        assertTrue(this.getSources(this.def1, TYPE).isEmpty());
+    }
+
+    @Test
+    public void resourceModificationsUpdateTheIndex() {
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+
+        Namespace root = this.builder.createWithName(Namespace.class, null);
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, root, "part2");
+        this.builder.setType(part2, this.def1);
+        Resource resource = this.createResource(root);
+        assertEquals(Set.of(this.getTyping(this.part1), this.getTyping(part2)), this.getSources(this.def1, TYPE));
+
+        this.resourceSet.getResources().remove(resource);
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+    }
+
+    @Test
+    public void manySources() {
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+
+        List<PartUsage> parts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PartUsage part = this.builder.createInWithName(PartUsage.class, this.p1, "part" + i + 2);
+            this.builder.setType(part, this.def1);
+            parts.add(part);
+        }
+        assertEquals(21, this.getSources(this.def1, TYPE).size());
+
+        parts.forEach(part -> EcoreUtil.remove(part.getOwningMembership()));
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+    }
+
+    @Test
+    public void referencesToOtherResources() {
+        this.p1.eResource().setURI(URI.createURI("test:/p1.sysml"));
+        Namespace root = this.builder.createWithName(Namespace.class, null);
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, root, "part2");
+        PartDefinition proxy = SysmlFactory.eINSTANCE.createPartDefinition();
+        ((InternalEObject) proxy).eSetProxyURI(EcoreUtil.getURI(this.def1));
+        this.builder.setType(part2, proxy);
+        this.createResource(root);
+
+        // The reference is indexed without being resolved
+        FeatureTyping typing = this.getTyping(part2);
+        assertEquals(Set.of(this.getTyping(this.part1), typing), this.getSources(this.def1, TYPE));
+        assertTrue(typing.eGet(TYPE, false) == proxy);
+
+        // The resolved reference replaces the proxy in the index
+        assertEquals(this.def1, typing.getType());
+        assertEquals(Set.of(this.getTyping(this.part1), typing), this.getSources(this.def1, TYPE));
+        EcoreUtil.remove(part2.getOwningMembership());
+        assertEquals(Set.of(this.getTyping(this.part1)), this.getSources(this.def1, TYPE));
+    }
+
+    private Resource createResource(EObject root) {
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        this.resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    private FeatureTyping getTyping(PartUsage part) {
+        return (FeatureTyping) part.getOwnedRelationship().stream().filter(FeatureTyping.class::isInstance).findFirst().orElseThrow();
+    }
+
+    private Set<EObject> getSources(EObject target, EReference reference) {
+        return EMFUtils.getInverse(target, reference).stream().map(setting -> setting.getEObject()).collect(Collectors.toSet());
+    }
+}
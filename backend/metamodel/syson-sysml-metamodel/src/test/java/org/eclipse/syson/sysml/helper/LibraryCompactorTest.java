@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.syson.sysml.LibraryPackage;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LibraryCompactor}.
+ *
+ * @author Arthur Daussy
+ */
+public class LibraryCompactorTest {
+
+    @Test
+    public void compact() {
+        ModelBuilder builder = new ModelBuilder();
+        LibraryPackage library1 = builder.createWithName(LibraryPackage.class, "Library1");
+        PartDefinition def1 = builder.createInWithName(PartDefinition.class, library1, new String("Def"));
+        LibraryPackage library2 = builder.createWithName(LibraryPackage.class, "Library2");
+        PartDefinition def2 = builder.createInWithName(PartDefinition.class, library2, new String("Def"));
+        assertNotSame(def1.getDeclaredName(), def2.getDeclaredName());
+        Resource resource1 = this.createResource(library1);
+        Resource resource2 = this.createResource(library2);
+
+        long modificationCount = ModificationCounts.of(def2).getModificationCount();
+        String qualifiedName = def2.getQualifiedName();
+        String elementId = def2.getElementId();
+        LibraryCompactor.compact(List.of(resource1, resource2));
+
+        // The equal strings of all the resources are shared
+        assertSame(def1.getDeclaredName(), def2.getDeclaredName());
+        // The lists are trimmed to their size
+        BasicEList<?> ownedRelationships = (BasicEList<?>) library1.getOwnedRelationship();
+        assertEquals(ownedRelationships.size(), ownedRelationships.data().length);
+
+        // The values of the features are not changed
+        assertEquals(modificationCount, ModificationCounts.of(def2).getModificationCount());
+        assertEquals(qualifiedName, def2.getQualifiedName());
+        assertEquals(elementId, def2.getElementId());
+        assertEquals(def2, library2.getOwnedMember().get(0));
+    }
+
+    private Resource createResource(LibraryPackage root) {
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        return resource;
+    }
+}
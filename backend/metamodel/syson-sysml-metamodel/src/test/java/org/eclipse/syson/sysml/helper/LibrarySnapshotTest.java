@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LibrarySnapshot}.
+ *
+ * @author Arthur Daussy
+ */
+public class LibrarySnapshotTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    @Test
+    public void writeAndRead() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Namespace root1 = this.builder.create(Namespace.class);
+        Package lib1 = this.builder.createInWithName(Package.class, root1, "Lib1");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, lib1, "Def");
+        Namespace root2 = this.builder.create(Namespace.class);
+        Package lib2 = this.builder.createInWithName(Package.class, root2, "Lib2");
+        PartUsage part = this.builder.createInWithName(PartUsage.class, lib2, "part");
+        this.builder.setType(part, definition);
+        Resource resource1 = this.createResource(resourceSet, "sysmllibrary:///lib1", root1);
+        Resource resource2 = this.createResource(resourceSet, "sysmllibrary:///lib2", root2);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(resource1, resource2), resource -> resource.getURI().lastSegment(), output);
+        ResourceSet loadedResourceSet = new ResourceSetImpl();
+        Map<Resource, String> loadedResources = LibrarySnapshot.read(ByteBuffer.wrap(output.toByteArray()), loadedResourceSet);
+
+        assertEquals(List.of("lib1", "lib2"), List.copyOf(loadedResources.values()));
+        assertEquals(List.copyOf(loadedResources.keySet()), loadedResourceSet.getResources());
+        Resource loadedResource1 = loadedResourceSet.getResources().get(0);
+        assertEquals(resource1.getURI(), loadedResource1.getURI());
+        assertTrue(loadedResource1.isLoaded());
+
+        // The objects keep the URIs of the original resources
+        URI definitionURI = EcoreUtil.getURI(definition);
+        EObject loadedDefinition = loadedResourceSet.getEObject(definitionURI, false);
+        assertEquals(definitionURI, EcoreUtil.getURI(loadedDefinition));
+        assertEquals(definition.getElementId(), ((PartDefinition) loadedDefinition).getElementId());
+        PartUsage loadedPart = (PartUsage) loadedResourceSet.getEObject(EcoreUtil.getURI(part), false);
+        assertEquals("Lib2::part", loadedPart.getQualifiedName());
+        assertSame(loadedDefinition, loadedPart.getType().get(0));
+    }
+
+    @Test
+    public void readWithThePackageRegistryOfTheResourceSet() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Namespace root = this.builder.create(Namespace.class);
+        this.builder.createInWithName(Package.class, root, "Lib");
+        Resource resource = this.createResource(resourceSet, "sysmllibrary:///lib", root);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(resource), libraryResource -> libraryResource.getURI().lastSegment(), output);
+        ResourceSet loadedResourceSet = new ResourceSetImpl();
+        loadedResourceSet.setPackageRegistry(new EPackageRegistryImpl());
+        Map<Resource, String> loadedResources = LibrarySnapshot.read(ByteBuffer.wrap(output.toByteArray()), loadedResourceSet);
+
+        // The resources are read in the resource set, whose package registry gets the SysML package
+        assertSame(SysmlPackage.eINSTANCE, loadedResourceSet.getPackageRegistry().getEPackage(SysmlPackage.eNS_URI));
+        assertEquals(List.copyOf(loadedResources.keySet()), loadedResourceSet.getResources());
+        Namespace loadedRoot = (Namespace) loadedResourceSet.getResources().get(0).getContents().get(0);
+        assertEquals("Lib", loadedRoot.getOwnedMember().get(0).getName());
+    }
+
+    @Test
+    public void readWithoutTheDelegateRegistryInTheReadingThreads() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Namespace root = this.builder.create(Namespace.class);
+            this.builder.createInWithName(Package.class, root, "Lib" + i);
+            resources.add(this.createResource(resourceSet, "sysmllibrary:///lib" + i, root));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(resources, resource -> resource.getURI().lastSegment(), output);
+
+        // A delegate registry which only knows the SysML package in the calling thread, like a registry bound to the
+        // context class loader of the thread
+        Thread callingThread = Thread.currentThread();
+        EPackageRegistryImpl threadBoundRegistry = new EPackageRegistryImpl() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public EPackage getEPackage(String nsURI) {
+                EPackage ePackage = null;
+                if (Thread.currentThread() == callingThread && SysmlPackage.eNS_URI.equals(nsURI)) {
+                    ePackage = SysmlPackage.eINSTANCE;
+                }
+                return ePackage;
+            }
+        };
+        ResourceSet loadedResourceSet = new ResourceSetImpl();
+        loadedResourceSet.setPackageRegistry(new EPackageRegistryImpl(threadBoundRegistry));
+        Map<Resource, String> loadedResources = LibrarySnapshot.read(ByteBuffer.wrap(output.toByteArray()), loadedResourceSet);
+
+        assertTrue(loadedResourceSet.getPackageRegistry().containsKey(SysmlPackage.eNS_URI));
+        assertEquals(8, loadedResources.size());
+        Namespace loadedRoot = (Namespace) loadedResourceSet.getResources().get(7).getContents().get(0);
+        assertEquals("Lib7", loadedRoot.getOwnedMember().get(0).getName());
+    }
+
+    @Test
+    public void registerAndReadOnDemand() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Namespace root1 = this.builder.create(Namespace.class);
+        Package lib1 = this.builder.createInWithName(Package.class, root1, "Lib1");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, lib1, "Def");
+        Namespace root2 = this.builder.create(Namespace.class);
+        Package lib2 = this.builder.createInWithName(Package.class, root2, "Lib2");
+        PartUsage part = this.builder.createInWithName(PartUsage.class, lib2, "part");
+        this.builder.setType(part, definition);
+        Resource resource1 = this.createResource(resourceSet, "sysmllibrary:///lib1", root1);
+        Resource resource2 = this.createResource(resourceSet, "sysmllibrary:///lib2", root2);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(resource1, resource2), resource -> resource.getURI().lastSegment(), output);
+        ResourceSet registeredResourceSet = new ResourceSetImpl();
+        Map<Resource, String> registeredResources = LibrarySnapshot.parse(ByteBuffer.wrap(output.toByteArray())).register(registeredResourceSet);
+
+        assertEquals(List.of("lib1", "lib2"), List.copyOf(registeredResources.values()));
+        Resource registeredResource1 = registeredResourceSet.getResources().get(0);
+        Resource registeredResource2 = registeredResourceSet.getResources().get(1);
+        assertTrue(LibrarySnapshot.isPending(registeredResource1));
+        assertTrue(LibrarySnapshot.isPending(registeredResource2));
+        assertEquals(List.of("Lib2"), LibrarySnapshot.getGlobalNames(registeredResource2));
+        assertEquals(List.of(), LibrarySnapshot.getGlobalNames(resource1));
+        Symbol partSymbol = LibrarySnapshot.getSymbols(registeredResource2).get(1);
+        assertEquals(new Symbol("Lib2::part", "part", null, SysmlPackage.eINSTANCE.getPartUsage(), part.getElementId(), resource2.getURI(), EcoreUtil.getURI(part).fragment()), partSymbol);
+
+        // Resolving a URI only reads the resource of the object
+        PartUsage registeredPart = (PartUsage) registeredResourceSet.getEObject(partSymbol.getURI(), true);
+        assertEquals("part", registeredPart.getDeclaredName());
+        assertTrue(registeredResource2.isLoaded());
+        assertTrue(LibrarySnapshot.isPending(registeredResource1));
+
+        // Resolving the references to the other resource reads it
+        EObject registeredDefinition = registeredPart.getType().get(0);
+        assertFalse(registeredDefinition.eIsProxy());
+        assertSame(registeredResource1, registeredDefinition.eResource());
+        assertFalse(LibrarySnapshot.isPending(registeredResource1));
+        assertEquals(EcoreUtil.getURI(definition), EcoreUtil.getURI(registeredDefinition));
+    }
+
+    @Test
+    public void shareStringsBetweenResourceSets() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Namespace root = this.builder.create(Namespace.class);
+        Package lib = this.builder.createInWithName(Package.class, root, "Lib");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, lib, "Def");
+        Resource resource = this.createResource(resourceSet, "sysmllibrary:///lib", root);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(resource), libraryResource -> libraryResource.getURI().lastSegment(), output);
+        LibrarySnapshot snapshot = LibrarySnapshot.parse(ByteBuffer.wrap(output.toByteArray()));
+        List<PartDefinition> registeredDefinitions = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ResourceSet registeredResourceSet = new ResourceSetImpl();
+            List<Resource> registeredResources = List.copyOf(snapshot.register(registeredResourceSet).keySet());
+            SharedLibraries libraries = SharedLibraries.register(registeredResourceSet, registeredResources, snapshot.getSymbolTable(), libraryResource -> {
+                // Nothing to initialize
+            });
+            registeredDefinitions.add((PartDefinition) libraries.getElement(definition.getElementId()));
+        }
+
+        // The strings of the libraries read in both resource sets are the ones of the snapshot header
+        Symbol definitionSymbol = snapshot.getSymbolTable().getSymbol(definition.getElementId());
+        assertSame(definitionSymbol.name(), registeredDefinitions.get(0).getDeclaredName());
+        assertSame(definitionSymbol.name(), registeredDefinitions.get(1).getDeclaredName());
+        assertSame(registeredDefinitions.get(0).getElementId(), registeredDefinitions.get(1).getElementId());
+    }
+
+    @Test
+    public void deferContentAdaptersOfPendingResources() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Namespace root = this.builder.create(Namespace.class);
+        Package lib = this.builder.createInWithName(Package.class, root, "Lib");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, lib, "Def");
+        Resource resource = this.createResource(resourceSet, "sysmllibrary:///lib", root);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(resource), libraryResource -> libraryResource.getURI().lastSegment(), output);
+        ResourceSet registeredResourceSet = new ResourceSetImpl();
+        ECrossReferenceAdapter crossReferenceAdapter = new ECrossReferenceAdapter();
+        registeredResourceSet.eAdapters().add(crossReferenceAdapter);
+        LibrarySnapshot.parse(ByteBuffer.wrap(output.toByteArray())).register(registeredResourceSet);
+        Resource registeredResource = registeredResourceSet.getResources().get(0);
+
+        // Neither the content adapter nor the lookup of an unknown fragment reads the resource
+        assertTrue(registeredResource.eAdapters().contains(crossReferenceAdapter));
+        assertNull(registeredResource.getEObject("unknown"));
+        assertTrue(LibrarySnapshot.isPending(registeredResource));
+
+        // The content adapter adapts the objects once the resource is read
+        EObject registeredDefinition = registeredResource.getEObject(EcoreUtil.getURI(definition).fragment());
+        assertFalse(LibrarySnapshot.isPending(registeredResource));
+        assertTrue(registeredDefinition.eAdapters().contains(crossReferenceAdapter));
+    }
+
+    @Test
+    public void readInvalidSnapshot() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        assertTrue(LibrarySnapshot.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 }), resourceSet).isEmpty());
+        assertFalse(resourceSet.getResources().iterator().hasNext());
+    }
+
+    private Resource createResource(ResourceSet resourceSet, String uri, Namespace root) {
+        XMIResourceImpl resource = new XMIResourceImpl(URI.createURI(uri));
+        resource.getContents().add(root);
+        resourceSet.getResources().add(resource);
+        // The fragments of the objects are identifiers unrelated to their element identifiers
+        int index = 0;
+        for (EObject eObject : (Iterable<EObject>) resource::getAllContents) {
+            resource.setID(eObject, uri.substring(uri.lastIndexOf('/') + 1) + "-" + index);
+            index++;
+        }
+        return resource;
+    }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LibrarySymbolTable}.
+ *
+ * @author Arthur Daussy
+ */
+public class LibrarySymbolTableTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    @Test
+    public void findSymbols() {
+        Namespace root = this.builder.create(Namespace.class);
+        Package library = this.builder.createInWithName(Package.class, root, "Lib");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, library, "Vehicle");
+        definition.setDeclaredShortName("V");
+        PartUsage part = this.builder.createInWithName(PartUsage.class, definition, "wheel");
+        Resource resource = new ResourceImpl(URI.createURI("sysmllibrary:///lib"));
+        resource.getContents().add(root);
+
+        LibrarySymbolTable symbolTable = new LibrarySymbolTable(LibrarySymbolTable.computeSymbols(resource), List.of(LibrarySymbolTable.computeContents(resource)));
+
+        // The unnamed root namespace and the memberships have no symbol
+        assertEquals(List.of("Lib", "Lib::Vehicle", "Lib::Vehicle::wheel"), symbolTable.getSymbols().stream().map(Symbol::qualifiedName).toList());
+        Symbol definitionSymbol = symbolTable.getSymbolsByQualifiedName("Lib::Vehicle").get(0);
+        assertEquals("V", definitionSymbol.shortName());
+        assertEquals(SysmlPackage.eINSTANCE.getPartDefinition(), definitionSymbol.eClass());
+        assertEquals(definition, resource.getEObject(definitionSymbol.fragment()));
+        assertEquals(resource.getURI().appendFragment(definitionSymbol.fragment()), definitionSymbol.getURI());
+        assertEquals(List.of(definitionSymbol), symbolTable.getSymbolsByName("Vehicle"));
+        assertEquals(List.of(definitionSymbol), symbolTable.getSymbolsByName("V"));
+        assertEquals(definitionSymbol, symbolTable.getSymbol(definition.getElementId()));
+        assertEquals(part.getElementId(), symbolTable.getSymbols(SysmlPackage.eINSTANCE.getPartUsage()).get(0).elementId());
+        assertEquals(List.of(), symbolTable.getSymbolsByName("Unknown"));
+        assertNull(symbolTable.getSymbol("unknown"));
+
+        // The contents locate the unnamed elements too
+        Element membership = definition.getOwningMembership();
+        assertNull(symbolTable.getSymbol(membership.getElementId()));
+        assertEquals(resource.getURI(), symbolTable.getResourceURI(membership.getElementId()));
+        assertEquals(List.of(resource.getURI()), symbolTable.getResourceURIs(SysmlPackage.eINSTANCE.getOwningMembership()));
+        assertEquals(List.of(resource.getURI()), symbolTable.getResourceURIs(SysmlPackage.eINSTANCE.getNamespace()));
+        assertEquals(List.of(), symbolTable.getResourceURIs(SysmlPackage.eINSTANCE.getPortUsage()));
+        assertNull(symbolTable.getResourceURI("unknown"));
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.eclipse.syson.sysml.util.SysmlResourceFactoryImpl;
+import org.eclipse.syson.sysml.validation.ValidationEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test class for {@link ModelFragments}.
+ *
+ * @author Arthur Daussy
+ */
+public class ModelFragmentsTest {
+
+    private static final String EXTENSION = "sysml";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void fragmentTopLevelPackages() throws IOException {
+        ModelBuilder builder = new ModelBuilder();
+        Namespace root = builder.create(Namespace.class);
+        Package pack1 = builder.createInWithName(Package.class, root, "Pack1");
+        PartDefinition definition = builder.createInWithName(PartDefinition.class, pack1, "Def");
+        Package pack2 = builder.createInWithName(Package.class, root, "Pack2");
+        PartUsage part = builder.createInWithName(PartUsage.class, pack2, "part");
+        builder.setType(part, definition);
+        ResourceSet resourceSet = this.createResourceSet();
+        Resource resource = resourceSet.createResource(this.getURI("root"));
+        resource.getContents().add(root);
+
+        List<Resource> fragments = ModelFragments.fragmentTopLevelPackages(resource, pack -> resourceSet.createResource(this.getURI(pack.getName())));
+
+        assertEquals(2, fragments.size());
+        assertSame(fragments.get(0), pack1.eResource());
+        assertTrue(ModelFragments.isFragment(pack1));
+        // The fragments are still owned by their namespace
+        assertEquals(List.of(pack1, pack2), root.getOwnedMember());
+        assertEquals("Pack1::Def", definition.getQualifiedName());
+
+        for (Resource savedResource : resourceSet.getResources()) {
+            savedResource.save(Map.of());
+        }
+        ResourceSet loadedResourceSet = this.createResourceSet();
+        Resource loadedResource = loadedResourceSet.getResource(this.getURI("root"), true);
+
+        // The fragments are not loaded until they are accessed, neither by the adapters of the models nor by a rename
+        loadedResourceSet.eAdapters().add(ValidationEngine.createDefault());
+        Namespace loadedRoot = (Namespace) loadedResource.getContents().get(0);
+        loadedRoot.setDeclaredName("Root");
+        assertEquals(1, loadedResourceSet.getResources().size());
+        OwningMembership membership = (OwningMembership) loadedRoot.getOwnedRelationship().get(1);
+        assertTrue(((InternalEObject) ((InternalEList<?>) membership.getOwnedRelatedElement()).basicGet(0)).eIsProxy());
+        Package loadedPack2 = (Package) membership.getOwnedRelatedElement().get(0);
+        assertEquals(2, loadedResourceSet.getResources().size());
+        Element loadedPart = loadedPack2.getOwnedMember().get(0);
+        assertEquals("Pack2::part", loadedPart.getQualifiedName());
+        assertEquals("Pack1::Def", ((PartUsage) loadedPart).getType().get(0).getQualifiedName());
+        assertEquals(3, loadedResourceSet.getResources().size());
+    }
+
+    @Test
+    public void mergeFragment() {
+        ModelBuilder builder = new ModelBuilder();
+        Namespace root = builder.create(Namespace.class);
+        Package pack = builder.createInWithName(Package.class, root, "Pack");
+        ResourceSet resourceSet = this.createResourceSet();
+        Resource resource = resourceSet.createResource(this.getURI("root"));
+        resource.getContents().add(root);
+        Resource fragmentResource = resourceSet.createResource(this.getURI("Pack"));
+
+        assertTrue(ModelFragments.createFragment(pack, fragmentResource));
+        assertSame(fragmentResource, pack.eResource());
+
+        ModelFragments.mergeFragment(pack);
+        assertFalse(ModelFragments.isFragment(pack));
+        assertSame(resource, pack.eResource());
+        assertTrue(fragmentResource.getContents().isEmpty());
+        assertEquals(List.of(pack), root.getOwnedMember());
+    }
+
+    private ResourceSet createResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(EXTENSION, new SysmlResourceFactoryImpl());
+        return resourceSet;
+    }
+
+    private URI getURI(String name) {
+        return URI.createFileURI(this.directory.resolve(name + "." + EXTENSION).toString());
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.NamespaceImport;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ModelSnapshot}.
+ *
+ * @author Arthur Daussy
+ */
+public class ModelSnapshotTest {
+
+    private ModelBuilder builder;
+
+    private ResourceSet resourceSet;
+
+    private Package p1;
+
+    private Package p2;
+
+    private PartDefinition def1;
+
+    private PartUsage part1;
+
+    /**
+     * Builds the following model, each package being in its own resource.
+     *
+     * <pre>
+     * package p1 {
+     *     part def Def1 {
+     *         part part1;
+     *     }
+     * }
+     * package p2 {
+     *     import p1::*;
+     *     part def Def2 :> Def1;
+     * }
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        DerivedFeatureCache.setEnabled(true);
+        this.builder = new ModelBuilder();
+        this.resourceSet = new ResourceSetImpl();
+        this.p1 = this.builder.createWithName(Package.class, "p1");
+        this.def1 = this.builder.createInWithName(PartDefinition.class, this.p1, "Def1");
+        this.part1 = this.builder.createInWithName(PartUsage.class, this.def1, "part1");
+        this.p2 = this.builder.createWithName(Package.class, "p2");
+        this.builder.createIn(NamespaceImport.class, this.p2).setImportedNamespace(this.p1);
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.p2, "Def2");
+        this.builder.addSuperType(def2, this.def1);
+        this.addResource(this.p1);
+        this.addResource(this.p2);
+    }
+
+    @Test
+    public void snapshotCopiesTheModels() {
+        ModelSnapshot snapshot = ModelSnapshot.take(this.resourceSet).populate();
+        assertFalse(snapshot.isOutdated());
+
+        assertEquals(2, snapshot.getResourceSet().getResources().size());
+        PartUsage part1Copy = snapshot.getCopy(this.part1);
+        assertNotSame(this.part1, part1Copy);
+        assertEquals("p1::Def1::part1", part1Copy.getQualifiedName());
+        assertEquals(this.part1.getElementId(), part1Copy.getElementId());
+
+        // The references between the copied resources target the copies
+        Package p2Copy = snapshot.getCopy(this.p2);
+        assertSame(snapshot.getCopy(this.p1), ((NamespaceImport) p2Copy.getOwnedImport().get(0)).getImportedNamespace());
+        Namespace def2Copy = (Namespace) p2Copy.getOwnedMember().get(0);
+        List<String> inheritedNames = def2Copy.getMembership().stream().map(Membership::getMemberName).toList();
+        assertEquals(List.of("part1"), inheritedNames);
+        assertSame(part1Copy, def2Copy.getMembership().get(0).getMemberElement());
+    }
+
+    @Test
+    public void valueChangesOutdateTheSnapshot() {
+        ModelSnapshot snapshot = ModelSnapshot.take(this.resourceSet).populate();
+
+        this.part1.setIsComposite(!this.part1.isIsComposite());
+
+        assertTrue(snapshot.isOutdated());
+    }
+
+    @Test
+    public void snapshotIsNotModifiedWithTheLiveModels() {
+        ModelSnapshot snapshot = ModelSnapshot.take(this.resourceSet).populate();
+        PartUsage part1Copy = snapshot.getCopy(this.part1);
+
+        this.part1.setDeclaredName("renamed");
+        this.builder.createInWithName(PartUsage.class, this.def1, "part2");
+        assertTrue(snapshot.isOutdated());
+        assertEquals("p1::Def1::renamed", this.part1.getQualifiedName());
+        assertEquals("p1::Def1::part1", part1Copy.getQualifiedName());
+        assertEquals(1, snapshot.getCopy(this.def1).getOwnedFeature().size());
+        assertEquals(2, this.def1.getOwnedFeature().size());
+    }
+
+    @Test
+    public void snapshotIsReadInParallel() {
+        ModelSnapshot snapshot = ModelSnapshot.take(this.resourceSet);
+        Namespace p2Copy = snapshot.getCopy(this.p2);
+        List<Membership> expected = p2Copy.visibleMemberships(new BasicEList<>(), true, false);
+        IntStream.range(0, 100).parallel().forEach(i -> {
+            assertEquals(expected, p2Copy.visibleMemberships(new BasicEList<>(), true, false));
+            assertEquals("p1::Def1::part1", snapshot.getCopy(this.part1).getQualifiedName());
+        });
+    }
+
+    private void addResource(Package root) {
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        this.resourceSet.getResources().add(resource);
+    }
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link SharedLibraries}.
+ *
+ * @author Arthur Daussy
+ */
+public class SharedLibrariesTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private ResourceSet resourceSet;
+
+    private Resource libraryResource;
+
+    private PartDefinition libraryDefinition;
+
+    private SharedLibraries sharedLibraries;
+
+    @BeforeEach
+    public void setUp() {
+        DerivedFeatureCache.setEnabled(true);
+        Namespace libraryRoot = this.builder.create(Namespace.class);
+        Package libraryPackage = this.builder.createInWithName(Package.class, libraryRoot, "Lib");
+        this.libraryDefinition = this.builder.createInWithName(PartDefinition.class, libraryPackage, "LibDef");
+        this.resourceSet = new ResourceSetImpl();
+        this.libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///lib"));
+        this.libraryResource.getContents().add(libraryRoot);
+        this.resourceSet.getResources().add(this.libraryResource);
+        this.sharedLibraries = SharedLibraries.register(this.resourceSet);
+    }
+
+    @Test
+    public void registerLibraries() {
+        Resource resource = this.createModel("p1").eResource();
+        assertSame(this.sharedLibraries, SharedLibraries.getSharedLibraries(this.resourceSet));
+        assertNull(SharedLibraries.getSharedLibraries(new ResourceSetImpl()));
+
+        // The library resources are regular resources of the resource set
+        assertEquals(List.of(this.libraryResource, resource), this.resourceSet.getResources());
+        assertTrue(SharedLibraries.isLibrary(this.libraryResource));
+        assertFalse(SharedLibraries.isLibrary(resource));
+        assertFalse(SharedLibraries.isLibrary(new ResourceImpl(this.libraryResource.getURI())));
+        assertSame(this.libraryDefinition, this.sharedLibraries.getEObject(this.libraryResource.getURIFragment(this.libraryDefinition)));
+        assertTrue(this.sharedLibraries.containsEObject(this.libraryResource.getURIFragment(this.libraryDefinition)));
+        assertFalse(this.sharedLibraries.containsEObject(resource.getURIFragment(resource.getContents().get(0))));
+    }
+
+    @Test
+    public void resolveLibraryNames() {
+        Namespace root1 = this.createModel("p1");
+        Namespace root2 = this.createModel("p2");
+
+        Package p1 = (Package) root1.getOwnedMember().get(0);
+        Membership membership = p1.resolve("Lib::LibDef");
+        assertSame(this.libraryDefinition, membership.getMemberElement());
+        Package p2 = (Package) root2.getOwnedMember().get(0);
+        assertSame(this.libraryDefinition, p2.resolve("Lib::LibDef").getMemberElement());
+        assertEquals("Lib::LibDef", this.libraryDefinition.getQualifiedName());
+    }
+
+    @Test
+    public void findLibraryElements() {
+        assertSame(this.libraryDefinition, this.sharedLibraries.getElement(this.libraryDefinition.getElementId()));
+        assertEquals(List.of(this.libraryDefinition), this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getPartDefinition()));
+        assertEquals(List.of(), this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getPartUsage()));
+    }
+
+    @Test
+    public void readPendingLibrariesOnDemand() throws IOException {
+        List<Resource> initializedResources = new ArrayList<>();
+        List<Resource> pendingResources = this.registerPendingLibraries(this.writeSnapshot(), initializedResources);
+        assertTrue(pendingResources.stream().allMatch(LibrarySnapshot::isPending));
+        assertEquals(List.of("Lib"), LibrarySnapshot.getGlobalNames(pendingResources.get(0)));
+
+        // Only the library of the resolved name is read
+        Namespace root = this.createModel("p1");
+        Membership membership = ((Package) root.getOwnedMember().get(0)).resolve("Lib::LibDef");
+        assertEquals(this.libraryDefinition.getElementId(), membership.getMemberElement().getElementId());
+        assertSame(pendingResources.get(0), membership.eResource());
+        assertEquals(List.of(pendingResources.get(0)), initializedResources);
+        assertFalse(LibrarySnapshot.isPending(pendingResources.get(0)));
+        assertTrue(LibrarySnapshot.isPending(pendingResources.get(1)));
+        assertSame(membership.getMemberElement(), this.sharedLibraries.getElement(this.libraryDefinition.getElementId()));
+        assertEquals(List.of(membership.getMemberElement()), this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getPartDefinition()));
+    }
+
+    @Test
+    public void findPendingLibraryElementsWithSymbols() throws IOException {
+        List<Resource> initializedResources = new ArrayList<>();
+        List<Resource> pendingResources = this.registerPendingLibraries(this.writeSnapshot(), initializedResources);
+        LibrarySymbolTable symbolTable = this.sharedLibraries.getSymbolTable();
+        assertEquals(List.of("Lib", "Lib::LibDef", "Other"), symbolTable.getSymbols().stream().map(Symbol::qualifiedName).toList());
+        assertTrue(initializedResources.isEmpty());
+
+        Element element = this.sharedLibraries.getElement(this.libraryDefinition.getElementId());
+        assertEquals(EcoreUtil.getURI(this.libraryDefinition), EcoreUtil.getURI(element));
+        assertSame(element, this.sharedLibraries.getElement(symbolTable.getSymbolsByName("LibDef").get(0)));
+        assertEquals(List.of(pendingResources.get(0)), initializedResources);
+        assertNull(this.sharedLibraries.getElement("unknown"));
+
+        // Only the libraries containing named elements of the class are read
+        assertEquals(List.of(), this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getPartUsage()));
+        assertEquals(List.of(pendingResources.get(0)), initializedResources);
+        assertEquals(List.of("Lib", "Other"), this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getPackage()).stream().map(Element::getName).toList());
+        assertEquals(pendingResources, initializedResources);
+    }
+
+    @Test
+    public void findPendingUnnamedLibraryElements() throws IOException {
+        List<Resource> initializedResources = new ArrayList<>();
+        List<Resource> pendingResources = this.registerPendingLibraries(this.writeSnapshot(), initializedResources);
+        String membershipId = this.libraryDefinition.getOwningMembership().getElementId();
+
+        // The unnamed elements have no symbol, only the library containing them is read
+        assertNull(this.sharedLibraries.getSymbolTable().getSymbol(membershipId));
+        Element membership = this.sharedLibraries.getElement(membershipId);
+        assertSame(pendingResources.get(0), membership.eResource());
+        assertEquals(List.of(pendingResources.get(0)), initializedResources);
+
+        List<Element> rootNamespaces = this.sharedLibraries.getElements(SysmlPackage.eINSTANCE.getNamespace());
+        assertEquals(2, rootNamespaces.size());
+        assertEquals(pendingResources, rootNamespaces.stream().map(Element::eResource).toList());
+        assertEquals(pendingResources, initializedResources);
+    }
+
+    @Test
+    public void registerSnapshotInSeveralResourceSets() throws IOException {
+        LibrarySnapshot snapshot = this.writeSnapshot();
+        List<Resource> pendingResources1 = this.registerPendingLibraries(snapshot, new ArrayList<>());
+        SharedLibraries sharedLibraries1 = this.sharedLibraries;
+        List<Resource> pendingResources2 = this.registerPendingLibraries(snapshot, new ArrayList<>());
+
+        // Only the symbols are shared, each resource set reads its own library objects
+        assertSame(sharedLibraries1.getSymbolTable(), this.sharedLibraries.getSymbolTable());
+        Element element1 = sharedLibraries1.getElement(this.libraryDefinition.getElementId());
+        assertSame(pendingResources1.get(0), element1.eResource());
+        assertTrue(LibrarySnapshot.isPending(pendingResources2.get(0)));
+        Element element2 = this.sharedLibraries.getElement(this.libraryDefinition.getElementId());
+        assertSame(pendingResources2.get(0), element2.eResource());
+        assertNotSame(element1, element2);
+
+        // The library objects are found by their URI fragment, the unknown fragments do not read the libraries
+        assertSame(element2, this.sharedLibraries.getEObject(pendingResources2.get(0).getURIFragment(element2)));
+        assertNull(this.sharedLibraries.getEObject("unknown"));
+        assertTrue(LibrarySnapshot.isPending(pendingResources2.get(1)));
+
+        // Checking whether a library has an object does not read it
+        Namespace otherRoot = (Namespace) sharedLibraries1.getElements(SysmlPackage.eINSTANCE.getNamespace()).get(1);
+        assertTrue(this.sharedLibraries.containsEObject(otherRoot.eResource().getURIFragment(otherRoot)));
+        assertFalse(this.sharedLibraries.containsEObject("unknown"));
+        assertTrue(LibrarySnapshot.isPending(pendingResources2.get(1)));
+    }
+
+    private LibrarySnapshot writeSnapshot() throws IOException {
+        Namespace otherRoot = this.builder.create(Namespace.class);
+        this.builder.createInWithName(Package.class, otherRoot, "Other");
+        Resource otherResource = new ResourceImpl(URI.createURI("sysmllibrary:///other"));
+        otherResource.getContents().add(otherRoot);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LibrarySnapshot.write(List.of(this.libraryResource, otherResource), resource -> resource.getURI().lastSegment(), output);
+        return LibrarySnapshot.parse(ByteBuffer.wrap(output.toByteArray()));
+    }
+
+    private List<Resource> registerPendingLibraries(LibrarySnapshot snapshot, List<Resource> initializedResources) {
+        this.resourceSet = new ResourceSetImpl();
+        List<Resource> pendingResources = List.copyOf(snapshot.register(this.resourceSet).keySet());
+        this.sharedLibraries = SharedLibraries.register(this.resourceSet, pendingResources, snapshot.getSymbolTable(), initializedResources::add);
+        return pendingResources;
+    }
+
+    private Namespace createModel(String packageName) {
+        Namespace root = this.builder.create(Namespace.class);
+        this.builder.createInWithName(Package.class, root, packageName);
+        Resource resource = new ResourceImpl(URI.createURI("test:///" + packageName));
+        resource.getContents().add(root);
+        this.resourceSet.getResources().add(resource);
+        return root;
+    }
+}
@@ -1,9 +1,22 @@
 package org.eclipse.syson.sysml.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.ConstraintUsage;
+import org.eclipse.syson.sysml.Expression;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureReferenceExpression;
+import org.eclipse.syson.sysml.FeatureValue;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.OperatorExpression;
+import org.eclipse.syson.sysml.ParameterMembership;
+import org.eclipse.syson.sysml.PartDefinition;
 import org.eclipse.syson.sysml.RequirementConstraintMembership;
+import org.eclipse.syson.sysml.ResultExpressionMembership;
 import org.eclipse.syson.sysml.util.ModelBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,4 +65,55 @@ public class ConstraintUsageImplTest {
         assertEquals("C1", constraint.effectiveShortName());
     }
 
+    /**
+     * Checks the following constraint.
+     *
+     * <pre>
+     * part def Def {
+     *     attribute x = 5;
+     *     constraint c { x > 3 }
+     * }
+     * </pre>
+     */
+    @Test
+    public void checkCondition() {
+        PartDefinition def = this.builder.createWithName(PartDefinition.class, "Def");
+        AttributeUsage x = this.builder.createInWithName(AttributeUsage.class, def, "x");
+        LiteralInteger xValue = this.builder.create(LiteralInteger.class);
+        xValue.setValue(5);
+        this.setValue(x, xValue);
+
+        ConstraintUsage constraint = this.builder.createInWithName(ConstraintUsage.class, def, "c");
+        OperatorExpression body = this.builder.create(OperatorExpression.class);
+        body.setOperator(">");
+        FeatureReferenceExpression reference = this.builder.create(FeatureReferenceExpression.class);
+        this.builder.createIn(Membership.class, reference).setMemberElement(x);
+        this.addArgument(body, reference);
+        LiteralInteger three = this.builder.create(LiteralInteger.class);
+        three.setValue(3);
+        this.addArgument(body, three);
+        this.builder.createIn(ResultExpressionMembership.class, constraint).getOwnedRelatedElement().add(body);
+
+        assertTrue(constraint.checkCondition(def));
+        assertEquals(1, constraint.evaluate(def).size());
+
+        xValue.setValue(2);
+        assertFalse(constraint.checkCondition(def));
+
+        body.setOperator("<");
+        assertTrue(constraint.checkCondition(def));
+
+        // A constraint without body does not hold
+        assertFalse(this.builder.create(ConstraintUsage.class).checkCondition(def));
+    }
+
+    private void addArgument(OperatorExpression expression, Expression argument) {
+        Feature parameter = this.builder.create(Feature.class);
+        this.builder.createIn(ParameterMembership.class, expression).getOwnedRelatedElement().add(parameter);
+        this.setValue(parameter, argument);
+    }
+
+    private void setValue(Feature feature, Expression value) {
+        this.builder.createIn(FeatureValue.class, feature).getOwnedRelatedElement().add(value);
+    }
 }
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.CalculationDefinition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Expression;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureReferenceExpression;
+import org.eclipse.syson.sysml.FeatureValue;
+import org.eclipse.syson.sysml.InvocationExpression;
+import org.eclipse.syson.sysml.LiteralBoolean;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.LiteralRational;
+import org.eclipse.syson.sysml.LiteralString;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.NullExpression;
+import org.eclipse.syson.sysml.OperatorExpression;
+import org.eclipse.syson.sysml.ParameterMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.ResultExpressionMembership;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the evaluation of {@link ExpressionImpl}.
+ *
+ * @author Arthur Daussy
+ */
+public class ExpressionImplTest {
+
+    private ModelBuilder builder;
+
+    @BeforeEach
+    public void setUp() {
+        this.builder = new ModelBuilder();
+    }
+
+    @Test
+    public void evaluateLiteral() {
+        LiteralInteger literal = this.integer(3);
+        assertEquals(List.of(literal), literal.evaluate(null));
+        assertTrue(this.bool(true).checkCondition(null));
+        assertFalse(this.bool(false).checkCondition(null));
+        assertFalse(literal.checkCondition(null));
+    }
+
+    @Test
+    public void evaluateArithmeticOperators() {
+        // (1 + 2) * 4 - 5
+        Expression expression = this.operator("-", this.operator("*", this.operator("+", this.integer(1), this.integer(2)), this.integer(4)), this.integer(5));
+        assertEquals(7, ((LiteralInteger) this.single(expression)).getValue());
+
+        // 3 / 2 is a rational
+        assertEquals(1.5, ((LiteralRational) this.single(this.operator("/", this.integer(3), this.integer(2)))).getValue());
+        assertEquals(2.5, ((LiteralRational) this.single(this.operator("+", this.integer(1), this.real(1.5)))).getValue());
+        assertEquals(-4, ((LiteralInteger) this.single(this.operator("-", this.integer(4)))).getValue());
+        assertEquals(8, ((LiteralInteger) this.single(this.operator("^", this.integer(2), this.integer(3)))).getValue());
+        assertEquals(1, ((LiteralInteger) this.single(this.operator("%", this.integer(7), this.integer(3)))).getValue());
+        assertEquals("ab", ((LiteralString) this.single(this.operator("+", this.string("a"), this.string("b")))).getValue());
+
+        // Division by zero has no value
+        assertTrue(this.operator("/", this.integer(3), this.integer(0)).evaluate(null).isEmpty());
+    }
+
+    @Test
+    public void evaluateBooleanOperators() {
+        assertTrue(this.operator("<", this.integer(1), this.real(1.5)).checkCondition(null));
+        assertTrue(this.operator("==", this.integer(2), this.real(2.0)).checkCondition(null));
+        assertTrue(this.operator("!=", this.string("a"), this.string("b")).checkCondition(null));
+        assertTrue(this.operator("and", this.bool(true), this.operator(">=", this.integer(2), this.integer(2))).checkCondition(null));
+        assertFalse(this.operator("or", this.bool(false), this.operator("not", this.bool(true))).checkCondition(null));
+        assertTrue(this.operator("implies", this.bool(false), this.integer(1)).checkCondition(null));
+        assertTrue(this.operator("xor", this.bool(false), this.bool(true)).checkCondition(null));
+
+        LiteralBoolean result = (LiteralBoolean) this.single(this.operator(">", this.integer(1), this.integer(2)));
+        assertFalse(result.isValue());
+        // Computed values are not part of the models
+        assertEquals(null, result.eContainer());
+    }
+
+    @Test
+    public void evaluateSequenceOperators() {
+        EList<Element> range = this.operator("..", this.integer(2), this.integer(4)).evaluate(null);
+        assertEquals(List.of(2, 3, 4), range.stream().map(LiteralInteger.class::cast).map(LiteralInteger::getValue).toList());
+
+        LiteralInteger first = this.integer(5);
+        LiteralInteger second = this.integer(6);
+        Expression sequence = this.operator(",", first, second);
+        assertEquals(List.of(first, second), sequence.evaluate(null));
+        assertEquals(List.of(second), this.operator("#", sequence, this.integer(2)).evaluate(null));
+        assertEquals(List.of(second), this.operator("if", this.bool(false), first, second).evaluate(null));
+        assertEquals(List.of(first), this.operator("??", this.builder.create(NullExpression.class), first).evaluate(null));
+    }
+
+    @Test
+    public void evaluateFeatureReferences() {
+        PartDefinition def = this.builder.createWithName(PartDefinition.class, "Def");
+        AttributeUsage x = this.builder.createInWithName(AttributeUsage.class, def, "x");
+        LiteralInteger xValue = this.integer(5);
+        this.setValue(x, xValue);
+        AttributeUsage y = this.builder.createInWithName(AttributeUsage.class, def, "y");
+        this.setValue(y, this.operator("*", this.reference(x), this.integer(2)));
+
+        Expression expression = this.operator("+", this.reference(y), this.integer(1));
+        assertEquals(11, ((LiteralInteger) this.single(expression, def)).getValue());
+
+        // The values of the referenced features are read at each evaluation
+        xValue.setValue(10);
+        assertEquals(21, ((LiteralInteger) this.single(expression, def)).getValue());
+
+        // The features of the target redefining the referenced ones give their values
+        PartDefinition subDef = this.builder.createWithName(PartDefinition.class, "SubDef");
+        AttributeUsage subX = this.builder.createInWithName(AttributeUsage.class, subDef, "x");
+        this.builder.addRedefinition(subX, x);
+        this.setValue(subX, this.integer(1));
+        assertEquals(3, ((LiteralInteger) this.single(this.operator("+", this.reference(x), this.integer(2)), subDef)).getValue());
+
+        // A feature without value is evaluated to itself
+        AttributeUsage z = this.builder.createInWithName(AttributeUsage.class, def, "z");
+        assertEquals(List.of(z), this.reference(z).evaluate(def));
+
+        // Cyclic values are not evaluated
+        this.setValue(z, this.operator("+", this.reference(z), this.integer(1)));
+        assertTrue(this.reference(z).evaluate(def).isEmpty());
+    }
+
+    @Test
+    public void evaluateModifiedExpression() {
+        LiteralInteger two = this.integer(2);
+        OperatorExpression expression = this.operator("+", this.integer(1), two);
+        assertEquals(3, ((LiteralInteger) this.single(expression)).getValue());
+
+        // Modifications of the expression tree are taken into account
+        expression.setOperator("*");
+        assertEquals(2, ((LiteralInteger) this.single(expression)).getValue());
+        two.setValue(4);
+        assertEquals(4, ((LiteralInteger) this.single(expression)).getValue());
+    }
+
+    @Test
+    public void evaluateInvocation() {
+        // calc def Twice { in p; p * 2 }
+        CalculationDefinition twice = this.builder.createWithName(CalculationDefinition.class, "Twice");
+        Feature p = this.builder.createWithName(Feature.class, "p");
+        ParameterMembership parameterMembership = this.builder.createIn(ParameterMembership.class, twice);
+        parameterMembership.getOwnedRelatedElement().add(p);
+        ResultExpressionMembership resultMembership = this.builder.createIn(ResultExpressionMembership.class, twice);
+        resultMembership.getOwnedRelatedElement().add(this.operator("*", this.reference(p), this.integer(2)));
+
+        // Twice(4)
+        InvocationExpression invocation = this.builder.create(InvocationExpression.class);
+        this.builder.setType(invocation, twice);
+        this.addArgument(invocation, this.integer(4));
+        assertEquals(8, ((LiteralInteger) this.single(invocation)).getValue());
+    }
+
+    @Test
+    public void evaluateInvocationOfModifiedFunction() {
+        // calc def Twice { in p; }
+        CalculationDefinition twice = this.builder.createWithName(CalculationDefinition.class, "Twice");
+        Feature p = this.builder.createWithName(Feature.class, "p");
+        ParameterMembership parameterMembership = this.builder.createIn(ParameterMembership.class, twice);
+        parameterMembership.getOwnedRelatedElement().add(p);
+
+        // Twice(4) has no value until the function has a body
+        InvocationExpression invocation = this.builder.create(InvocationExpression.class);
+        this.builder.setType(invocation, twice);
+        this.addArgument(invocation, this.integer(4));
+        assertTrue(invocation.evaluate(null).isEmpty());
+
+        ResultExpressionMembership resultMembership = this.builder.createIn(ResultExpressionMembership.class, twice);
+        resultMembership.getOwnedRelatedElement().add(this.operator("*", this.reference(p), this.integer(2)));
+        assertEquals(8, ((LiteralInteger) this.single(invocation)).getValue());
+    }
+
+    private Element single(Expression expression) {
+        return this.single(expression, null);
+    }
+
+    private Element single(Expression expression, Element target) {
+        EList<Element> values = expression.evaluate(target);
+        assertEquals(1, values.size());
+        return values.get(0);
+    }
+
+    private LiteralInteger integer(int value) {
+        LiteralInteger literal = this.builder.create(LiteralInteger.class);
+        literal.setValue(value);
+        return literal;
+    }
+
+    private LiteralRational real(double value) {
+        LiteralRational literal = this.builder.create(LiteralRational.class);
+        literal.setValue(value);
+        return literal;
+    }
+
+    private LiteralBoolean bool(boolean value) {
+        LiteralBoolean literal = this.builder.create(LiteralBoolean.class);
+        literal.setValue(value);
+        return literal;
+    }
+
+    private LiteralString string(String value) {
+        LiteralString literal = this.builder.create(LiteralString.class);
+        literal.setValue(value);
+        return literal;
+    }
+
+    private FeatureReferenceExpression reference(Feature referent) {
+        FeatureReferenceExpression expression = this.builder.create(FeatureReferenceExpression.class);
+        Membership membership = this.builder.createIn(Membership.class, expression);
+        membership.setMemberElement(referent);
+        return expression;
+    }
+
+    private OperatorExpression operator(String operator, Expression... arguments) {
+        OperatorExpression expression = this.builder.create(OperatorExpression.class);
+        expression.setOperator(operator);
+        for (Expression argument : arguments) {
+            this.addArgument(expression, argument);
+        }
+        return expression;
+    }
+
+    private void addArgument(InvocationExpression expression, Expression argument) {
+        Feature parameter = this.builder.create(Feature.class);
+        ParameterMembership parameterMembership = this.builder.createIn(ParameterMembership.class, expression);
+        parameterMembership.getOwnedRelatedElement().add(parameter);
+        this.setValue(parameter, argument);
+    }
+
+    private void setValue(Feature feature, Expression value) {
+        FeatureValue featureValue = this.builder.createIn(FeatureValue.class, feature);
+        featureValue.getOwnedRelatedElement().add(value);
+    }
+}
@@ -15,6 +15,9 @@ package org.eclipse.syson.sysml.impl;
 import static org.eclipse.syson.sysml.util.TestUtils.assertContentEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
@@ -25,7 +28,9 @@ import org.eclipse.syson.sysml.Namespace;
 import org.eclipse.syson.sysml.NamespaceImport;
 import org.eclipse.syson.sysml.Package;
 import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.sysml.VisibilityKind;
+import org.eclipse.syson.sysml.helper.ModificationCounts;
 import org.eclipse.syson.sysml.util.ModelBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -492,6 +497,56 @@ public class NamespaceImplTest {
         assertEquals(testModel.p1, testModel.p1.resolveLocal(testModel.p1.getName()).getMemberElement());
     }
 
+    @DisplayName("Test resolveLocal and resolveVisible after a modification of the model")
+    @Test
+    public void resolveAfterModification() {
+        var testModel = new TestModel();
+
+        assertEquals(testModel.def1x1, testModel.p1x1.resolveLocal("def1x1").getMemberElement());
+        assertEquals(testModel.def1x1, testModel.p1x1.resolveVisible("def1x1").getMemberElement());
+
+        testModel.def1x1.setDeclaredName("renamed");
+        assertNull(testModel.p1x1.resolveVisible("def1x1"));
+        assertEquals(testModel.def1x1, testModel.p1x1.resolveVisible("renamed").getMemberElement());
+        assertEquals(testModel.def1x1, testModel.def1x1x1.resolveLocal("renamed").getMemberElement());
+
+        assertNull(testModel.p1x1.resolveLocal("Def2"));
+        NamespaceImport namespaceImport = this.builder.createIn(NamespaceImport.class, testModel.p1x1);
+        namespaceImport.setImportedNamespace(testModel.p2);
+        assertEquals(testModel.def2, testModel.p1x1.resolveLocal("Def2").getMemberElement());
+    }
+
+    @DisplayName("Test that the names indexed by resolveLocal and resolveVisible are kept after an unrelated modification")
+    @Test
+    public void resolveIndexesKeptAfterUnrelatedModification() {
+        var testModel = new TestModel();
+        Object resolveLocalKey = SysmlPackage.eINSTANCE.getNamespace__ResolveLocal__String();
+        Object resolveVisibleKey = SysmlPackage.eINSTANCE.getNamespace__ResolveVisible__String();
+        NamespaceImpl p1x1 = (NamespaceImpl) testModel.p1x1;
+        ModificationCounts counts = ModificationCounts.of(p1x1);
+        String name = testModel.def1x1.getName();
+        assertEquals(testModel.def1x1, p1x1.resolveLocal(name).getMemberElement());
+        assertEquals(testModel.def1x1, p1x1.resolveVisible(name).getMemberElement());
+        Object localIndex = p1x1.getCachedValue(counts.getModificationCount(), resolveLocalKey);
+        Object visibleIndex = p1x1.getCachedValue(counts.getModificationCount(), resolveVisibleKey);
+        assertNotNull(localIndex);
+        assertNotNull(visibleIndex);
+
+        testModel.def1x2.setIsAbstract(true);
+        testModel.def1x1.setIsVariation(true);
+
+        assertEquals(testModel.def1x1, p1x1.resolveLocal(name).getMemberElement());
+        assertEquals(testModel.def1x1, p1x1.resolveVisible(name).getMemberElement());
+        assertSame(localIndex, p1x1.getCachedValue(counts.getModificationCount(), resolveLocalKey));
+        assertSame(visibleIndex, p1x1.getCachedValue(counts.getModificationCount(), resolveVisibleKey));
+
+        testModel.def1x2.setDeclaredName("renamed");
+
+        assertNull(p1x1.getCachedValue(counts.getModificationCount(), resolveLocalKey));
+        assertEquals(testModel.def1x1, p1x1.resolveLocal(name).getMemberElement());
+        assertNotSame(localIndex, p1x1.getCachedValue(counts.getModificationCount(), resolveLocalKey));
+    }
+
     @DisplayName("Test resolveVisible")
     @Test
     public void resolveVisibleTest() {
@@ -582,6 +637,32 @@ public class NamespaceImplTest {
         assertEquals(testModel.def4, testModel.privatedef1x1.resolve(testModel.def4.getQualifiedName()).getMemberElement());
     }
 
+    @DisplayName("Test resolveGlobal after a modification of the resource set")
+    @Test
+    public void resolveGlobalAfterModification() {
+        var testModel = new TestModel();
+
+        assertEquals(testModel.p4, testModel.p1.resolveGlobal("p9").getMemberElement());
+        assertNull(testModel.p1.resolveGlobal("p10"));
+
+        // New resource
+        Namespace root3 = this.builder.createWithName(Namespace.class, null);
+        Package p10 = this.builder.createInWithName(Package.class, root3, "p10");
+        Resource doc3 = new ResourceFactoryImpl().createResource(null);
+        doc3.getContents().add(root3);
+        testModel.context.getResources().add(doc3);
+        assertEquals(p10, testModel.p1.resolveGlobal("p10").getMemberElement());
+
+        // Rename in an existing resource
+        testModel.p4.setDeclaredName("p11");
+        assertNull(testModel.p1.resolveGlobal("p9"));
+        assertEquals(testModel.p4, testModel.p1.resolveGlobal("p11").getMemberElement());
+
+        // Removed resource
+        testModel.context.getResources().remove(doc3);
+        assertNull(testModel.p1.resolveGlobal("p10"));
+    }
+
     @DisplayName("Test unqualifiedNameOf")
     @Test
     public void unqualifiedNameOfTest() {
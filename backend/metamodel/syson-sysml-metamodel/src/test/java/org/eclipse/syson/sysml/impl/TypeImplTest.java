@@ -13,8 +13,15 @@
 package org.eclipse.syson.sysml.impl;
 
 import static org.eclipse.syson.sysml.util.TestUtils.assertContentEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.sysml.AttributeDefinition;
 import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.Namespace;
@@ -241,4 +248,43 @@ public class TypeImplTest {
 
     }
 
+    @DisplayName("Check the supertypes of types, including after a modification of the hierarchy")
+    @Test
+    public void allSupertypesAndSpecializes() {
+        var testModel = new TestModel();
+
+        assertContentEquals(testModel.subDef.allSupertypes(), testModel.subDef, testModel.superDef, testModel.superSuperDef, testModel.megaDef);
+        assertContentEquals(testModel.megaDef.allSupertypes(), testModel.megaDef);
+        assertTrue(testModel.subDef.specializes(testModel.megaDef));
+        assertTrue(testModel.subDef.specializes(testModel.subDef));
+        assertFalse(testModel.megaDef.specializes(testModel.subDef));
+        // The type of attr1 is a supertype of attr1
+        assertTrue(testModel.attr1.specializes(testModel.attrDef1));
+        assertFalse(testModel.attr0.specializes(testModel.attrDef1));
+
+        // Loop in the hierarchy
+        this.builder.addSuperType(testModel.megaDef, testModel.subDef);
+        assertTrue(testModel.megaDef.specializes(testModel.subDef));
+        assertContentEquals(testModel.superDef.allSupertypes(), testModel.superDef, testModel.superSuperDef, testModel.megaDef, testModel.subDef);
+
+        // Removal of a specialization
+        EcoreUtil.delete(testModel.superDef.getOwnedSpecialization().get(0));
+        assertFalse(testModel.subDef.specializes(testModel.megaDef));
+        assertContentEquals(testModel.subDef.allSupertypes(), testModel.subDef, testModel.superDef);
+        assertTrue(testModel.megaDef.specializes(testModel.superDef));
+    }
+
+    @DisplayName("Check that a type specializes a type resolved in the global scope")
+    @Test
+    public void specializesFromLibrary() {
+        var testModel = new TestModel();
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(testModel.root);
+        resourceSet.getResources().add(resource);
+
+        assertTrue(testModel.subDef.specializesFromLibrary("p1::megaDef"));
+        assertFalse(testModel.megaDef.specializesFromLibrary("p1::SubDef"));
+        assertFalse(testModel.subDef.specializesFromLibrary("p1::unknown"));
+    }
 }
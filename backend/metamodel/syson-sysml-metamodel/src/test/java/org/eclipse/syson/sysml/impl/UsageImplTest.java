@@ -14,8 +14,17 @@ package org.eclipse.syson.sysml.impl;
 
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
 import org.eclipse.syson.sysml.Usage;
 import org.eclipse.syson.sysml.VariantMembership;
 import org.eclipse.syson.sysml.util.ModelBuilder;
@@ -89,4 +98,41 @@ public class UsageImplTest {
         assertEquals("u", usage.getShortName());
     }
 
+    @Test
+    public void getNestedUsagesByKind() {
+        PartUsage part = this.builder.createWithName(PartUsage.class, "part");
+        PartUsage nestedPart = this.builder.createInWithName(PartUsage.class, part, "nestedPart");
+        AttributeUsage nestedAttribute = this.builder.createInWithName(AttributeUsage.class, part, "nestedAttribute");
+        PortUsage nestedPort = this.builder.createInWithName(PortUsage.class, part, "nestedPort");
+
+        assertEquals(List.of(nestedPart), part.getNestedPart());
+        assertEquals(List.of(nestedPart), part.getNestedItem());
+        assertEquals(List.of(nestedPart, nestedPort), part.getNestedOccurrence());
+        assertEquals(List.of(nestedAttribute), part.getNestedAttribute());
+        assertEquals(List.of(nestedPort), part.getNestedPort());
+        assertEquals(List.of(nestedPart, nestedAttribute, nestedPort), part.getNestedUsage());
+        assertTrue(part.getNestedAction().isEmpty());
+
+        // Added usage
+        PartUsage otherPart = this.builder.createInWithName(PartUsage.class, part, "otherPart");
+        assertEquals(List.of(nestedPart, otherPart), part.getNestedPart());
+
+        // Usage moved to another membership of the same owner
+        FeatureMembership membership = this.builder.createIn(FeatureMembership.class, part);
+        membership.getOwnedRelatedElement().add(nestedPart);
+        assertEquals(List.of(otherPart, nestedPart), part.getNestedPart());
+
+        // Removed usage
+        EcoreUtil.remove(otherPart.getOwningMembership());
+        assertEquals(List.of(nestedPart), part.getNestedPart());
+
+        // The same partition is used by definitions
+        PartDefinition definition = this.builder.createWithName(PartDefinition.class, "Definition");
+        PartUsage ownedPart = this.builder.createInWithName(PartUsage.class, definition, "ownedPart");
+        assertEquals(List.of(ownedPart), definition.getOwnedPart());
+        assertEquals(List.of(ownedPart), definition.getOwnedUsage());
+        assertTrue(definition.getOwnedAttribute().isEmpty());
+        nestedAttribute.getOwningMembership().getOwnedRelatedElement().clear();
+        assertTrue(part.getNestedAttribute().isEmpty());
+    }
 }
@@ -13,6 +13,8 @@
 package org.eclipse.syson.sysml.metamodel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
 
@@ -21,8 +23,12 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.syson.sysml.Classifier;
 import org.eclipse.syson.sysml.LibraryPackage;
 import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
 import org.eclipse.syson.sysml.SysmlFactory;
 import org.eclipse.syson.sysml.util.ElementUtil;
+import org.eclipse.syson.sysml.util.ModelBuilder;
 import org.eclipse.syson.sysml.util.SysmlResourceImpl;
 import org.junit.jupiter.api.Test;
 
@@ -74,4 +80,35 @@ public class ElementUtilTest {
         String anythingUUID = anything.getElementId();
         assertEquals("d5b4e7df-e644-5f2f-b95e-cf6f1f6c076d", anythingUUID);
     }
+
+    @Test
+    void testIsFromLibrary() {
+        ModelBuilder builder = new ModelBuilder();
+        LibraryPackage library = builder.createWithName(LibraryPackage.class, "Library");
+        Package pack = builder.createInWithName(Package.class, library, "Package");
+        PartDefinition partDefinition = builder.createInWithName(PartDefinition.class, pack, "PartDefinition");
+        PartUsage partUsage = builder.createInWithName(PartUsage.class, partDefinition, "partUsage");
+        assertTrue(ElementUtil.isFromLibrary(partUsage, false));
+        assertTrue(partUsage.isIsLibraryElement());
+        assertFalse(ElementUtil.isFromStandardLibrary(partUsage));
+
+        library.setIsStandard(true);
+        assertTrue(ElementUtil.isFromStandardLibrary(partUsage));
+        assertTrue(ElementUtil.isFromStandardLibrary(pack));
+
+        // Moving an element out of the library changes the classification of its subtree
+        Package root = builder.createWithName(Package.class, "Root");
+        root.getOwnedRelationship().add(pack.getOwningMembership());
+        assertFalse(partUsage.isIsLibraryElement());
+        assertFalse(ElementUtil.isFromStandardLibrary(partDefinition));
+        assertTrue(library.isIsLibraryElement());
+
+        // The nearest library package gives the classification
+        LibraryPackage otherLibrary = builder.createInWithName(LibraryPackage.class, library, "OtherLibrary");
+        otherLibrary.getOwnedRelationship().add(pack.getOwningMembership());
+        assertTrue(partUsage.isIsLibraryElement());
+        assertFalse(ElementUtil.isFromStandardLibrary(partUsage));
+        assertEquals(otherLibrary, partUsage.libraryNamespace());
+        assertEquals(otherLibrary, partUsage.getOwningMembership().libraryNamespace());
+    }
 }
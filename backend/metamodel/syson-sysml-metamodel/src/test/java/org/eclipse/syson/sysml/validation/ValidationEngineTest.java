@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.sysml.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.AttributeDefinition;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.LiteralInteger;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.MultiplicityRange;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ValidationEngine}, {@link SysmlEValidator} and {@link SysmlValidationRules}.
+ *
+ * @author Arthur Daussy
+ */
+public class ValidationEngineTest {
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private Package root;
+
+    private ValidationEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        this.root = this.builder.createWithName(Package.class, "Root");
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resourceSet.getResources().add(resource);
+        resource.getContents().add(this.root);
+        this.engine = ValidationEngine.createDefault();
+        resourceSet.eAdapters().add(this.engine);
+    }
+
+    @Test
+    public void isDistinguishableFrom() {
+        PartDefinition def1 = this.builder.createInWithName(PartDefinition.class, this.root, "A");
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.root, "A");
+        AttributeDefinition def3 = this.builder.createInWithName(AttributeDefinition.class, this.root, "A");
+        Membership membership1 = def1.getOwningMembership();
+
+        assertFalse(membership1.isDistinguishableFrom(def2.getOwningMembership()));
+        // Unrelated kinds of elements are distinguishable
+        assertTrue(membership1.isDistinguishableFrom(def3.getOwningMembership()));
+        def2.setDeclaredShortName("A");
+        def2.setDeclaredName("B");
+        assertFalse(membership1.isDistinguishableFrom(def2.getOwningMembership()));
+        def2.setDeclaredShortName(null);
+        assertTrue(membership1.isDistinguishableFrom(def2.getOwningMembership()));
+    }
+
+    @Test
+    public void validateDistinguishability() {
+        this.builder.createInWithName(PartDefinition.class, this.root, "A");
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.root, "A");
+
+        this.assertDiagnostics(this.root, SysmlValidationRules.NAMESPACE_DISTINGUISHABILITY);
+
+        def2.setDeclaredName("B");
+        this.assertDiagnostics(this.root);
+    }
+
+    @Test
+    public void validateMultiplicityBounds() {
+        PartUsage part = this.builder.createInWithName(PartUsage.class, this.root, "part");
+        MultiplicityRange range = this.builder.addIntMutiplicityRange(part, 5);
+        LiteralInteger upperBound = this.builder.create(LiteralInteger.class);
+        upperBound.setValue(2);
+        this.builder.createIn(OwningMembership.class, range).getOwnedRelatedElement().add(upperBound);
+
+        this.assertDiagnostics(range, SysmlValidationRules.MULTIPLICITY_BOUNDS);
+
+        // The modification of a bound checks the range again
+        upperBound.setValue(8);
+        this.assertDiagnostics(range);
+    }
+
+    @Test
+    public void validateUsageTyping() {
+        PartDefinition partDefinition = this.builder.createInWithName(PartDefinition.class, this.root, "PartDef");
+        AttributeDefinition attributeDefinition = this.builder.createInWithName(AttributeDefinition.class, this.root, "AttributeDef");
+        AttributeUsage attribute = this.builder.createInWithName(AttributeUsage.class, partDefinition, "attribute");
+        PartUsage part = this.builder.createInWithName(PartUsage.class, partDefinition, "part");
+        this.builder.setType(attribute, partDefinition);
+        this.builder.setType(part, partDefinition);
+
+        this.assertDiagnostics(attribute, SysmlValidationRules.USAGE_TYPING);
+        this.assertDiagnostics(part);
+
+        attribute.getOwnedTyping().get(0).setType(attributeDefinition);
+        this.assertDiagnostics(attribute);
+    }
+
+    @Test
+    public void validateSubsettings() {
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, this.root, "Def");
+        PartUsage part1 = this.builder.createInWithName(PartUsage.class, definition, "part1");
+        PartUsage part2 = this.builder.createInWithName(PartUsage.class, definition, "part2");
+        PartUsage part3 = this.builder.createInWithName(PartUsage.class, definition, "part3");
+        this.builder.addRedefinition(part2, part1);
+        this.builder.addSubsetting(part3, part1);
+        this.builder.addIntMutiplicityRange(part3, 4);
+        MultiplicityRange range = this.builder.addIntMutiplicityRange(part1, 2);
+
+        this.assertDiagnostics(part2, SysmlValidationRules.REDEFINITION_FEATURING_TYPE);
+        this.assertDiagnostics(part3, SysmlValidationRules.SUBSETTING_MULTIPLICITY);
+
+        // The modification of the multiplicity of the subsetted feature checks the subsetting feature again
+        ((LiteralInteger) range.getUpperBound()).setValue(4);
+        this.assertDiagnostics(part3);
+    }
+
+    @Test
+    public void validateIncrementally() {
+        AtomicInteger checkCount = new AtomicInteger();
+        this.engine.addRule(SysmlPackage.eINSTANCE.getElement(), (element, diagnostics) -> checkCount.incrementAndGet());
+        Package pack1 = this.builder.createInWithName(Package.class, this.root, "Pack1");
+        Package pack2 = this.builder.createInWithName(Package.class, this.root, "Pack2");
+        for (int i = 0; i < 10; i++) {
+            this.builder.createInWithName(PartDefinition.class, pack1, "Def" + i);
+            this.builder.createInWithName(PartDefinition.class, pack2, "Def" + i);
+        }
+        this.engine.validate();
+        assertTrue(checkCount.get() > 40);
+
+        checkCount.set(0);
+        PartDefinition def = (PartDefinition) pack1.getOwnedMember().get(0);
+        def.setDeclaredName("Def1");
+        this.engine.validate();
+        // The definition, its membership, the package, its membership and the root
+        assertEquals(5, checkCount.get());
+        assertEquals(1, this.engine.getDiagnostics(pack1).size());
+
+        checkCount.set(0);
+        EcoreUtil.remove(pack1.getOwningMembership());
+        this.engine.validate();
+        assertEquals(List.of(), this.engine.getDiagnostics(pack1));
+        assertEquals(1, checkCount.get());
+    }
+
+    @Test
+    public void resolveProxiesBeforeCheckingInParallel() {
+        // The proxies are resolved in the resource set with the URIs of the resources
+        this.root.eResource().setURI(URI.createURI("test:///model"));
+        ResourceSet resourceSet = this.root.eResource().getResourceSet();
+        Package library = this.builder.createWithName(Package.class, "Lib");
+        PartDefinition definition = this.builder.createInWithName(PartDefinition.class, library, "Def");
+        Resource libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///lib"));
+        libraryResource.getContents().add(library);
+        resourceSet.getResources().add(libraryResource);
+        // More attributes than a partition, typed by a part definition of the library
+        for (int i = 0; i < 1000; i++) {
+            AttributeUsage attribute = this.builder.createInWithName(AttributeUsage.class, this.root, "attribute" + i);
+            this.builder.setType(attribute, definition);
+        }
+        // The library is reloaded, the typings now reference proxies
+        Package libraryCopy = EcoreUtil.copy(library);
+        libraryResource.unload();
+        resourceSet.getResources().remove(libraryResource);
+        Resource reloadedLibraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///lib"));
+        reloadedLibraryResource.getContents().add(libraryCopy);
+        resourceSet.getResources().add(reloadedLibraryResource);
+
+        // The typings are checked for proxies before the rule of the usages, which would resolve them
+        AtomicInteger proxyCount = new AtomicInteger();
+        resourceSet.eAdapters().remove(this.engine);
+        this.engine = new ValidationEngine();
+        this.engine.addRule(SysmlPackage.eINSTANCE.getAttributeUsage(), (element, diagnostics) -> {
+            for (FeatureTyping typing : ((AttributeUsage) element).getOwnedTyping()) {
+                if (((EObject) typing.eGet(SysmlPackage.eINSTANCE.getFeatureTyping_Type(), false)).eIsProxy()) {
+                    proxyCount.incrementAndGet();
+                }
+            }
+        });
+        this.engine.addRule(SysmlPackage.eINSTANCE.getUsage(), SysmlValidationRules::validateUsageTyping);
+        resourceSet.eAdapters().add(this.engine);
+
+        Diagnostic diagnostic = this.engine.validate();
+        assertEquals(0, proxyCount.get());
+        assertEquals(1000, diagnostic.getChildren().stream().filter(child -> child.getCode() == SysmlValidationRules.USAGE_TYPING).count());
+        AttributeUsage attribute = (AttributeUsage) this.root.getOwnedMember().get(0);
+        assertEquals(reloadedLibraryResource, attribute.getOwnedTyping().get(0).getType().eResource());
+    }
+
+    @Test
+    public void validateWithDiagnostician() {
+        this.builder.createInWithName(PartDefinition.class, this.root, "A");
+        PartDefinition def2 = this.builder.createInWithName(PartDefinition.class, this.root, "A");
+        EValidator.Registry registry = new EValidatorRegistryImpl();
+        registry.put(SysmlPackage.eINSTANCE, new SysmlEValidator());
+        Diagnostician diagnostician = new Diagnostician(registry);
+
+        Diagnostic diagnostic = diagnostician.validate(this.root);
+        assertEquals(Diagnostic.WARNING, diagnostic.getSeverity());
+        assertEquals(List.of(SysmlValidationRules.NAMESPACE_DISTINGUISHABILITY), diagnostic.getChildren().stream().map(Diagnostic::getCode).toList());
+
+        def2.setDeclaredName("B");
+        assertEquals(Diagnostic.OK, diagnostician.validate(this.root).getSeverity());
+    }
+
+    private void assertDiagnostics(Element element, Integer... codes) {
+        Diagnostic diagnostic = this.engine.validate();
+        List<Integer> actualCodes = this.engine.getDiagnostics(element).stream().map(Diagnostic::getCode).toList();
+        assertEquals(List.of(codes), actualCodes);
+        assertEquals(codes.length > 0, diagnostic.getChildren().stream().anyMatch(child -> child.getData().get(0) == element));
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.syson.sysml.Dependency;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Membership;
 import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.util.SysONEContentAdapter;
 
 /**
  * Deletion-related Java services used by SysON representations.
@@ -50,7 +51,7 @@ public class DeleteService {
         this.collectRelatedElements(element, relatedElements);
         element.eAllContents().forEachRemaining(eObject -> this.collectRelatedElements(eObject, relatedElements));
         elementsToDelete.addAll(relatedElements);
-        EcoreUtil.removeAll(elementsToDelete);
+        SysONEContentAdapter.runBulkEdit(element, () -> EcoreUtil.removeAll(elementsToDelete));
         return element;
     }
 
@@ -44,7 +44,9 @@ import org.eclipse.syson.sysml.TransitionFeatureMembership;
 import org.eclipse.syson.sysml.TransitionUsage;
 import org.eclipse.syson.sysml.Type;
 import org.eclipse.syson.sysml.Usage;
+import org.eclipse.syson.sysml.helper.LibrarySymbolTable.Symbol;
 import org.eclipse.syson.sysml.helper.NameHelper;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
 import org.eclipse.syson.util.SysMLMetamodelHelper;
 import org.eclipse.syson.util.SysONEContentAdapter;
 
@@ -128,7 +130,7 @@ public class UtilService {
 
     /**
      * Get all reachable elements of the type given by the {@link EClass} in the {@link ResourceSet} of the given
-     * {@link EObject}.
+     * {@link EObject}, including the elements of its standard libraries.
      *
      * @param eObject
      *            the {@link EObject} stored in a {@link ResourceSet}
@@ -138,9 +140,20 @@ public class UtilService {
      */
     public List<EObject> getAllReachable(EObject eObject, EClass eClass) {
         List<EObject> allReachable = null;
+        List<Element> libraryElements = List.of();
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            SharedLibraries sharedLibraries = SharedLibraries.getSharedLibraries(resource.getResourceSet());
+            if (sharedLibraries != null) {
+                // Reads the pending libraries containing elements of the class, they are then in the cache too
+                libraryElements = sharedLibraries.getElements(eClass);
+            }
+        }
         Adapter adapter = EcoreUtil.getAdapter(eObject.eAdapters(), SysONEContentAdapter.class);
         if (adapter instanceof SysONEContentAdapter cacheAdapter) {
             allReachable = cacheAdapter.getCache().get(eClass);
+        } else if (!libraryElements.isEmpty()) {
+            allReachable = List.copyOf(libraryElements);
         }
         if (allReachable == null) {
             allReachable = List.of();
@@ -175,7 +188,9 @@ public class UtilService {
     }
 
     /**
-     * Find an {@link Element} that match the given name and type in the ResourceSet of the given element.
+     * Find an {@link Element} that match the given name and type in the ResourceSet of the given element. The elements
+     * of the standard libraries of the ResourceSet are found with their symbols, only the library of the
+     * found element is read.
      *
      * @param object
      *            the object for which to find a corresponding type.
@@ -186,7 +201,13 @@ public class UtilService {
      * @return the found element or <code>null</code>.
      */
     public <T extends Element> T findByNameAndType(EObject object, String elementName, Class<T> elementType) {
-        final T result = this.findByNameAndType(this.getAllRootsInResourceSet(object), elementName, elementType);
+        T result = this.findByNameAndType(this.getAllRootsInResourceSet(object), elementName, elementType);
+        if (result == null && object.eResource() != null && object.eResource().getResourceSet() != null) {
+            SharedLibraries sharedLibraries = SharedLibraries.getSharedLibraries(object.eResource().getResourceSet());
+            if (sharedLibraries != null) {
+                result = this.findLibraryElementByNameAndType(sharedLibraries, elementName, elementType);
+            }
+        }
         return result;
     }
 
@@ -301,7 +322,45 @@ public class UtilService {
     }
 
     /**
-     * Retrieves all the root elements of the resource in the resource set of the given context object.
+     * Find the element of the given libraries with the given name and type, using their symbols.
+     *
+     * @param sharedLibraries
+     *            the libraries of the resource set.
+     * @param elementName
+     *            the name or qualified name to match.
+     * @param elementType
+     *            the type to match.
+     * @return the found element or <code>null</code>.
+     */
+    private <T extends Element> T findLibraryElementByNameAndType(SharedLibraries sharedLibraries, String elementName, Class<T> elementType) {
+        String name = elementName.strip();
+        List<Symbol> symbols;
+        if (name.contains("::")) {
+            symbols = sharedLibraries.getSymbolTable().getSymbolsByQualifiedName(name);
+        } else {
+            symbols = sharedLibraries.getSymbolTable().getSymbolsByName(name);
+            if (symbols.isEmpty() && name.length() > 1 && name.charAt(0) == '\'' && name.charAt(name.length() - 1) == '\'') {
+                // We give the option to quote names, but the quotes aren't part of the model.
+                symbols = sharedLibraries.getSymbolTable().getSymbolsByName(name.substring(1, name.length() - 1));
+            }
+        }
+        T element = null;
+        Optional<Symbol> symbol = symbols.stream()
+                .filter(candidate -> elementType.isAssignableFrom(candidate.eClass().getInstanceClass()))
+                .findFirst();
+        if (symbol.isPresent()) {
+            EObject libraryElement = sharedLibraries.getElement(symbol.get());
+            if (elementType.isInstance(libraryElement)) {
+                element = elementType.cast(libraryElement);
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves all the root elements of the resource in the resource set of the given context object. The standard
+     * libraries of the resource set are not included, their elements are found with their symbols (see
+     * {@link SharedLibraries}).
      *
      * @param context
      *            the context object on which to execute this service.
@@ -312,7 +371,9 @@ public class UtilService {
         if (res != null && res.getResourceSet() != null) {
             final Collection<EObject> roots = new ArrayList<>();
             for (final Resource childRes : res.getResourceSet().getResources()) {
-                roots.addAll(childRes.getContents());
+                if (!SharedLibraries.isLibrary(childRes)) {
+                    roots.addAll(childRes.getContents());
+                }
             }
             return roots;
         }
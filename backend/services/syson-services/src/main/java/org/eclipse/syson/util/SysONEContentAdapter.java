@@ -14,18 +14,43 @@ package org.eclipse.syson.util;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.BasicNotifierImpl.EObservableAdapterList;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.Membership;
 
 /**
- * EContentAdapter for SysON. Allow to cache SysML elements by their type.
+ * EContentAdapter for SysON. Allow to cache SysML elements by their type and to find SysML elements by their
+ * identifier.
+ *
+ * <p>
+ * The elements are indexed by the identifier given by their {@link IDAdapter}, which is the identifier used by Sirius
+ * to find them, and not by their SysML element identifier. The index is updated as soon as elements are added or
+ * removed, it can be read concurrently. The elements which do not have an {@link IDAdapter} yet when they are added
+ * (e.g. the elements created since the last save of the models) are indexed as soon as their {@link IDAdapter} is
+ * attached.
+ * </p>
+ * <p>
+ * Bulk edits (e.g. the deletion of a large package or the import of a document) should be performed with
+ * {@link #runBulkEdit(IEditingContext, Runnable)} or {@link #runBulkEdit(Notifier, Runnable)}: the elements added to or
+ * removed from the models during a bulk edit are queued, and the cache is updated in a single pass at the end of the
+ * bulk edit instead of once per element.
+ * </p>
  *
  * @author arichard
  */
@@ -33,35 +58,120 @@ public class SysONEContentAdapter extends EContentAdapter {
 
     private final Map<EClass, List<EObject>> cache = new HashMap<>();
 
+    private final Map<String, Element> elementsById = new ConcurrentHashMap<>();
+
+    private final EObservableAdapterList.Listener idAdapterListener = new IDAdapterListener();
+
+    private final Set<EObject> pendingAdditions = new LinkedHashSet<>();
+
+    private final Set<EObject> pendingRemovals = new HashSet<>();
+
+    private int bulkEditDepth;
+
+    /**
+     * Runs the given edit of the models of the given editing context in a bulk edit of its
+     * {@link SysONEContentAdapter}, or directly if it has no such adapter.
+     *
+     * @param editingContext
+     *            the editing context
+     * @param edit
+     *            the edit of the models
+     */
+    public static void runBulkEdit(IEditingContext editingContext, Runnable edit) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            runBulkEdit(emfEditingContext.getDomain().getResourceSet(), edit);
+        } else {
+            edit.run();
+        }
+    }
+
+    /**
+     * Runs the given edit of the models in a bulk edit of the {@link SysONEContentAdapter} of the given notifier (e.g.
+     * the resource set of the models or one of their elements), or directly if it has no such adapter.
+     *
+     * @param notifier
+     *            the resource set, resource or element adapted by the {@link SysONEContentAdapter}
+     * @param edit
+     *            the edit of the models
+     */
+    public static void runBulkEdit(Notifier notifier, Runnable edit) {
+        Adapter adapter = EcoreUtil.getAdapter(notifier.eAdapters(), SysONEContentAdapter.class);
+        if (adapter instanceof SysONEContentAdapter contentAdapter) {
+            contentAdapter.runBulkEdit(edit);
+        } else {
+            edit.run();
+        }
+    }
+
     public Map<EClass, List<EObject>> getCache() {
         return this.cache;
     }
 
+    /**
+     * Returns the element with the given identifier in the notifiers adapted by this adapter.
+     *
+     * @param id
+     *            the identifier of the {@link IDAdapter} of an element
+     * @return the element, or <code>null</code> if there is no such element
+     */
+    public Element getElement(String id) {
+        Element element = null;
+        if (id != null) {
+            element = this.elementsById.get(id);
+        }
+        return element;
+    }
+
+    /**
+     * Runs the given edit of the models, the cache being updated once at the end of the edit. Bulk edits can be
+     * nested, the cache is updated at the end of the outermost one.
+     *
+     * @param edit
+     *            the edit of the models
+     */
+    public void runBulkEdit(Runnable edit) {
+        this.bulkEditDepth++;
+        try {
+            edit.run();
+        } finally {
+            this.bulkEditDepth--;
+            if (this.bulkEditDepth == 0) {
+                this.applyPendingChanges();
+            }
+        }
+    }
+
     @Override
     protected void addAdapter(Notifier notifier) {
         super.addAdapter(notifier);
+        if (notifier instanceof Element element && !this.index(element) && element.eAdapters() instanceof EObservableAdapterList adapters) {
+            // The listener is removed first in case the element is adapted again without having been removed
+            adapters.removeListener(this.idAdapterListener);
+            adapters.addListener(this.idAdapterListener);
+        }
         if (notifier instanceof Element element && !(notifier instanceof Membership)) {
-            EClass eClass = element.eClass();
-            List<EObject> value;
-            if (this.cache.containsKey(eClass)) {
-                value = this.cache.get(eClass);
+            if (this.bulkEditDepth > 0) {
+                this.pendingAdditions.add(element);
             } else {
-                value = new ArrayList<>();
+                this.addToCache(element);
             }
-            value.add(element);
-            this.cache.put(eClass, value);
         }
     }
 
     @Override
     protected void removeAdapter(Notifier notifier) {
+        if (notifier instanceof Element element) {
+            this.unindex(element);
+        }
         if (notifier instanceof Element element && !(notifier instanceof Membership)) {
-            EClass eClass = element.eClass();
-            List<EObject> value;
-            if (this.cache.containsKey(eClass)) {
-                value = this.cache.get(eClass);
-                value.remove(element);
-                this.cache.put(eClass, value);
+            if (this.bulkEditDepth > 0) {
+                this.pendingAdditions.remove(element);
+                this.pendingRemovals.add(element);
+            } else {
+                List<EObject> value = this.cache.get(element.eClass());
+                if (value != null) {
+                    value.remove(element);
+                }
             }
         }
         super.removeAdapter(notifier);
@@ -71,4 +181,77 @@ public class SysONEContentAdapter extends EContentAdapter {
     public boolean isAdapterForType(Object type) {
         return SysONEContentAdapter.class.equals(type);
     }
+
+    /**
+     * The adapter does not resolve the proxies of the contents it visits, adapting the models must not load the
+     * resources of the packages stored in their own resources.
+     */
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    private boolean index(Element element) {
+        String id = this.getId(element);
+        if (id != null) {
+            this.elementsById.put(id, element);
+        }
+        return id != null;
+    }
+
+    private void unindex(Element element) {
+        if (element.eAdapters() instanceof EObservableAdapterList adapters) {
+            adapters.removeListener(this.idAdapterListener);
+        }
+        String id = this.getId(element);
+        if (id != null) {
+            this.elementsById.remove(id, element);
+        }
+    }
+
+    private String getId(Element element) {
+        String id = null;
+        for (Adapter adapter : element.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter && idAdapter.getId() != null) {
+                id = idAdapter.getId().toString();
+            }
+        }
+        return id;
+    }
+
+    private void addToCache(EObject element) {
+        this.cache.computeIfAbsent(element.eClass(), eClass -> new ArrayList<>()).add(element);
+    }
+
+    private void applyPendingChanges() {
+        if (!this.pendingRemovals.isEmpty()) {
+            this.cache.values().forEach(value -> value.removeIf(this.pendingRemovals::contains));
+            this.pendingRemovals.clear();
+        }
+        // The elements removed then added back during the bulk edit are added at the end of the cache
+        this.pendingAdditions.forEach(this::addToCache);
+        this.pendingAdditions.clear();
+    }
+
+    /**
+     * Indexes the elements which did not have an {@link IDAdapter} when they were added, as soon as one is attached to
+     * them. The listener is only registered on the adapters of such elements.
+     *
+     * @author arichard
+     */
+    private final class IDAdapterListener implements EObservableAdapterList.Listener {
+
+        @Override
+        public void added(Notifier notifier, Adapter adapter) {
+            if (adapter instanceof IDAdapter && notifier instanceof Element element && SysONEContentAdapter.this.index(element)
+                    && element.eAdapters() instanceof EObservableAdapterList adapters) {
+                adapters.removeListener(this);
+            }
+        }
+
+        @Override
+        public void removed(Notifier notifier, Adapter adapter) {
+            // The elements are unindexed when they are removed from the models
+        }
+    }
 }
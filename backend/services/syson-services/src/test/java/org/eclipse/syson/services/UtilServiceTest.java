@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.services;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.helper.SharedLibraries;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the lookups by name of {@link UtilService} in the models and the libraries of a resource set.
+ *
+ * @author arichard
+ */
+public class UtilServiceTest {
+
+    private static final String VEHICLE = "Vehicle";
+
+    private final ModelBuilder builder = new ModelBuilder();
+
+    private final UtilService utilService = new UtilService();
+
+    private PartUsage vehicleUsage;
+
+    private PartDefinition vehicleDefinition;
+
+    private PartDefinition wheelSetDefinition;
+
+    private Package modelPackage;
+
+    /**
+     * Builds a resource set with the following library and model.
+     *
+     * <pre>
+     * package Lib {
+     *     package Usages {
+     *         part Vehicle;
+     *     }
+     *     part def Vehicle;
+     *     part def 'Wheel Set';
+     * }
+     * package Model;
+     * </pre>
+     */
+    @BeforeEach
+    public void setUp() {
+        Namespace libraryRoot = this.builder.create(Namespace.class);
+        Package libraryPackage = this.builder.createInWithName(Package.class, libraryRoot, "Lib");
+        Package usagesPackage = this.builder.createInWithName(Package.class, libraryPackage, "Usages");
+        this.vehicleUsage = this.builder.createInWithName(PartUsage.class, usagesPackage, VEHICLE);
+        this.vehicleDefinition = this.builder.createInWithName(PartDefinition.class, libraryPackage, VEHICLE);
+        this.wheelSetDefinition = this.builder.createInWithName(PartDefinition.class, libraryPackage, "Wheel Set");
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource libraryResource = new ResourceImpl(URI.createURI("sysmllibrary:///lib"));
+        libraryResource.getContents().add(libraryRoot);
+        resourceSet.getResources().add(libraryResource);
+        SharedLibraries.register(resourceSet);
+
+        Namespace modelRoot = this.builder.create(Namespace.class);
+        this.modelPackage = this.builder.createInWithName(Package.class, modelRoot, "Model");
+        Resource modelResource = new ResourceImpl(URI.createURI("test:///model"));
+        modelResource.getContents().add(modelRoot);
+        resourceSet.getResources().add(modelResource);
+    }
+
+    @Test
+    public void findModelElementByNameAndType() {
+        assertSame(this.modelPackage, this.utilService.findByNameAndType(this.modelPackage, "Model", Package.class));
+        assertNull(this.utilService.findByNameAndType(this.modelPackage, "Unknown", Element.class));
+    }
+
+    @Test
+    public void findLibraryElementByQualifiedName() {
+        assertSame(this.vehicleDefinition, this.utilService.findByNameAndType(this.modelPackage, "Lib::Vehicle", PartDefinition.class));
+        assertSame(this.vehicleUsage, this.utilService.findByNameAndType(this.modelPackage, " Lib::Usages::Vehicle ", PartUsage.class));
+        assertNull(this.utilService.findByNameAndType(this.modelPackage, "Lib::Usages::Vehicle", PartDefinition.class));
+    }
+
+    @Test
+    public void findLibraryElementByQuotedName() {
+        assertSame(this.wheelSetDefinition, this.utilService.findByNameAndType(this.modelPackage, "'Wheel Set'", PartDefinition.class));
+        assertSame(this.wheelSetDefinition, this.utilService.findByNameAndType(this.modelPackage, "Wheel Set", PartDefinition.class));
+        assertNull(this.utilService.findByNameAndType(this.modelPackage, "'Wheel Set", PartDefinition.class));
+    }
+
+    @Test
+    public void findLibraryElementByNameFilteredByType() {
+        // The symbols with the same name which do not match the type are skipped
+        assertSame(this.vehicleUsage, this.utilService.findByNameAndType(this.modelPackage, VEHICLE, PartUsage.class));
+        assertSame(this.vehicleDefinition, this.utilService.findByNameAndType(this.modelPackage, VEHICLE, PartDefinition.class));
+        assertSame(this.vehicleDefinition, this.utilService.findByNameAndType(this.modelPackage, VEHICLE, Definition.class));
+        assertNull(this.utilService.findByNameAndType(this.modelPackage, VEHICLE, PortUsage.class));
+    }
+}
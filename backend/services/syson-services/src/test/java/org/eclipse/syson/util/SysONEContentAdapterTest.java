@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartDefinition;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.eclipse.syson.sysml.util.ModelBuilder;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache and the index of {@link SysONEContentAdapter}.
+ *
+ * @author arichard
+ */
+public class SysONEContentAdapterTest {
+
+    @Test
+    public void testBulkEdit() {
+        ModelBuilder builder = new ModelBuilder();
+        Package root = builder.createWithName(Package.class, "Root");
+        Package pack1 = builder.createInWithName(Package.class, root, "Pack1");
+        PartDefinition def1 = builder.createInWithName(PartDefinition.class, pack1, "Def1");
+        PartDefinition def2 = builder.createInWithName(PartDefinition.class, root, "Def2");
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        SysONEContentAdapter adapter = new SysONEContentAdapter();
+        resource.eAdapters().add(adapter);
+        assertEquals(List.of(def1, def2), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+
+        OwningMembership pack1Membership = pack1.getOwningMembership();
+        adapter.runBulkEdit(() -> {
+            EcoreUtil.remove(pack1Membership);
+            PartDefinition def3 = builder.createInWithName(PartDefinition.class, root, "Def3");
+            // The cache is only updated at the end of the bulk edit
+            assertEquals(List.of(def1, def2), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+            adapter.runBulkEdit(() -> EcoreUtil.remove(def3.getOwningMembership()));
+            assertEquals(List.of(def1, def2), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+        });
+        assertEquals(List.of(def2), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+        assertEquals(List.of(root), adapter.getCache().get(SysmlPackage.eINSTANCE.getPackage()));
+
+
+        adapter.runBulkEdit(() -> {
+            root.getOwnedRelationship().add(pack1Membership);
+            // A deleted element added back
+            EcoreUtil.remove(def2.getOwningMembership());
+            pack1.getOwnedRelationship().add(def2.getOwningMembership());
+        });
+        assertEquals(List.of(def1, def2), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+    }
+
+    @Test
+    public void testBulkEditOfResourceSet() {
+        ModelBuilder builder = new ModelBuilder();
+        Package root = builder.createWithName(Package.class, "Root");
+        PartDefinition def = builder.createInWithName(PartDefinition.class, root, "Def");
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        SysONEContentAdapter adapter = new SysONEContentAdapter();
+        resourceSet.eAdapters().add(adapter);
+
+        SysONEContentAdapter.runBulkEdit(resourceSet, () -> {
+            resourceSet.getResources().add(resource);
+            // The cache is only updated at the end of the bulk edit
+            assertNull(adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+        });
+        assertEquals(List.of(def), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+
+        // Without adapter, the edit is run directly
+        SysONEContentAdapter.runBulkEdit(new ResourceSetImpl(), () -> EcoreUtil.remove(def.getOwningMembership()));
+        assertEquals(List.of(), adapter.getCache().get(SysmlPackage.eINSTANCE.getPartDefinition()));
+    }
+
+    @Test
+    public void testGetElement() {
+        ModelBuilder builder = new ModelBuilder();
+        Package root = builder.createWithName(Package.class, "Root");
+        PartDefinition def = builder.createInWithName(PartDefinition.class, root, "Def");
+        UUID defId = UUID.randomUUID();
+        def.eAdapters().add(new IDAdapter(defId));
+        UUID membershipId = UUID.randomUUID();
+        def.getOwningMembership().eAdapters().add(new IDAdapter(membershipId));
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(root);
+        SysONEContentAdapter adapter = new SysONEContentAdapter();
+        resource.eAdapters().add(adapter);
+
+        // The elements are found by their Sirius identifier, not by their SysML identifier
+        assertEquals(def, adapter.getElement(defId.toString()));
+        assertEquals(def.getOwningMembership(), adapter.getElement(membershipId.toString()));
+        assertNull(adapter.getElement(def.getElementId()));
+        assertNull(adapter.getElement(null));
+
+        // An element identified after its addition
+        PartDefinition def2 = builder.createInWithName(PartDefinition.class, root, "Def2");
+        UUID def2Id = UUID.randomUUID();
+        def2.eAdapters().add(new IDAdapter(def2Id));
+        assertEquals(def2, adapter.getElement(def2Id.toString()));
+
+        EcoreUtil.remove(def.getOwningMembership());
+        assertNull(adapter.getElement(defId.toString()));
+
+        // An element removed before being identified is not indexed
+        PartDefinition def3 = builder.createInWithName(PartDefinition.class, root, "Def3");
+        EcoreUtil.remove(def3.getOwningMembership());
+        UUID def3Id = UUID.randomUUID();
+        def3.eAdapters().add(new IDAdapter(def3Id));
+        assertNull(adapter.getElement(def3Id.toString()));
+    }
+}
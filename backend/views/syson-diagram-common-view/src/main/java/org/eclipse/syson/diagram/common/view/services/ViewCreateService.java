@@ -52,7 +52,6 @@ import org.eclipse.syson.sysml.RequirementConstraintKind;
 import org.eclipse.syson.sysml.RequirementConstraintMembership;
 import org.eclipse.syson.sysml.RequirementDefinition;
 import org.eclipse.syson.sysml.RequirementUsage;
-import org.eclipse.syson.sysml.Specialization;
 import org.eclipse.syson.sysml.StateDefinition;
 import org.eclipse.syson.sysml.StateSubactionMembership;
 import org.eclipse.syson.sysml.StateUsage;
@@ -423,26 +422,10 @@ public class ViewCreateService {
     }
 
     private List<Type> getSpecializationTypeHierarchy(Type type) {
-        List<Type> specializationTypeHierarchy = new ArrayList<>();
-        this.getSpecializationTypeHierarchy(type, specializationTypeHierarchy);
-        return specializationTypeHierarchy;
-    }
-
-    private void getSpecializationTypeHierarchy(Type type, List<Type> specializationTypeHierarchy) {
-        if (type != null) {
-            List<Type> specializationTypes = new ArrayList<>();
-            type.getOwnedSpecialization().stream()
-                    .map(Specialization::getGeneral)
-                    .forEach(general -> {
-                        if (general != null && !specializationTypeHierarchy.contains(general) && !specializationTypes.contains(general)) {
-                            specializationTypes.add(general);
-                            specializationTypeHierarchy.add(general);
-                        }
-                    });
-            specializationTypes.forEach(speType -> {
-                this.getSpecializationTypeHierarchy(speType, specializationTypeHierarchy);
-            });
-        }
+        // allSupertypes starts with the type itself
+        return type.allSupertypes().stream()
+                .skip(1)
+                .toList();
     }
 
     private Package getClosestContainingPackageFrom(Element element) {